@@ -1,19 +1,14 @@
 package com.crime.reporting.crime_reporting_backend.config;
 
-import com.crime.reporting.crime_reporting_backend.entity.Evidence;
 import com.crime.reporting.crime_reporting_backend.entity.EvidenceType;
 import com.crime.reporting.crime_reporting_backend.repository.EvidenceRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
@@ -22,9 +17,6 @@ public class EvidenceInitializer {
     
     private final EvidenceRepository evidenceRepository;
     
-    @PersistenceContext
-    private EntityManager entityManager;
-    
     @Bean
     public CommandLineRunner initializeEvidence() {
         return args -> {
@@ -32,40 +24,19 @@ public class EvidenceInitializer {
         };
     }
     
-    @Transactional
     public void fixNullEvidenceValues() {
         log.info("Checking for evidence records with null values...");
         
-        // Get all evidence records with null evidence_type or upload_date
-        List<Evidence> evidencesToUpdate = entityManager.createQuery(
-                "SELECT e FROM Evidence e WHERE e.evidenceType IS NULL OR e.uploadDate IS NULL", 
-                Evidence.class)
-                .getResultList();
+        // Set-based updates: no rows are loaded and nothing is written back one by one
+        int typesFixed = evidenceRepository.fillMissingEvidenceType(EvidenceType.OTHER);
+        int datesFixed = evidenceRepository.fillMissingUploadDate(LocalDateTime.now());
         
-        if (evidencesToUpdate.isEmpty()) {
+        if (typesFixed == 0 && datesFixed == 0) {
             log.info("No evidence records with null values found.");
             return;
         }
         
-        log.info("Found {} evidence records with null values. Updating...", evidencesToUpdate.size());
-        
-        // Update each evidence record
-        for (Evidence evidence : evidencesToUpdate) {
-            if (evidence.getEvidenceType() == null) {
-                evidence.setEvidenceType(EvidenceType.OTHER);
-                log.debug("Updated evidence ID: {} with evidence type: {}", evidence.getId(), EvidenceType.OTHER);
-            }
-            
-            if (evidence.getUploadDate() == null) {
-                // Use created_at if available, otherwise current time
-                evidence.setUploadDate(LocalDateTime.now());
-                log.debug("Updated evidence ID: {} with upload date: {}", evidence.getId(), evidence.getUploadDate());
-            }
-        }
-        
-        // Save all updated evidence records
-        evidenceRepository.saveAll(evidencesToUpdate);
-        
-        log.info("Evidence records updated successfully!");
+        log.info("Evidence records updated successfully: {} missing types set to {}, {} missing upload dates set",
+                typesFixed, EvidenceType.OTHER, datesFixed);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.crime.reporting.crime_reporting_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Enables @Scheduled jobs such as report pre-generation
+}
@@ -0,0 +1,52 @@
+package com.crime.reporting.crime_reporting_backend.config;
+
+import com.crime.reporting.crime_reporting_backend.websocket.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * STOMP over WebSocket for live dashboard updates. Each instance runs an in-memory broker
+ * for its own connections; updates reach every instance through Postgres LISTEN/NOTIFY
+ * (see ComplaintUpdateBus), so no external broker is needed.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${websocket.endpoint:/ws}")
+    private String endpoint;
+
+    @Value("${websocket.allowed-origins:http://localhost:4200}")
+    private String[] allowedOrigins;
+
+    @Value("${websocket.topic-prefix:/topic}")
+    private String topicPrefix;
+
+    @Value("${websocket.application-prefix:/app}")
+    private String applicationPrefix;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint(endpoint).setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker(topicPrefix);
+        registry.setApplicationDestinationPrefixes(applicationPrefix);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
@@ -0,0 +1,20 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a bean or method to the connection pool of the given workload. The outermost
+ * binding on the call stack wins, so a report built by a scheduled job stays on the
+ * background pool. Unbound code uses the interactive pool.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConnectionPool {
+
+    Workload value();
+}
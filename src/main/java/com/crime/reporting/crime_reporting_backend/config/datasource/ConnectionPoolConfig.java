@@ -0,0 +1,111 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulkhead pools on the primary database: interactive, reporting, background and event
+ * delivery work each get their own Hikari pool with its own size and statement timeout, so a long
+ * report cannot hold the connections complaint submission and login wait for. The pool
+ * is picked per transaction from the thread's {@link Workload}.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    public HikariDataSource interactivePool(DataSourceProperties properties,
+                                            @Value("${datasource.pools.interactive.maximum-pool-size:10}") int maximumPoolSize,
+                                            @Value("${datasource.pools.interactive.connection-timeout-ms:5000}") long connectionTimeoutMs,
+                                            @Value("${datasource.pools.interactive.statement-timeout-ms:15000}") long statementTimeoutMs) {
+        return createPool(properties, "interactive", maximumPoolSize, connectionTimeoutMs, statementTimeoutMs);
+    }
+
+    @Bean
+    public HikariDataSource reportingPool(DataSourceProperties properties,
+                                          @Value("${datasource.pools.reporting.maximum-pool-size:4}") int maximumPoolSize,
+                                          @Value("${datasource.pools.reporting.connection-timeout-ms:30000}") long connectionTimeoutMs,
+                                          @Value("${datasource.pools.reporting.statement-timeout-ms:300000}") long statementTimeoutMs) {
+        return createPool(properties, "reporting", maximumPoolSize, connectionTimeoutMs, statementTimeoutMs);
+    }
+
+    @Bean
+    public HikariDataSource backgroundPool(DataSourceProperties properties,
+                                           @Value("${datasource.pools.background.maximum-pool-size:2}") int maximumPoolSize,
+                                           @Value("${datasource.pools.background.connection-timeout-ms:60000}") long connectionTimeoutMs,
+                                           @Value("${datasource.pools.background.statement-timeout-ms:600000}") long statementTimeoutMs) {
+        return createPool(properties, "background", maximumPoolSize, connectionTimeoutMs, statementTimeoutMs);
+    }
+
+    @Bean
+    public HikariDataSource eventsPool(DataSourceProperties properties,
+                                       @Value("${datasource.pools.events.maximum-pool-size:4}") int maximumPoolSize,
+                                       @Value("${datasource.pools.events.connection-timeout-ms:10000}") long connectionTimeoutMs,
+                                       @Value("${datasource.pools.events.statement-timeout-ms:15000}") long statementTimeoutMs) {
+        return createPool(properties, "events", maximumPoolSize, connectionTimeoutMs, statementTimeoutMs);
+    }
+
+    @Bean
+    public WorkloadRoutingDataSource primaryDataSource(@Qualifier("interactivePool") DataSource interactivePool,
+                                                       @Qualifier("reportingPool") DataSource reportingPool,
+                                                       @Qualifier("backgroundPool") DataSource backgroundPool,
+                                                       @Qualifier("eventsPool") DataSource eventsPool) {
+        return new WorkloadRoutingDataSource(Map.of(
+                Workload.INTERACTIVE, interactivePool,
+                Workload.REPORTING, reportingPool,
+                Workload.BACKGROUND, backgroundPool,
+                Workload.EVENTS, eventsPool));
+    }
+
+    /**
+     * The application DataSource when no read replica is configured; see
+     * {@link ReadReplicaDataSourceConfig} for the replica variant
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(WorkloadRoutingDataSource primaryDataSource) {
+        return new LazyConnectionDataSourceProxy(primaryDataSource);
+    }
+
+    @Bean
+    public PoolSaturationMetrics poolSaturationMetrics(@Qualifier("interactivePool") HikariDataSource interactivePool,
+                                                       @Qualifier("reportingPool") HikariDataSource reportingPool,
+                                                       @Qualifier("backgroundPool") HikariDataSource backgroundPool,
+                                                       @Qualifier("eventsPool") HikariDataSource eventsPool) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        pools.put(interactivePool.getPoolName(), interactivePool);
+        pools.put(reportingPool.getPoolName(), reportingPool);
+        pools.put(backgroundPool.getPoolName(), backgroundPool);
+        pools.put(eventsPool.getPoolName(), eventsPool);
+        return new PoolSaturationMetrics(pools);
+    }
+
+    /**
+     * Creates a pool on the primary database settings with its own size and timeouts.
+     * The statement timeout is applied as a session setting on every new connection.
+     */
+    static HikariDataSource createPool(DataSourceProperties properties, String name, int maximumPoolSize,
+                                       long connectionTimeoutMs, long statementTimeoutMs) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setConnectionTimeout(connectionTimeoutMs);
+        // Let the driver send each JDBC insert batch as multi-row INSERT statements
+        pool.addDataSourceProperty("reWriteBatchedInserts", "true");
+        if (statementTimeoutMs > 0) {
+            pool.setConnectionInitSql("SET statement_timeout = " + statementTimeoutMs);
+        }
+        return pool;
+    }
+}
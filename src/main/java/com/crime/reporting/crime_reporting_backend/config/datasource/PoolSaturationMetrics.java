@@ -0,0 +1,54 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+
+/**
+ * Publishes how full each pool is, tagged by pool name, alongside the standard hikaricp
+ * metrics. A pool whose saturation sits near 1 with a non-zero wait count needs more
+ * connections; one that stays low can give some back.
+ * <ul>
+ *   <li>{@code db.pool.saturation}: active connections / maximum pool size</li>
+ *   <li>{@code db.pool.waiting}: threads waiting for a connection</li>
+ * </ul>
+ */
+public class PoolSaturationMetrics implements MeterBinder {
+
+    private final Map<String, HikariDataSource> pools;
+
+    PoolSaturationMetrics(Map<String, HikariDataSource> pools) {
+        this.pools = pools;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        pools.forEach((name, pool) -> {
+            Gauge.builder("db.pool.saturation", pool, PoolSaturationMetrics::saturation)
+                    .tag("pool", name)
+                    .description("Active connections as a fraction of the maximum pool size")
+                    .register(registry);
+            Gauge.builder("db.pool.waiting", pool, PoolSaturationMetrics::waiting)
+                    .tag("pool", name)
+                    .description("Threads waiting for a connection")
+                    .register(registry);
+        });
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null || pool.getMaximumPoolSize() == 0) {
+            return 0;
+        }
+        return (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+
+    private static double waiting(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        return mxBean != null ? mxBean.getThreadsAwaitingConnection() : 0;
+    }
+}
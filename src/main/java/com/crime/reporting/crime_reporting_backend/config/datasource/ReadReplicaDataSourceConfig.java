@@ -0,0 +1,80 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Splits database traffic between the primary and a read replica when
+ * datasource.replica.enabled=true; otherwise all traffic goes to the primary pools.
+ * <p>
+ * The application DataSource hands out lazy connections. Read-write transactions get a
+ * connection from the workload's primary pool (see {@link ConnectionPoolConfig});
+ * read-only ones ({@code @Transactional(readOnly = true)}) are resolved through
+ * {@link ReplicaRoutingDataSource}, which picks the replica unless it is lagging,
+ * unreachable, or the caller has just committed a write.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public HikariDataSource replicaPool(@Value("${datasource.replica.url}") String url,
+                                        @Value("${datasource.replica.username}") String username,
+                                        @Value("${datasource.replica.password:}") String password,
+                                        @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                        @Value("${datasource.replica.connection-timeout-ms:2000}") long connectionTimeoutMs,
+                                        @Value("${datasource.replica.statement-timeout-ms:300000}") long statementTimeoutMs) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica");
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setConnectionTimeout(connectionTimeoutMs);
+        pool.setReadOnly(true);
+        if (statementTimeoutMs > 0) {
+            pool.setConnectionInitSql("SET statement_timeout = " + statementTimeoutMs);
+        }
+        // Start even when the replica is down; reads fall back to the primary until it is reachable
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+
+    @Bean
+    public PoolSaturationMetrics replicaPoolSaturationMetrics(@Qualifier("replicaPool") HikariDataSource replicaPool) {
+        return new PoolSaturationMetrics(Map.of(replicaPool.getPoolName(), replicaPool));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("backgroundPool") DataSource backgroundPool,
+                                               @Qualifier("replicaPool") DataSource replicaPool,
+                                               @Value("${datasource.replica.max-lag-ms:2000}") long maxLagMs) {
+        return new ReplicaLagMonitor(backgroundPool, replicaPool, maxLagMs);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${datasource.replica.pin-after-write-ms:5000}") long pinAfterWriteMs) {
+        return new ReadYourWritesTracker(pinAfterWriteMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadRoutingDataSource primaryDataSource,
+                                 @Qualifier("replicaPool") DataSource replicaPool,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaPool, replicaLagMonitor, readYourWritesTracker));
+        return dataSource;
+    }
+}
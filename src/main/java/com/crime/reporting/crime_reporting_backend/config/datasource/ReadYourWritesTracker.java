@@ -0,0 +1,80 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pins a caller's reads to the primary for a short window after they commit a write, so a
+ * user who just filed or updated something never reads a replica that has not caught up.
+ * Authenticated callers are pinned by username, which carries across requests; anything
+ * else (anonymous requests, scheduled jobs) is pinned by thread.
+ * <p>
+ * Registered with the transaction manager as an execution listener; every committed
+ * read-write transaction counts as a write.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Long> THREAD_PINNED_UNTIL = new ThreadLocal<>();
+
+    private final long pinMillis;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    ReadYourWritesTracker(long pinMillis) {
+        this.pinMillis = pinMillis;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            pinCurrentCaller();
+        }
+    }
+
+    /**
+     * Sends the current caller's reads to the primary for the pin window
+     */
+    public void pinCurrentCaller() {
+        long until = System.currentTimeMillis() + pinMillis;
+        String username = currentUsername();
+        if (username != null) {
+            pinnedUntil.put(username, until);
+        } else {
+            THREAD_PINNED_UNTIL.set(until);
+        }
+    }
+
+    public boolean isPinned() {
+        long now = System.currentTimeMillis();
+        String username = currentUsername();
+        if (username != null) {
+            Long until = pinnedUntil.get(username);
+            return until != null && until > now;
+        }
+        Long until = THREAD_PINNED_UNTIL.get();
+        return until != null && until > now;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    @Nullable
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,92 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Polls how far the replica's replay is behind the primary. The replica is usable while
+ * it is reachable and its lag is within the budget; until the first successful check, and
+ * after any failure, reads stay on the primary.
+ * <p>
+ * Lag is zero once the replica has replayed the primary's current WAL position, otherwise
+ * the age of the last replayed transaction. A replica that is not in recovery (e.g. a
+ * second standalone instance used for local testing) always reports zero lag.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private static final String PRIMARY_LSN_SQL = "SELECT CAST(pg_current_wal_lsn() AS VARCHAR)";
+
+    private static final String REPLICA_LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn) THEN 0
+                     ELSE COALESCE(CAST(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT), -1)
+                   END""";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMs;
+
+    private volatile boolean replicaUsable;
+    private volatile long lastLagMs = -1;
+
+    ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaPool, long maxLagMs) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaPool);
+        this.primary.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+        this.replica.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+        this.maxLagMs = maxLagMs;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Last measured lag in milliseconds, or -1 if it could not be measured
+     */
+    public long getLastLagMs() {
+        return lastLagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        long lagMs;
+        try {
+            String primaryLsn = primary.queryForObject(PRIMARY_LSN_SQL, String.class);
+            Long measured = replica.queryForObject(REPLICA_LAG_SQL, Long.class, primaryLsn);
+            lagMs = measured != null ? measured : -1;
+        } catch (Exception e) {
+            markUnavailable(e);
+            return;
+        }
+
+        lastLagMs = lagMs;
+        boolean usable = lagMs >= 0 && lagMs <= maxLagMs;
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Read replica back in rotation, lag {} ms", lagMs);
+            } else {
+                log.warn("Read replica lag {} ms exceeds {} ms; routing reads to the primary", lagMs, maxLagMs);
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    /**
+     * Takes the replica out of rotation until the next successful check
+     */
+    void markUnavailable(Throwable cause) {
+        lastLagMs = -1;
+        if (replicaUsable) {
+            log.warn("Read replica unavailable; routing reads to the primary: {}", cause.getMessage());
+        }
+        replicaUsable = false;
+    }
+}
@@ -0,0 +1,19 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+/**
+ * Kinds of database work, each served by its own connection pool so one kind cannot
+ * exhaust the connections the others need
+ */
+public enum Workload {
+    /** Request/response traffic such as complaint submission and login; the default */
+    INTERACTIVE,
+    /** Reports, statistics and analytics queries that may run for minutes */
+    REPORTING,
+    /** Scheduled jobs: report pre-generation, counter reconciliation, sketch rebuilds */
+    BACKGROUND,
+    /**
+     * Outbox delivery and the listeners it runs; short statements that must not wait
+     * behind the background jobs
+     */
+    EVENTS
+}
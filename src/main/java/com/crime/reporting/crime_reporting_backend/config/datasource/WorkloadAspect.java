@@ -0,0 +1,49 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link ConnectionPool} bindings, method before class, and binds scheduled jobs to
+ * the background pool unless the job method or its class names its own.
+ * Runs outside the transaction interceptor so the workload is set before a transaction
+ * takes its connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    @Around("@annotation(connectionPool)")
+    public Object bindMethod(ProceedingJoinPoint joinPoint, ConnectionPool connectionPool) throws Throwable {
+        return proceedWith(connectionPool.value(), joinPoint);
+    }
+
+    @Around("@within(connectionPool) && execution(public * *(..)) "
+            + "&& !@annotation(com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool)")
+    public Object bindType(ProceedingJoinPoint joinPoint, ConnectionPool connectionPool) throws Throwable {
+        return proceedWith(connectionPool.value(), joinPoint);
+    }
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled) "
+            + "&& !@annotation(com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool) "
+            + "&& !@within(com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool)")
+    public Object bindScheduled(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedWith(Workload.BACKGROUND, joinPoint);
+    }
+
+    private static Object proceedWith(Workload workload, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!WorkloadContext.bindIfUnbound(workload)) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.unbind();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Holds the workload of the current thread, which decides the pool a new transaction
+ * or connection is taken from
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.INTERACTIVE;
+    }
+
+    /**
+     * Wraps a task so it runs under the caller's workload on whichever thread executes it
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Workload workload = CURRENT.get();
+        if (workload == null) {
+            return task;
+        }
+        return () -> {
+            boolean bound = bindIfUnbound(workload);
+            try {
+                return task.call();
+            } finally {
+                if (bound) {
+                    unbind();
+                }
+            }
+        };
+    }
+
+    /**
+     * Binds the workload unless an outer caller already has; returns whether it was bound
+     * here, in which case the caller must {@link #unbind()} when done
+     */
+    static boolean bindIfUnbound(Workload workload) {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(workload);
+        return true;
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+}
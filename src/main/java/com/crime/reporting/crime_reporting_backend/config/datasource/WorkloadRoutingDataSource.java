@@ -0,0 +1,25 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primary-database DataSource that hands out connections from the pool of the current
+ * thread's {@link Workload}
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    WorkloadRoutingDataSource(Map<Workload, DataSource> pools) {
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(Workload.INTERACTIVE));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
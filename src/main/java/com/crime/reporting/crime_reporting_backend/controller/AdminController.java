@@ -5,6 +5,7 @@ import com.crime.reporting.crime_reporting_backend.dto.ComplaintDTO;
 import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
 import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
 import com.crime.reporting.crime_reporting_backend.service.AdminService;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintImportService;
 import com.crime.reporting.crime_reporting_backend.service.ComplaintService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,6 +33,7 @@ public class AdminController {
     
     private final AdminService adminService;
     private final ComplaintService complaintService;
+    private final ComplaintImportService complaintImportService;
     
     // Statistics endpoints
     
@@ -142,18 +146,13 @@ public class AdminController {
     
     // Complaint management endpoints
     
-    @GetMapping("/complaints")
-    public ResponseEntity<List<ComplaintDTO>> getAdminComplaints() {
-        log.info("Admin fetching all complaints");
-        List<ComplaintDTO> complaints = complaintService.getAllComplaints();
-        return ResponseEntity.ok(complaints);
-    }
-    
-    @GetMapping("/complaints/all")
-    public ResponseEntity<List<ComplaintDTO>> getAllAdminComplaints() {
-        log.info("Admin fetching all complaints with details");
-        List<ComplaintDTO> complaints = complaintService.getAllComplaintsForAdmin();
-        return ResponseEntity.ok(complaints);
+    @GetMapping({"/complaints", "/complaints/all"})
+    public ResponseEntity<CursorPage<ComplaintDTO>> getAdminComplaints(
+            @ModelAttribute ComplaintFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("Admin fetching complaints page");
+        return ResponseEntity.ok(complaintService.getComplaintsPage(filter, cursor, size));
     }
     
     @PostMapping("/complaints/{complaintId}/assign/{officerId}")
@@ -180,6 +179,18 @@ public class AdminController {
         return ResponseEntity.ok(updatedComplaint);
     }
     
+    @PostMapping(value = "/complaints/import", consumes = "text/csv")
+    public ResponseEntity<BulkImportResult> importComplaintsCsv(InputStream body) throws IOException {
+        log.info("Admin importing complaints from CSV");
+        return ResponseEntity.ok(complaintImportService.importCsv(body));
+    }
+    
+    @PostMapping(value = "/complaints/import", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkImportResult> importComplaintsNdjson(InputStream body) throws IOException {
+        log.info("Admin importing complaints from NDJSON");
+        return ResponseEntity.ok(complaintImportService.importNdjson(body));
+    }
+    
     // User management endpoints
     
     @GetMapping("/users")
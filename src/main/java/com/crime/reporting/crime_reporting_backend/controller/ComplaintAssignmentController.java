@@ -1,10 +1,17 @@
 package com.crime.reporting.crime_reporting_backend.controller;
 
 import com.crime.reporting.crime_reporting_backend.dto.ApiResponse;
+import com.crime.reporting.crime_reporting_backend.dto.BulkAssignmentRequest;
+import com.crime.reporting.crime_reporting_backend.dto.BulkOperationResult;
+import com.crime.reporting.crime_reporting_backend.dto.BulkStatusRequest;
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintFilter;
+import com.crime.reporting.crime_reporting_backend.dto.CursorPage;
 import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintBulkService;
 import com.crime.reporting.crime_reporting_backend.service.ComplaintService;
 import com.crime.reporting.crime_reporting_backend.service.PoliceOfficerService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,12 +26,15 @@ public class ComplaintAssignmentController {
 
     private final ComplaintService complaintService;
     private final PoliceOfficerService policeOfficerService;
+    private final ComplaintBulkService complaintBulkService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ComplaintDTO>> getAllComplaints() {
-        List<ComplaintDTO> complaints = complaintService.getAllComplaints();
-        return ResponseEntity.ok(complaints);
+    public ResponseEntity<CursorPage<ComplaintDTO>> getComplaints(
+            @ModelAttribute ComplaintFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(complaintService.getComplaintsPage(filter, cursor, size));
     }
 
     @PostMapping("/{complaintId}/assign/{officerId}")
@@ -37,6 +47,18 @@ public class ComplaintAssignmentController {
         return ResponseEntity.ok(new ApiResponse(true, "Complaint successfully assigned to officer"));
     }
 
+    @PostMapping("/bulk/assign")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResult> assignComplaints(@Valid @RequestBody BulkAssignmentRequest request) {
+        return ResponseEntity.ok(complaintBulkService.assignComplaints(request));
+    }
+
+    @PostMapping("/bulk/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResult> updateComplaintStatuses(@Valid @RequestBody BulkStatusRequest request) {
+        return ResponseEntity.ok(complaintBulkService.updateStatuses(request));
+    }
+
     @PostMapping("/{complaintId}/unassign")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse> unassignComplaint(@PathVariable Long complaintId) {
@@ -1,12 +1,22 @@
 package com.crime.reporting.crime_reporting_backend.controller;
 
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintFilter;
+import com.crime.reporting.crime_reporting_backend.dto.CursorPage;
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintRequest;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintSearchHit;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintStatisticsDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintTrendDTO;
 import com.crime.reporting.crime_reporting_backend.dto.EvidenceResponse;
+import com.crime.reporting.crime_reporting_backend.dto.SearchLanguage;
+import com.crime.reporting.crime_reporting_backend.dto.TrendGranularity;
 import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
 import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
 import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintSearchService;
 import com.crime.reporting.crime_reporting_backend.service.ComplaintService;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintStatisticsService;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintTrendService;
 import com.crime.reporting.crime_reporting_backend.service.EvidenceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +28,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -26,9 +37,7 @@ import com.crime.reporting.crime_reporting_backend.dto.ErrorResponse;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/complaints")
@@ -38,6 +47,9 @@ public class ComplaintController {
 
     private final ComplaintService complaintService;
     private final EvidenceService evidenceService;
+    private final ComplaintSearchService complaintSearchService;
+    private final ComplaintStatisticsService complaintStatisticsService;
+    private final ComplaintTrendService complaintTrendService;
 
     @PostMapping
     public ResponseEntity<ComplaintDTO> createComplaint(
@@ -80,8 +92,22 @@ public class ComplaintController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ComplaintDTO>> getAllComplaints() {
-        return ResponseEntity.ok(complaintService.getAllComplaints());
+    public ResponseEntity<CursorPage<ComplaintDTO>> getComplaints(
+            @ModelAttribute ComplaintFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(complaintService.getComplaintsPage(filter, cursor, size));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('POLICE_OFFICER', 'ADMIN')")
+    public ResponseEntity<CursorPage<ComplaintSearchHit>> searchComplaints(
+            @RequestParam("q") String text,
+            @RequestParam(defaultValue = "ALL") SearchLanguage language,
+            @ModelAttribute ComplaintFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(complaintSearchService.search(text, language, filter, cursor, size));
     }
 
     @GetMapping("/my-complaints")
@@ -164,18 +190,12 @@ public class ComplaintController {
         return ResponseEntity.ok(complaintService.getComplaintCountsByCrimeType());
     }
 
+    /**
+     * Status, crime type and 30-day trend counts from one aggregate query, cached briefly
+     */
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getAllStatistics() {
-        Map<String, Object> statistics = new HashMap<>();
-        statistics.put("byStatus", complaintService.getComplaintCountsByStatus());
-        statistics.put("byCrimeType", complaintService.getComplaintCountsByCrimeType());
-        
-        // For trends, use the last 30 days by default
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(30);
-        statistics.put("trends", complaintService.getComplaintTrends(startDate, endDate));
-        
-        return ResponseEntity.ok(statistics);
+    public ResponseEntity<ComplaintStatisticsDTO> getAllStatistics() {
+        return ResponseEntity.ok(complaintStatisticsService.getStatistics());
     }
 
     @GetMapping("/stats/trends")
@@ -185,6 +205,17 @@ public class ComplaintController {
         return ResponseEntity.ok(complaintService.getComplaintTrends(startDate, endDate));
     }
 
+    /**
+     * Complaints filed per hour, day, week or month, with empty buckets included
+     */
+    @GetMapping("/stats/trends/buckets")
+    public ResponseEntity<ComplaintTrendDTO> getBucketedTrend(
+            @RequestParam(defaultValue = "DAY") TrendGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(complaintTrendService.getTrend(granularity, from, to));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteComplaint(@PathVariable Long id) {
         complaintService.deleteComplaint(id);
@@ -3,8 +3,13 @@ package com.crime.reporting.crime_reporting_backend.controller;
 import com.crime.reporting.crime_reporting_backend.dto.PoliceOfficerDTO;
 import com.crime.reporting.crime_reporting_backend.dto.PoliceOfficerResponse;
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintStatisticsDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintSyncDTO;
+import com.crime.reporting.crime_reporting_backend.dto.CursorPage;
 import com.crime.reporting.crime_reporting_backend.dto.UserResponse;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
 import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintStatisticsService;
 import com.crime.reporting.crime_reporting_backend.service.UserService;
 import com.crime.reporting.crime_reporting_backend.service.impl.ComplaintServiceImpl;
 import com.crime.reporting.crime_reporting_backend.service.impl.PoliceOfficerServiceImpl;
@@ -20,7 +25,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/police")
@@ -32,6 +36,7 @@ public class PoliceOfficerController {
     private final PoliceOfficerServiceImpl policeOfficerService;
     private final ComplaintServiceImpl complaintService;
     private final UserService userService;
+    private final ComplaintStatisticsService complaintStatisticsService;
 
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getPoliceStats(Authentication authentication) {
@@ -54,48 +59,29 @@ public class PoliceOfficerController {
                 officerDTO.setRank("Officer");
             }
             
-            // Get complaints assigned to the officer
-            List<ComplaintDTO> assignedComplaints = new ArrayList<>();
+            // Status counts come from the shared aggregate; only the 5 latest complaints are loaded
+            long totalAssigned = 0;
+            long pendingCount = 0;
+            long resolvedCount = 0;
+            long activeCount = 0;
+            List<ComplaintDTO> recentComplaints = new ArrayList<>();
             try {
                 if (officerDTO.getId() != null) {
-                    assignedComplaints = complaintService.getComplaintsByPoliceOfficerId(officerDTO.getId());
+                    ComplaintStatisticsDTO officerStats = complaintStatisticsService.getOfficerStatistics(officerDTO.getId());
+                    totalAssigned = officerStats.getTotal();
+                    pendingCount = ComplaintStatisticsService.countOf(officerStats,
+                            ComplaintStatus.ASSIGNED, ComplaintStatus.PENDING_EVIDENCE);
+                    resolvedCount = ComplaintStatisticsService.countOf(officerStats,
+                            ComplaintStatus.RESOLVED, ComplaintStatus.CLOSED);
+                    activeCount = ComplaintStatisticsService.countOf(officerStats,
+                            ComplaintStatus.INVESTIGATING, ComplaintStatus.UNDER_REVIEW,
+                            ComplaintStatus.ASSIGNED, ComplaintStatus.PENDING_EVIDENCE);
+                    recentComplaints = complaintService.getRecentlyUpdatedComplaintsByPoliceOfficerId(officerDTO.getId(), 5);
                 }
             } catch (Exception e) {
                 log.error("Error fetching assigned complaints for officer ID: {}", officerDTO.getId(), e);
             }
-            
-            // Calculate real statistics
-            int totalAssigned = assignedComplaints.size();
-            
-            // Count complaints by status
-            int pendingCount = 0;
-            int resolvedCount = 0;
-            int activeCount = 0;
-            int closedCount = 0;
-            
-            for (ComplaintDTO complaint : assignedComplaints) {
-                String status = complaint.getStatus() != null ? complaint.getStatus().toString() : null;
-                if (status == null) continue;
-                
-                if (status.equals("ASSIGNED") || status.equals("PENDING") || status.equals("PENDING_EVIDENCE")) {
-                    pendingCount++;
-                } else if (status.equals("RESOLVED") || status.equals("CLOSED")) {
-                    resolvedCount++;
-                    closedCount++;
-                }
-                
-                if (status.equals("INVESTIGATING") || status.equals("UNDER_REVIEW") || 
-                    status.equals("ASSIGNED") || status.equals("PENDING") || 
-                    status.equals("PENDING_EVIDENCE")) {
-                    activeCount++;
-                }
-            }
-            
-            // Get 5 most recent complaints
-            List<ComplaintDTO> recentComplaints = assignedComplaints.stream()
-                .sorted((c1, c2) -> c2.getUpdatedAt().compareTo(c1.getUpdatedAt()))
-                .limit(5)
-                .collect(Collectors.toList());
+            long closedCount = resolvedCount;
             
             // Create response with real stats
             Map<String, Object> stats = new HashMap<>();
@@ -154,6 +140,38 @@ public class PoliceOfficerController {
         }
     }
     
+    /**
+     * The officer's open complaints, highest priority first; pass nextCursor back as
+     * cursor for the next page
+     */
+    @GetMapping("/complaints/queue")
+    public ResponseEntity<CursorPage<ComplaintDTO>> getWorkQueue(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        log.info("Fetching work queue for user: {}", authentication.getName());
+        
+        UserResponse userResponse = userService.findByEmail(authentication.getName());
+        PoliceOfficerDTO officerDTO = policeOfficerService.getOfficerByUserId(userResponse.getId());
+        return ResponseEntity.ok(complaintService.getOfficerWorkQueue(officerDTO.getId(), cursor, size));
+    }
+    
+    /**
+     * Changes to the officer's complaints since the sync that returned token (omit it for
+     * a full snapshot); pass syncToken back next time
+     */
+    @GetMapping("/complaints/sync")
+    public ResponseEntity<ComplaintSyncDTO> syncComplaints(
+            @RequestParam(required = false) String token,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        log.info("Syncing complaints for user: {}", authentication.getName());
+        
+        UserResponse userResponse = userService.findByEmail(authentication.getName());
+        PoliceOfficerDTO officerDTO = policeOfficerService.getOfficerByUserId(userResponse.getId());
+        return ResponseEntity.ok(complaintService.syncOfficerComplaints(officerDTO.getId(), token, size));
+    }
+    
     @PutMapping("/complaints/{id}/status")
     public ResponseEntity<ComplaintDTO> updateComplaintStatus(
             @PathVariable Long id,
@@ -1,6 +1,16 @@
 package com.crime.reporting.crime_reporting_backend.controller;
 
+import com.crime.reporting.crime_reporting_backend.dto.ReportScheduleRequest;
+import com.crime.reporting.crime_reporting_backend.dto.ReportScheduleResponse;
+import com.crime.reporting.crime_reporting_backend.dto.ResolutionAnalyticsDTO;
+import com.crime.reporting.crime_reporting_backend.entity.ReportArtifact;
+import com.crime.reporting.crime_reporting_backend.entity.ReportType;
+import com.crime.reporting.crime_reporting_backend.exception.ResourceNotFoundException;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintSketchService;
+import com.crime.reporting.crime_reporting_backend.service.ReportArtifactService;
+import com.crime.reporting.crime_reporting_backend.service.ReportScheduleService;
 import com.crime.reporting.crime_reporting_backend.service.ReportService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.InputStreamResource;
@@ -12,12 +22,15 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.http.HttpStatus;
 
 import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -28,7 +41,12 @@ import java.util.HashMap;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportArtifactService reportArtifactService;
+    private final ReportScheduleService reportScheduleService;
+    private final ComplaintSketchService complaintSketchService;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm");
+    private static final MediaType XLSX_MEDIA_TYPE =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
 
     @GetMapping("/test-access")
     public ResponseEntity<Map<String, Object>> testAccess() {
@@ -93,7 +111,11 @@ public class ReportController {
     private ResponseEntity<InputStreamResource> generateComplaintsReportResponse(
             LocalDateTime startDate, LocalDateTime endDate, String status, String crimeType) {
         
-        ByteArrayInputStream bis = reportService.generateComplaintsReport(startDate, endDate, status, crimeType);
+        ByteArrayInputStream bis = preGenerated(ReportType.COMPLAINTS,
+                ReportArtifactService.parameterKey(null, status, crimeType), startDate, endDate);
+        if (bis == null) {
+            bis = reportService.generateComplaintsReport(startDate, endDate, status, crimeType);
+        }
         
         String filename = "Complaints_Report_" + LocalDateTime.now().format(DATE_FORMATTER) + ".pdf";
         return generateResponseFromInputStream(bis, filename);
@@ -129,12 +151,30 @@ public class ReportController {
     private ResponseEntity<InputStreamResource> generateOfficersPerformanceReportResponse(
             Long departmentId, LocalDateTime startDate, LocalDateTime endDate) {
         
-        ByteArrayInputStream bis = reportService.generateOfficersPerformanceReport(departmentId, startDate, endDate);
+        ByteArrayInputStream bis = preGenerated(ReportType.OFFICER_PERFORMANCE,
+                ReportArtifactService.parameterKey(departmentId, null, null), startDate, endDate);
+        if (bis == null) {
+            bis = reportService.generateOfficersPerformanceReport(departmentId, startDate, endDate);
+        }
         
         String filename = "Officers_Performance_Report_" + LocalDateTime.now().format(DATE_FORMATTER) + ".pdf";
         return generateResponseFromInputStream(bis, filename);
     }
     
+    @GetMapping("/officers-performance/xlsx")
+    public ResponseEntity<StreamingResponseBody> getOfficersPerformanceSpreadsheet(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        
+        log.info("Generating officers performance spreadsheet: departmentId={}, startDate={}, endDate={}",
+                departmentId, startDate, endDate);
+        
+        String filename = "Officers_Performance_Report_" + LocalDateTime.now().format(DATE_FORMATTER) + ".xlsx";
+        return generateSpreadsheetResponse(filename,
+                out -> reportService.writeOfficersPerformanceSpreadsheet(departmentId, startDate, endDate, out));
+    }
+    
     // Support both GET and POST for user activity report
     @GetMapping("/user-activity")
     public ResponseEntity<InputStreamResource> getUserActivityReport(
@@ -161,12 +201,28 @@ public class ReportController {
     private ResponseEntity<InputStreamResource> generateUserActivityReportResponse(
             LocalDateTime startDate, LocalDateTime endDate) {
         
-        ByteArrayInputStream bis = reportService.generateUserActivityReport(startDate, endDate);
+        ByteArrayInputStream bis = preGenerated(ReportType.USER_ACTIVITY,
+                ReportArtifactService.parameterKey(null, null, null), startDate, endDate);
+        if (bis == null) {
+            bis = reportService.generateUserActivityReport(startDate, endDate);
+        }
         
         String filename = "User_Activity_Report_" + LocalDateTime.now().format(DATE_FORMATTER) + ".pdf";
         return generateResponseFromInputStream(bis, filename);
     }
     
+    @GetMapping("/user-activity/xlsx")
+    public ResponseEntity<StreamingResponseBody> getUserActivitySpreadsheet(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        
+        log.info("Generating user activity spreadsheet: startDate={}, endDate={}", startDate, endDate);
+        
+        String filename = "User_Activity_Report_" + LocalDateTime.now().format(DATE_FORMATTER) + ".xlsx";
+        return generateSpreadsheetResponse(filename,
+                out -> reportService.writeUserActivitySpreadsheet(startDate, endDate, out));
+    }
+    
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getReportStatistics(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -179,6 +235,104 @@ public class ReportController {
         return ResponseEntity.ok(statistics);
     }
     
+    /**
+     * Resolution-time percentiles and distinct complainants for a period, optionally
+     * narrowed to a department or officer
+     */
+    @GetMapping("/resolution-analytics")
+    public ResponseEntity<ResolutionAnalyticsDTO> getResolutionAnalytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) Long officerId) {
+        
+        log.info("Fetching resolution analytics: startDate={}, endDate={}, departmentId={}, officerId={}",
+                startDate, endDate, departmentId, officerId);
+        
+        return ResponseEntity.ok(complaintSketchService.summarize(startDate, endDate, departmentId, officerId));
+    }
+    
+    /**
+     * Serves the most recent pre-generated report of a type without rendering anything
+     */
+    @GetMapping("/artifacts/latest")
+    public ResponseEntity<InputStreamResource> getLatestPreGeneratedReport(
+            @RequestParam ReportType reportType,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String crimeType) {
+        
+        ReportArtifact artifact = reportArtifactService
+                .findLatest(reportType, ReportArtifactService.parameterKey(departmentId, status, crimeType))
+                .orElseThrow(() -> new ResourceNotFoundException("No pre-generated " + reportType + " report available"));
+        byte[] content = reportArtifactService.readArtifact(artifact)
+                .orElseThrow(() -> new ResourceNotFoundException("Pre-generated report file is missing"));
+        
+        String filename = reportType.name() + "_Report_" + artifact.getPeriodStart().format(DATE_FORMATTER)
+                + "_to_" + artifact.getPeriodEnd().format(DATE_FORMATTER) + ".pdf";
+        return generateResponseFromInputStream(new ByteArrayInputStream(content), filename);
+    }
+    
+    // Report schedule management
+    
+    @GetMapping("/schedules")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ReportScheduleResponse>> getReportSchedules() {
+        return ResponseEntity.ok(reportScheduleService.getAllSchedules());
+    }
+    
+    @PostMapping("/schedules")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReportScheduleResponse> createReportSchedule(@Valid @RequestBody ReportScheduleRequest request) {
+        log.info("Creating report schedule: {}", request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(reportScheduleService.createSchedule(request));
+    }
+    
+    @PutMapping("/schedules/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReportScheduleResponse> updateReportSchedule(
+            @PathVariable Long id,
+            @Valid @RequestBody ReportScheduleRequest request) {
+        log.info("Updating report schedule {}: {}", id, request);
+        return ResponseEntity.ok(reportScheduleService.updateSchedule(id, request));
+    }
+    
+    @DeleteMapping("/schedules/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteReportSchedule(@PathVariable Long id) {
+        log.info("Deleting report schedule {}", id);
+        reportScheduleService.deleteSchedule(id);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Looks up a report pre-generated by a schedule for exactly these parameters and period
+     */
+    private ByteArrayInputStream preGenerated(ReportType reportType, String parameterKey,
+                                              LocalDateTime startDate, LocalDateTime endDate) {
+        return reportArtifactService.findArtifact(reportType, parameterKey, startDate, endDate)
+                .map(content -> {
+                    log.info("Serving pre-generated {} report for {} - {}", reportType, startDate, endDate);
+                    return new ByteArrayInputStream(content);
+                })
+                .orElse(null);
+    }
+    
+    /**
+     * Streams a workbook straight to the response; there is no content length because the
+     * workbook is written while rows are still being read from the database
+     */
+    private ResponseEntity<StreamingResponseBody> generateSpreadsheetResponse(String filename, StreamingResponseBody body) {
+        return ResponseEntity
+                .ok()
+                .contentType(XLSX_MEDIA_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .header("Cache-Control", "no-cache, no-store, must-revalidate")
+                .header("Pragma", "no-cache")
+                .header("Expires", "0")
+                .body(body);
+    }
+    
     // Helper method to generate report response
     private ResponseEntity<InputStreamResource> generateResponseFromInputStream(
             ByteArrayInputStream bis, String filename) {
@@ -232,7 +386,11 @@ public class ReportController {
         
         log.info("Generating system overview report (GET): startDate={}, endDate={}", startDate, endDate);
         
-        ByteArrayInputStream bis = reportService.generateSystemOverviewReport(startDate, endDate);
+        ByteArrayInputStream bis = preGenerated(ReportType.SYSTEM_OVERVIEW,
+                ReportArtifactService.parameterKey(null, null, null), startDate, endDate);
+        if (bis == null) {
+            bis = reportService.generateSystemOverviewReport(startDate, endDate);
+        }
         
         String filename = "System_Overview_Report_" + LocalDateTime.now().format(DATE_FORMATTER) + ".pdf";
         return generateResponseFromInputStream(bis, filename);
@@ -247,7 +405,11 @@ public class ReportController {
         
         log.info("Generating system overview report (POST): startDate={}, endDate={}", startDate, endDate);
         
-        ByteArrayInputStream bis = reportService.generateSystemOverviewReport(startDate, endDate);
+        ByteArrayInputStream bis = preGenerated(ReportType.SYSTEM_OVERVIEW,
+                ReportArtifactService.parameterKey(null, null, null), startDate, endDate);
+        if (bis == null) {
+            bis = reportService.generateSystemOverviewReport(startDate, endDate);
+        }
         
         String filename = "System_Overview_Report_" + LocalDateTime.now().format(DATE_FORMATTER) + ".pdf";
         return generateResponseFromInputStream(bis, filename);
@@ -315,4 +477,4 @@ public class ReportController {
         log.info("OPTIONS request received for reports endpoint");
         return ResponseEntity.ok().build();
     }
-} 
\ No newline at end of file
+} 
@@ -0,0 +1,36 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for assigning many complaints in one call, e.g. at shift change
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignmentRequest {
+
+    @NotEmpty
+    @Valid
+    private List<Item> assignments;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        @NotNull
+        private Long complaintId;
+
+        @NotNull
+        private Long officerId;
+    }
+}
@@ -0,0 +1,32 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk complaint import. Rows that fail validation or insertion are
+ * skipped and listed in {@code errors} by input line, up to a cap; the remaining rows
+ * are imported.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResult {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+    private long elapsedMs;
+    private long rowsPerSecond;
+
+    /**
+     * Why one input row was not imported; line is the 1-based line the row starts on
+     */
+    public record RowError(long line, String message) {}
+}
@@ -0,0 +1,40 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk complaint update. Items are applied independently: results are in
+ * request order and a failed item does not stop the others.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResult {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+
+    /**
+     * Result for one item; status and officerId are the complaint's values after the
+     * update, and message explains a failure
+     */
+    public record ItemResult(Long complaintId, boolean success, ComplaintStatus status, Long officerId,
+                             String message) {
+
+        public static ItemResult ok(Long complaintId, ComplaintStatus status, Long officerId) {
+            return new ItemResult(complaintId, true, status, officerId, null);
+        }
+
+        public static ItemResult failed(Long complaintId, String message) {
+            return new ItemResult(complaintId, false, null, null, message);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for changing the status of many complaints in one call
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusRequest {
+
+    @NotEmpty
+    @Valid
+    private List<Item> updates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        @NotNull
+        private Long complaintId;
+
+        @NotNull
+        private ComplaintStatus status;
+    }
+}
@@ -23,6 +23,8 @@ public class ComplaintDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private CrimeType category;
+    private Integer priorityScore;
+    private Long duplicateOfId;
     private String incidentDate;
     private Long userId;
     private String userName;
@@ -0,0 +1,34 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for complaint listings; unset fields do not filter.
+ * Bound from query parameters, e.g. {@code ?status=ASSIGNED&filedFrom=2025-01-01T00:00:00}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintFilter {
+    private ComplaintStatus status;
+    private CrimeType crimeType;
+    private Long assignedOfficerId;
+    private Long userId;
+
+    /** Inclusive lower bound on the filing time */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime filedFrom;
+
+    /** Exclusive upper bound on the filing time */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime filedTo;
+}
@@ -0,0 +1,29 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One complaint search result. The highlight fields are short HTML-escaped excerpts with
+ * the matched words wrapped in {@code <mark>} tags; location is the raw text.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintSearchHit {
+    private Long id;
+    private ComplaintStatus status;
+    private CrimeType crimeType;
+    private LocalDateTime dateFiled;
+    private String location;
+    private float rank;
+    private String descriptionHighlight;
+    private String locationHighlight;
+}
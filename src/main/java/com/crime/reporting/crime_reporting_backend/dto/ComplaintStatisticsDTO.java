@@ -0,0 +1,28 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.CrimeTypeCountDTO;
+import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.DateCountDTO;
+import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.StatusCountDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Dashboard statistics: counts by status and crime type plus daily filings over the
+ * recent trend window. May be a few seconds old; {@code generatedAt} says when it was read.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintStatisticsDTO {
+    private List<StatusCountDTO> byStatus;
+    private List<CrimeTypeCountDTO> byCrimeType;
+    private List<DateCountDTO> trends;
+    private long total;
+    private LocalDateTime generatedAt;
+}
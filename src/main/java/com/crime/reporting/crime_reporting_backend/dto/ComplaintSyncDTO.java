@@ -0,0 +1,33 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes to an officer's assigned complaints since their last sync. Pass
+ * {@code syncToken} back as the {@code token} parameter next time; while
+ * {@code hasMore} is set, call again straight away for the rest of the changes.
+ * <p>
+ * When {@code reset} is set the response starts a full snapshot of the officer's
+ * complaints and their evidence, and the client replaces its copy instead of merging into
+ * it; the rest of the snapshot follows in the {@code hasMore} pages, which are merged.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintSyncDTO {
+    private boolean reset;
+    /** Complaints that are new to the officer or changed, in their current state */
+    private List<ComplaintDTO> complaints;
+    private List<EvidenceDTO> evidence;
+    /** Complaints that were deleted or are no longer assigned to the officer */
+    private List<Long> removedComplaintIds;
+    private List<Long> removedEvidenceIds;
+    private String syncToken;
+    private boolean hasMore;
+}
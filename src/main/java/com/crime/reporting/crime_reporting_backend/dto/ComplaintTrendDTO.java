@@ -0,0 +1,27 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Complaints filed per bucket over a range. Every bucket in the range is present, zero
+ * if nothing was filed in it; {@code from} and {@code to} are the requested bounds
+ * widened to whole buckets.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintTrendDTO {
+    private TrendGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Bucket> buckets;
+
+    public record Bucket(LocalDateTime start, long count) {}
+}
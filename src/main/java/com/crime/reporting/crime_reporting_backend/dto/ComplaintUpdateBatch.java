@@ -0,0 +1,22 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Updates for one topic collected over a short window, at most one per complaint. When a
+ * burst is too large to send as deltas, resync is set and updates is empty: the client
+ * should reload the listing instead.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintUpdateBatch {
+    private List<ComplaintUpdateMessage> updates;
+    private boolean resync;
+}
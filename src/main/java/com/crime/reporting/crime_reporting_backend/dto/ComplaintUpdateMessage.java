@@ -0,0 +1,33 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A complaint change pushed to dashboards over WebSocket. Carries only what changed, so
+ * clients patch their lists instead of reloading them; the previous officer and
+ * department are set when a complaint moves, so the old owner can drop it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintUpdateMessage {
+    private ComplaintEventType type;
+    private Long complaintId;
+    private ComplaintStatus status;
+    private ComplaintStatus previousStatus;
+    private CrimeType crimeType;
+    private Long officerId;
+    private Long previousOfficerId;
+    private Long departmentId;
+    private Long previousDepartmentId;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,36 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import com.crime.reporting.crime_reporting_backend.entity.ReportPeriod;
+import com.crime.reporting.crime_reporting_backend.entity.ReportType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportScheduleRequest {
+    @NotBlank(message = "Schedule name is required")
+    private String name;
+    
+    @NotNull(message = "Report type is required")
+    private ReportType reportType;
+    
+    @NotNull(message = "Report period is required")
+    private ReportPeriod period;
+    
+    @NotBlank(message = "Cron expression is required")
+    private String cronExpression;
+    
+    private Long departmentId;
+    
+    private String status;
+    
+    private String crimeType;
+    
+    private Boolean enabled;
+}
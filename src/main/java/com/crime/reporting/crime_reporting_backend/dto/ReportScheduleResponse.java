@@ -0,0 +1,29 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import com.crime.reporting.crime_reporting_backend.entity.ReportPeriod;
+import com.crime.reporting.crime_reporting_backend.entity.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportScheduleResponse {
+    private Long id;
+    private String name;
+    private ReportType reportType;
+    private ReportPeriod period;
+    private String cronExpression;
+    private Long departmentId;
+    private String status;
+    private String crimeType;
+    private boolean enabled;
+    private LocalDateTime nextRunAt;
+    private LocalDateTime lastRunAt;
+    private String lockedBy;
+}
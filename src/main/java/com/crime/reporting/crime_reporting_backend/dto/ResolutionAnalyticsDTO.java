@@ -0,0 +1,29 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Resolution-time percentiles and distinct complainant count for a date range,
+ * answered from the merged daily sketches
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResolutionAnalyticsDTO {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long departmentId;
+    private Long officerId;
+    private long complaintCount;
+    private long resolvedCount;
+    private Double p50ResolutionDays;
+    private Double p90ResolutionDays;
+    private Double p99ResolutionDays;
+    private long distinctComplainants;
+}
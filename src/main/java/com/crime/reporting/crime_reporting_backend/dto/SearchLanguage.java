@@ -0,0 +1,40 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+/**
+ * Text search configuration for complaint search. Postgres ships English and French
+ * stemmers; Kinyarwanda has none, so it matches on unstemmed words. {@link #ALL} matches
+ * a term in any of the three.
+ */
+public enum SearchLanguage {
+    EN("english"),
+    FR("french"),
+    RW("simple"),
+    ALL("english");
+
+    private final String headlineConfig;
+
+    SearchLanguage(String headlineConfig) {
+        this.headlineConfig = headlineConfig;
+    }
+
+    /**
+     * Text search configuration used to highlight matches in the description
+     */
+    public String getHeadlineConfig() {
+        return headlineConfig;
+    }
+
+    /**
+     * SQL tsquery for the :text parameter. Unstemmed ('simple') matching is always
+     * included so exact words, names and Kinyarwanda terms are found in every language.
+     */
+    public String toQueryExpression() {
+        return switch (this) {
+            case EN -> "websearch_to_tsquery('english', :text) || websearch_to_tsquery('simple', :text)";
+            case FR -> "websearch_to_tsquery('french', :text) || websearch_to_tsquery('simple', :text)";
+            case RW -> "websearch_to_tsquery('simple', :text)";
+            case ALL -> "websearch_to_tsquery('english', :text) || websearch_to_tsquery('french', :text) "
+                    + "|| websearch_to_tsquery('simple', :text)";
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.crime.reporting.crime_reporting_backend.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of a complaint trend. Buckets start where Postgres date_trunc puts them:
+ * on the hour, at midnight, on Monday and on the first of the month.
+ */
+public enum TrendGranularity {
+    HOUR("hour"),
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String sqlUnit;
+
+    TrendGranularity(String sqlUnit) {
+        this.sqlUnit = sqlUnit;
+    }
+
+    /**
+     * Field name for date_trunc
+     */
+    public String getSqlUnit() {
+        return sqlUnit;
+    }
+
+    /**
+     * Start of the bucket containing the given time
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Start of the bucket after the one starting at {@code bucketStart}
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return switch (this) {
+            case HOUR -> bucketStart.plusHours(1);
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
@@ -17,11 +17,13 @@ import java.util.List;
 @Table(name = "case_files")
 public class CaseFile {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "case_files_id_seq")
+    @SequenceGenerator(name = "case_files_id_seq", sequenceName = "case_files_id_seq", allocationSize = 50)
     private Long id;
     
     @OneToOne
-    @JoinColumn(name = "complaint_id", nullable = false, unique = true)
+    @JoinColumn(name = "complaint_id", nullable = false, unique = true,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Complaint complaint;
     
     @ManyToOne
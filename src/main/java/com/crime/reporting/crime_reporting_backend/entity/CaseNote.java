@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "case_notes")
 public class CaseNote {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "case_notes_id_seq")
+    @SequenceGenerator(name = "case_notes_id_seq", sequenceName = "case_notes_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
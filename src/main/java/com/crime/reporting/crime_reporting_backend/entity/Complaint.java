@@ -17,7 +17,8 @@ import java.util.List;
 @Table(name = "complaints")
 public class Complaint {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "complaints_id_seq")
+    @SequenceGenerator(name = "complaints_id_seq", sequenceName = "complaints_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
@@ -47,11 +48,15 @@ public class Complaint {
     @Column
     private Integer priorityScore;
     
+    /** Earliest complaint this one probably duplicates, set at submission */
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+    
     @OneToMany(mappedBy = "complaint", cascade = CascadeType.ALL)
     private List<Evidence> evidences;
     
-    @OneToOne(mappedBy = "complaint", cascade = CascadeType.ALL)
-    private CaseFile caseFile;
+    // The case file is looked up through CaseFileRepository.findByComplaint: an inverse
+    // one-to-one cannot be lazy, so mapping it here would load it with every complaint
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_officer_id")
@@ -0,0 +1,27 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of complaints filed on a day that currently have a given status and crime type.
+ * Maintained alongside complaint writes so dashboards never aggregate the complaints table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "complaint_daily_counts")
+public class ComplaintDailyCount {
+
+    @EmbeddedId
+    private ComplaintDailyCountId id;
+
+    @Column(name = "complaint_count", nullable = false)
+    private Long complaintCount;
+}
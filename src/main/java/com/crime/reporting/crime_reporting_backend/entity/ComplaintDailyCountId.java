@@ -0,0 +1,37 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ComplaintDailyCountId implements Serializable {
+
+    @Column(name = "count_date", nullable = false)
+    private LocalDate countDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ComplaintStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "crime_type", nullable = false, length = 50)
+    private CrimeType crimeType;
+
+    /**
+     * Counter stripe; concurrent writers for the same day, status and crime type spread
+     * their increments over several rows and readers sum the stripes
+     */
+    @Column(nullable = false)
+    private Integer slot;
+}
@@ -0,0 +1,58 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A complaint lifecycle event waiting for, or done with, delivery to listeners. Rows are
+ * written and claimed with plain SQL (see ComplaintOutboxRepository); the entity keeps
+ * the table in Hibernate's schema management.
+ * <p>
+ * Ids come from an identity column rather than a pooled sequence: they are drawn at
+ * insert time, just before commit, which is what makes id order the delivery order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "complaint_outbox")
+public class ComplaintOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long complaintId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ComplaintEventType eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Set while a dispatcher is delivering the event; expired claims are picked up again
+    private LocalDateTime claimedUntil;
+
+    // Set when delivery is given up after the maximum number of attempts
+    private LocalDateTime deadAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+}
@@ -0,0 +1,43 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mergeable summaries of the complaints filed on one day for one officer: a t-digest of
+ * resolution times in days and a HyperLogLog of complainant user ids
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "complaint_sketches")
+public class ComplaintSketch {
+
+    @EmbeddedId
+    private ComplaintSketchId id;
+
+    @Column(name = "complaint_count", nullable = false)
+    private Long complaintCount;
+
+    @Column(name = "resolved_count", nullable = false)
+    private Long resolvedCount;
+
+    @Column(name = "resolution_digest")
+    private byte[] resolutionDigest;
+
+    @Column(name = "complainant_hll", nullable = false)
+    private byte[] complainantHll;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
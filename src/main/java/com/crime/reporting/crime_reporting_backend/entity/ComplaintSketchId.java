@@ -0,0 +1,29 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ComplaintSketchId implements Serializable {
+
+    /** Key used for complaints without an assigned officer or department */
+    public static final long UNASSIGNED = 0L;
+
+    @Column(name = "sketch_date", nullable = false)
+    private LocalDate sketchDate;
+
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Column(name = "officer_id", nullable = false)
+    private Long officerId;
+}
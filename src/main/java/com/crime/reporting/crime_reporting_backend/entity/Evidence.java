@@ -16,11 +16,12 @@ import java.time.LocalDateTime;
 @Table(name = "evidences")
 public class Evidence {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evidences_id_seq")
+    @SequenceGenerator(name = "evidences_id_seq", sequenceName = "evidences_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
-    @JoinColumn(name = "complaint_id", nullable = false)
+    @JoinColumn(name = "complaint_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Complaint complaint;
     
     @Enumerated(EnumType.STRING)
@@ -20,7 +20,8 @@ import java.util.List;
 @Table(name = "police_officers")
 public class PoliceOfficer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "police_officers_id_seq")
+    @SequenceGenerator(name = "police_officers_id_seq", sequenceName = "police_officers_id_seq", allocationSize = 50)
     private Long id;
     
     @OneToOne
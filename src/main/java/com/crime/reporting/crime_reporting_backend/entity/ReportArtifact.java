@@ -0,0 +1,55 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pre-rendered report stored in the artifact area, keyed by report type, parameters and period
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "report_artifacts", uniqueConstraints = @UniqueConstraint(
+        name = "uk_report_artifacts_key",
+        columnNames = {"report_type", "parameter_key", "period_start", "period_end"}))
+public class ReportArtifact {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_artifacts_id_seq")
+    @SequenceGenerator(name = "report_artifacts_id_seq", sequenceName = "report_artifacts_id_seq", allocationSize = 50)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type", nullable = false)
+    private ReportType reportType;
+    
+    @Column(name = "parameter_key", nullable = false)
+    private String parameterKey;
+    
+    @Column(name = "period_start", nullable = false)
+    private LocalDateTime periodStart;
+    
+    @Column(name = "period_end", nullable = false)
+    private LocalDateTime periodEnd;
+    
+    @Column(nullable = false)
+    private String fileName;
+    
+    @Column(nullable = false)
+    private String contentType;
+    
+    @Column(nullable = false)
+    private Long sizeBytes;
+    
+    @Column
+    private Long scheduleId;
+    
+    @Column(nullable = false)
+    private LocalDateTime generatedAt;
+}
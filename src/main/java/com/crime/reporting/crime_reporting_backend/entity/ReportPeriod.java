@@ -0,0 +1,37 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Reporting period covered by a scheduled report, relative to the time the schedule runs.
+ * Periods are aligned to whole days so the same request always maps to the same artifact.
+ */
+public enum ReportPeriod {
+    PREVIOUS_DAY,
+    PREVIOUS_WEEK,
+    PREVIOUS_MONTH;
+
+    public LocalDateTime startFor(LocalDate today) {
+        return switch (this) {
+            case PREVIOUS_DAY -> today.minusDays(1).atStartOfDay();
+            case PREVIOUS_WEEK -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1).atStartOfDay();
+            case PREVIOUS_MONTH -> today.withDayOfMonth(1).minusMonths(1).atStartOfDay();
+        };
+    }
+
+    /**
+     * Last second of the period, matching the inclusive BETWEEN filters used by the reports
+     */
+    public LocalDateTime endFor(LocalDate today) {
+        LocalDateTime start = startFor(today);
+        LocalDateTime nextStart = switch (this) {
+            case PREVIOUS_DAY -> start.plusDays(1);
+            case PREVIOUS_WEEK -> start.plusWeeks(1);
+            case PREVIOUS_MONTH -> start.plusMonths(1);
+        };
+        return nextStart.minusSeconds(1);
+    }
+}
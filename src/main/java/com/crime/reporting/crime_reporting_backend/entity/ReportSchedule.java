@@ -0,0 +1,74 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cron-driven definition of a standard report that is rendered ahead of time
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "report_schedules")
+public class ReportSchedule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_schedules_id_seq")
+    @SequenceGenerator(name = "report_schedules_id_seq", sequenceName = "report_schedules_id_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String name;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReportType reportType;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReportPeriod period;
+    
+    // Spring cron format: second minute hour day-of-month month day-of-week
+    @Column(nullable = false)
+    private String cronExpression;
+    
+    @Column
+    private Long departmentId;
+    
+    @Column
+    private String status;
+    
+    @Column
+    private String crimeType;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean enabled = true;
+    
+    @Column
+    private LocalDateTime nextRunAt;
+    
+    @Column
+    private LocalDateTime lastRunAt;
+    
+    // Node currently rendering this schedule and how long its claim is valid
+    @Column
+    private String lockedBy;
+    
+    @Column
+    private LocalDateTime lockedUntil;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,8 @@
+package com.crime.reporting.crime_reporting_backend.entity;
+
+public enum ReportType {
+    COMPLAINTS,
+    OFFICER_PERFORMANCE,
+    USER_ACTIVITY,
+    SYSTEM_OVERVIEW
+}
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "witness_statements")
 public class WitnessStatement {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "witness_statements_id_seq")
+    @SequenceGenerator(name = "witness_statements_id_seq", sequenceName = "witness_statements_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
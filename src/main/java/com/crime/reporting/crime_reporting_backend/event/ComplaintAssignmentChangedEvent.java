@@ -0,0 +1,16 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A complaint was assigned, reassigned or unassigned; officerId is null after unassignment
+ */
+public record ComplaintAssignmentChangedEvent(
+        long complaintId,
+        Long previousOfficerId,
+        Long officerId,
+        ComplaintStatus previousStatus,
+        ComplaintStatus status,
+        LocalDateTime occurredAt) implements ComplaintEvent {}
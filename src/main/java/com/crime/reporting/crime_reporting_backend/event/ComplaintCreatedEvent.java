@@ -0,0 +1,14 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+
+import java.time.LocalDateTime;
+
+public record ComplaintCreatedEvent(
+        long complaintId,
+        long userId,
+        CrimeType crimeType,
+        ComplaintStatus status,
+        LocalDateTime dateFiled,
+        LocalDateTime occurredAt) implements ComplaintEvent {}
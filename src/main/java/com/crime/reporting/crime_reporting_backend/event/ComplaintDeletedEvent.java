@@ -0,0 +1,13 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+
+import java.time.LocalDateTime;
+
+public record ComplaintDeletedEvent(
+        long complaintId,
+        ComplaintStatus status,
+        CrimeType crimeType,
+        Long officerId,
+        LocalDateTime occurredAt) implements ComplaintEvent {}
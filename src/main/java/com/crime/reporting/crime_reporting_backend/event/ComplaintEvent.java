@@ -0,0 +1,19 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change in a complaint's lifecycle. Events are written to the outbox in the
+ * transaction that makes the change and delivered after commit, in order per complaint,
+ * to Spring {@code @EventListener} methods for the concrete event type.
+ * <p>
+ * Delivery is at least once: a listener may see the same event again after a failure or
+ * restart and must tolerate that.
+ */
+public sealed interface ComplaintEvent permits ComplaintCreatedEvent, ComplaintAssignmentChangedEvent,
+        ComplaintStatusChangedEvent, ComplaintUpdatedEvent, ComplaintDeletedEvent {
+
+    long complaintId();
+
+    LocalDateTime occurredAt();
+}
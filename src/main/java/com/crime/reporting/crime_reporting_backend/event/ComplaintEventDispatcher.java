@@ -0,0 +1,180 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.config.datasource.WorkloadContext;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintOutboxRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintOutboxRepository.ClaimedEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Delivers outbox events to the application's {@code @EventListener}s. Each poll claims
+ * a batch, delivers every complaint's events in order on its own virtual thread, and then
+ * records the outcome: delivered events are marked published; on the first failure in a
+ * complaint's lane the event is scheduled for a retry with exponential backoff and the
+ * lane's later events are released to wait behind it.
+ * <p>
+ * Claims are leases, so events claimed by an instance that dies are delivered again once
+ * the lease expires.
+ * <p>
+ * Polling, delivery (including the listeners) and purging use the events pool so they are
+ * not queued behind imports, archiving or report generation on the background pool.
+ */
+@Component
+@Slf4j
+@ConnectionPool(Workload.EVENTS)
+public class ComplaintEventDispatcher {
+
+    private static final long MAX_RETRY_DELAY_SECONDS = 300;
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final ComplaintOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("complaint-events-", 0).factory());
+
+    @Value("${complaints.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${complaints.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${complaints.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${complaints.outbox.retention-days:7}")
+    private int retentionDays;
+
+    public ComplaintEventDispatcher(ComplaintOutboxRepository outboxRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${complaints.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        List<ClaimedEntry> batch;
+        do {
+            batch = transactionTemplate.execute(status -> outboxRepository.claim(batchSize, leaseSeconds));
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            deliver(batch);
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${complaints.outbox.purge-cron:0 15 4 * * *}")
+    public void purgePublished() {
+        int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} published complaint events", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void deliver(List<ClaimedEntry> batch) {
+        Map<Long, List<ClaimedEntry>> lanes = new LinkedHashMap<>();
+        for (ClaimedEntry entry : batch) {
+            lanes.computeIfAbsent(entry.complaintId(), id -> new ArrayList<>()).add(entry);
+        }
+
+        List<Future<LaneResult>> futures = new ArrayList<>(lanes.size());
+        for (List<ClaimedEntry> lane : lanes.values()) {
+            // Listeners that touch the database use the events pool, like the dispatcher
+            Callable<LaneResult> task = WorkloadContext.propagate(() -> deliverLane(lane));
+            futures.add(executor.submit(task));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseSeconds);
+        List<LaneResult> results = new ArrayList<>(futures.size());
+        for (Future<LaneResult> future : futures) {
+            try {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // Claims of this lane expire and are delivered again
+                future.cancel(true);
+                log.warn("Complaint event delivery did not finish within the {} s lease", leaseSeconds);
+            } catch (ExecutionException e) {
+                log.error("Complaint event lane failed unexpectedly", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (LaneResult result : results) {
+                outboxRepository.markPublished(result.published());
+                if (result.failed() != null) {
+                    ClaimedEntry failed = result.failed();
+                    outboxRepository.markFailed(failed.id(), truncate(result.error()), retryDelaySeconds(failed),
+                            maxAttempts);
+                    if (failed.attempts() + 1 >= maxAttempts) {
+                        log.error("Giving up on complaint event {} ({}) for complaint {} after {} attempts",
+                                failed.id(), failed.eventType(), failed.complaintId(), maxAttempts);
+                    }
+                    outboxRepository.release(result.heldBack());
+                }
+            }
+        });
+    }
+
+    private LaneResult deliverLane(List<ClaimedEntry> lane) {
+        List<Long> published = new ArrayList<>(lane.size());
+        for (int i = 0; i < lane.size(); i++) {
+            ClaimedEntry entry = lane.get(i);
+            try {
+                ComplaintEvent event = objectMapper.readValue(entry.payload(), entry.eventType().getEventClass());
+                eventPublisher.publishEvent(event);
+                published.add(entry.id());
+            } catch (Exception e) {
+                log.warn("Delivery of complaint event {} ({}) for complaint {} failed: {}",
+                        entry.id(), entry.eventType(), entry.complaintId(), e.getMessage());
+                List<Long> heldBack = lane.subList(i + 1, lane.size()).stream().map(ClaimedEntry::id).toList();
+                return new LaneResult(published, entry, e.toString(), heldBack);
+            }
+        }
+        return new LaneResult(published, null, null, List.of());
+    }
+
+    private static long retryDelaySeconds(ClaimedEntry entry) {
+        return Math.min(MAX_RETRY_DELAY_SECONDS, 1L << Math.min(entry.attempts(), 16));
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private record LaneResult(List<Long> published, ClaimedEntry failed, String error, List<Long> heldBack) {}
+}
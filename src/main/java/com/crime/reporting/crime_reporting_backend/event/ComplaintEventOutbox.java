@@ -0,0 +1,99 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintOutboxRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintOutboxRepository.NewEntry;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintSyncLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records complaint events in the outbox as part of the transaction that changes the
+ * complaint, so an event is stored if and only if the change commits.
+ * <p>
+ * Events are buffered and written just before commit, after the persistence context is
+ * flushed. By then the transaction holds the row locks of the complaints it changed, so a
+ * later transaction on the same complaint cannot write its events until this one has
+ * committed; outbox ids therefore follow commit order per complaint.
+ * <p>
+ * The same events feed the officers' sync log ({@link ComplaintSyncLog}) in the same step.
+ */
+@Component
+@RequiredArgsConstructor
+public class ComplaintEventOutbox {
+
+    private final ComplaintOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ComplaintSyncLog complaintSyncLog;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ComplaintEvent event) {
+        pendingEvents().events.add(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<? extends ComplaintEvent> events) {
+        pendingEvents().events.addAll(events);
+    }
+
+    private PendingEvents pendingEvents() {
+        // Looked up among the current transaction's synchronizations so an inner
+        // REQUIRES_NEW transaction gets its own buffer
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEvents pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingEvents pending = new PendingEvents();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void write(List<ComplaintEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        List<NewEntry> entries = new ArrayList<>(events.size());
+        for (ComplaintEvent event : events) {
+            entries.add(new NewEntry(event.complaintId(), ComplaintEventType.of(event), toJson(event)));
+        }
+        outboxRepository.append(entries);
+        complaintSyncLog.recordEvents(events);
+    }
+
+    private String toJson(ComplaintEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    private final class PendingEvents implements TransactionSynchronization {
+        private final List<ComplaintEvent> events = new ArrayList<>();
+
+        ComplaintEventOutbox owner() {
+            return ComplaintEventOutbox.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            write(events);
+        }
+    }
+}
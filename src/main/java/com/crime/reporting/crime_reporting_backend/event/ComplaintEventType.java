@@ -0,0 +1,33 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+/**
+ * Outbox discriminator for each event record; stored by name, so constants must not be
+ * renamed while undelivered events may still reference them
+ */
+public enum ComplaintEventType {
+    CREATED(ComplaintCreatedEvent.class),
+    ASSIGNMENT_CHANGED(ComplaintAssignmentChangedEvent.class),
+    STATUS_CHANGED(ComplaintStatusChangedEvent.class),
+    UPDATED(ComplaintUpdatedEvent.class),
+    DELETED(ComplaintDeletedEvent.class);
+
+    private final Class<? extends ComplaintEvent> eventClass;
+
+    ComplaintEventType(Class<? extends ComplaintEvent> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    public Class<? extends ComplaintEvent> getEventClass() {
+        return eventClass;
+    }
+
+    public static ComplaintEventType of(ComplaintEvent event) {
+        return switch (event) {
+            case ComplaintCreatedEvent e -> CREATED;
+            case ComplaintAssignmentChangedEvent e -> ASSIGNMENT_CHANGED;
+            case ComplaintStatusChangedEvent e -> STATUS_CHANGED;
+            case ComplaintUpdatedEvent e -> UPDATED;
+            case ComplaintDeletedEvent e -> DELETED;
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+
+import java.time.LocalDateTime;
+
+public record ComplaintStatusChangedEvent(
+        long complaintId,
+        ComplaintStatus previousStatus,
+        ComplaintStatus status,
+        Long officerId,
+        LocalDateTime occurredAt) implements ComplaintEvent {}
@@ -0,0 +1,15 @@
+package com.crime.reporting.crime_reporting_backend.event;
+
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * The complainant edited the crime type, description or location
+ */
+public record ComplaintUpdatedEvent(
+        long complaintId,
+        CrimeType previousCrimeType,
+        CrimeType crimeType,
+        Long officerId,
+        LocalDateTime occurredAt) implements ComplaintEvent {}
@@ -0,0 +1,231 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC writes for bulk complaint imports and bulk updates, which skip building and
+ * flushing a managed entity per row. Imports use multi-row INSERT statements, with ids
+ * drawn from complaints_id_seq in the same pooled blocks Hibernate uses for
+ * {@link com.crime.reporting.crime_reporting_backend.entity.Complaint}; updates go out as
+ * one JDBC batch.
+ */
+@Repository
+public class ComplaintBulkRepository {
+
+    /** Rows per INSERT statement; 9 columns each keeps the bind count well under the driver's 32767 */
+    public static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    /** Must match the allocationSize of Complaint's sequence generator */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_PREFIX = "INSERT INTO complaints "
+            + "(id, user_id, crime_type, description, location, status, priority_score, date_filed, date_last_updated) VALUES ";
+
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String LOCK_SQL = "SELECT id, status, crime_type, date_filed, assigned_officer_id "
+            + "FROM complaints WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+
+    private static final String ASSIGN_SQL =
+            "UPDATE complaints SET assigned_officer_id = ?, status = ?, date_last_updated = ? WHERE id = ?";
+
+    private static final String STATUS_SQL = "UPDATE complaints SET status = ?, date_last_updated = ? WHERE id = ?";
+
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final String fullStatementSql = insertSql(MAX_ROWS_PER_STATEMENT);
+
+    public ComplaintBulkRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * A validated complaint ready for insertion
+     */
+    public record NewComplaint(
+            long userId,
+            CrimeType crimeType,
+            String description,
+            String location,
+            ComplaintStatus status,
+            int priorityScore,
+            LocalDateTime dateFiled) {}
+
+    /**
+     * The fields of a complaint a bulk update checks and changes
+     */
+    public record ComplaintState(
+            long id,
+            ComplaintStatus status,
+            CrimeType crimeType,
+            LocalDateTime dateFiled,
+            Long assignedOfficerId) {}
+
+    /**
+     * A change to apply: the complaint's new status and, for assignments, its new officer
+     */
+    public record ComplaintUpdate(long id, ComplaintStatus status, Long assignedOfficerId) {}
+
+    /**
+     * Inserts the complaints in statements of up to {@link #MAX_ROWS_PER_STATEMENT} rows,
+     * within the caller's transaction
+     *
+     * @return the ids of the inserted complaints, in input order
+     */
+    public long[] insert(List<NewComplaint> complaints) {
+        LocalDateTime now = LocalDateTime.now();
+        long[] ids = allocateIds(complaints.size());
+        for (int from = 0; from < complaints.size(); from += MAX_ROWS_PER_STATEMENT) {
+            int offset = from;
+            List<NewComplaint> rows = complaints.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, complaints.size()));
+            String sql = rows.size() == MAX_ROWS_PER_STATEMENT ? fullStatementSql : insertSql(rows.size());
+            jdbcTemplate.update(sql, ps -> bindRows(ps, rows, ids, offset, now));
+        }
+        return ids;
+    }
+
+    /**
+     * Draws enough sequence values for the given number of ids. Like Hibernate's pooled
+     * optimizer, each value v reserves the block (v - 50, v], skipping ids below 1 on a
+     * fresh sequence.
+     */
+    private long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            int blocks = (count - filled + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+            List<Long> highs = jdbcTemplate.queryForList(
+                    "SELECT nextval('complaints_id_seq') FROM generate_series(1, ?)", Long.class, blocks);
+            for (long high : highs) {
+                for (long id = Math.max(1, high - ID_ALLOCATION_SIZE + 1); id <= high && filled < count; id++) {
+                    ids[filled++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Loads the complaints and locks their rows until the caller's transaction ends, so
+     * nothing changes them between validation and update. Rows are locked in id order to
+     * avoid deadlocks between overlapping bulk requests.
+     */
+    public Map<Long, ComplaintState> lockForUpdate(Collection<Long> ids) {
+        Map<Long, ComplaintState> complaints = new HashMap<>();
+        if (ids.isEmpty()) {
+            return complaints;
+        }
+        namedJdbcTemplate.query(LOCK_SQL, new MapSqlParameterSource("ids", ids), rs -> {
+            complaints.put(rs.getLong("id"), new ComplaintState(
+                    rs.getLong("id"),
+                    ComplaintStatus.valueOf(rs.getString("status")),
+                    CrimeType.valueOf(rs.getString("crime_type")),
+                    rs.getObject("date_filed", LocalDateTime.class),
+                    rs.getObject("assigned_officer_id", Long.class)));
+        });
+        return complaints;
+    }
+
+    /**
+     * Sets officer and status on each complaint in one JDBC batch
+     */
+    public void assign(List<ComplaintUpdate> updates, LocalDateTime updatedAt) {
+        jdbcTemplate.batchUpdate(ASSIGN_SQL, updates, UPDATE_BATCH_SIZE, (ps, update) -> {
+            ps.setLong(1, update.assignedOfficerId());
+            ps.setString(2, update.status().name());
+            ps.setObject(3, updatedAt);
+            ps.setLong(4, update.id());
+        });
+    }
+
+    /**
+     * Sets the status of each complaint in one JDBC batch
+     */
+    public void updateStatus(List<ComplaintUpdate> updates, LocalDateTime updatedAt) {
+        jdbcTemplate.batchUpdate(STATUS_SQL, updates, UPDATE_BATCH_SIZE, (ps, update) -> {
+            ps.setString(1, update.status().name());
+            ps.setObject(2, updatedAt);
+            ps.setLong(3, update.id());
+        });
+    }
+
+    /**
+     * User ids for the given emails, matched exactly as login does; unknown emails are absent
+     */
+    public Map<String, Long> findUserIdsByEmail(Collection<String> emails) {
+        Map<String, Long> ids = new HashMap<>();
+        if (emails.isEmpty()) {
+            return ids;
+        }
+        namedJdbcTemplate.query("SELECT id, email FROM users WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", emails),
+                rs -> {
+                    ids.put(rs.getString("email"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    /**
+     * The subset of the given user ids that exist
+     */
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList("SELECT id FROM users WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", userIds), Long.class));
+    }
+
+    private static void bindRows(PreparedStatement ps, List<NewComplaint> rows, long[] ids, int offset,
+                                 LocalDateTime now) throws SQLException {
+        int i = 1;
+        for (int r = 0; r < rows.size(); r++) {
+            NewComplaint row = rows.get(r);
+            ps.setLong(i++, ids[offset + r]);
+            ps.setLong(i++, row.userId());
+            ps.setString(i++, row.crimeType().name());
+            ps.setString(i++, row.description());
+            if (row.location() != null) {
+                ps.setString(i++, row.location());
+            } else {
+                ps.setNull(i++, Types.VARCHAR);
+            }
+            ps.setString(i++, row.status().name());
+            ps.setInt(i++, row.priorityScore());
+            ps.setObject(i++, row.dateFiled());
+            ps.setObject(i++, now);
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDERS.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintDailyCount;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintDailyCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ComplaintDailyCountRepository extends JpaRepository<ComplaintDailyCount, ComplaintDailyCountId> {
+    
+    /**
+     * Adds delta to a counter row, creating it on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO complaint_daily_counts (count_date, status, crime_type, slot, complaint_count) " +
+            "VALUES (:countDate, :status, :crimeType, :slot, :delta) " +
+            "ON CONFLICT (count_date, status, crime_type, slot) " +
+            "DO UPDATE SET complaint_count = complaint_daily_counts.complaint_count + EXCLUDED.complaint_count",
+            nativeQuery = true)
+    void increment(LocalDate countDate, String status, String crimeType, int slot, long delta);
+    
+    @Query("SELECT d.id.status, SUM(d.complaintCount) FROM ComplaintDailyCount d GROUP BY d.id.status")
+    List<Object[]> sumByStatus();
+    
+    @Query("SELECT d.id.crimeType, SUM(d.complaintCount) FROM ComplaintDailyCount d " +
+            "GROUP BY d.id.crimeType HAVING SUM(d.complaintCount) > 0 ORDER BY SUM(d.complaintCount) DESC")
+    List<Object[]> sumByCrimeType();
+    
+    @Query("SELECT d.id.countDate, SUM(d.complaintCount) FROM ComplaintDailyCount d " +
+            "WHERE d.id.countDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY d.id.countDate HAVING SUM(d.complaintCount) > 0 ORDER BY d.id.countDate")
+    List<Object[]> sumByDateBetween(LocalDate startDate, LocalDate endDate);
+    
+    @Query("SELECT d.id.countDate, d.id.status, SUM(d.complaintCount) FROM ComplaintDailyCount d " +
+            "WHERE d.id.countDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY d.id.countDate, d.id.status")
+    List<Object[]> sumByDateAndStatusBetween(LocalDate startDate, LocalDate endDate);
+    
+    @Query("SELECT MIN(d.id.countDate) FROM ComplaintDailyCount d")
+    LocalDate findEarliestCountDate();
+    
+    @Query("SELECT MAX(d.id.countDate) FROM ComplaintDailyCount d")
+    LocalDate findLatestCountDate();
+    
+    @Query("SELECT MIN(c.dateFiled) FROM Complaint c")
+    LocalDateTime findEarliestDateFiled();
+    
+    @Query("SELECT MAX(c.dateFiled) FROM Complaint c")
+    LocalDateTime findLatestDateFiled();
+    
+    /**
+     * Folds the striped rows of the days in [startDate, endDate) into slot 0. Only the moved
+     * rows are locked; a writer that races the delete inserts its slot afresh.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "WITH moved AS (" +
+            "DELETE FROM complaint_daily_counts " +
+            "WHERE count_date >= :startDate AND count_date < :endDate AND slot <> 0 " +
+            "RETURNING count_date, status, crime_type, complaint_count) " +
+            "INSERT INTO complaint_daily_counts (count_date, status, crime_type, slot, complaint_count) " +
+            "SELECT count_date, status, crime_type, 0, SUM(complaint_count) FROM moved " +
+            "GROUP BY count_date, status, crime_type " +
+            "ON CONFLICT (count_date, status, crime_type, slot) " +
+            "DO UPDATE SET complaint_count = complaint_daily_counts.complaint_count + EXCLUDED.complaint_count",
+            nativeQuery = true)
+    int collapseSlots(LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Adds to slot 0 the difference between the complaints filed in [startDate, endDate) and
+     * their counters. Both are read from the statement's snapshot, and a writer still in
+     * progress has neither its complaint nor its increment in it, so its increment lands on
+     * top of the corrected count rather than being lost or counted twice.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO complaint_daily_counts (count_date, status, crime_type, slot, complaint_count) " +
+            "SELECT count_date, status, crime_type, 0, SUM(delta) FROM (" +
+            "SELECT CAST(date_filed AS DATE) AS count_date, status, crime_type, COUNT(*) AS delta " +
+            "FROM complaints " +
+            "WHERE date_filed >= :startDate AND date_filed < :endDate " +
+            "AND status IS NOT NULL AND crime_type IS NOT NULL " +
+            "GROUP BY CAST(date_filed AS DATE), status, crime_type " +
+            "UNION ALL " +
+            "SELECT count_date, status, crime_type, -CAST(SUM(complaint_count) AS BIGINT) " +
+            "FROM complaint_daily_counts " +
+            "WHERE count_date >= :startDate AND count_date < :endDate " +
+            "GROUP BY count_date, status, crime_type) diff " +
+            "GROUP BY count_date, status, crime_type " +
+            "HAVING SUM(delta) <> 0 " +
+            "ON CONFLICT (count_date, status, crime_type, slot) " +
+            "DO UPDATE SET complaint_count = complaint_daily_counts.complaint_count + EXCLUDED.complaint_count",
+            nativeQuery = true)
+    int correctCounts(LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Drops the counters of the days in [startDate, endDate) that are back to zero
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM complaint_daily_counts " +
+            "WHERE count_date >= :startDate AND count_date < :endDate AND complaint_count = 0",
+            nativeQuery = true)
+    int deleteEmptyCounts(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,149 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SQL access to the complaint_outbox table. Writers append in their own transaction;
+ * dispatchers claim batches under a lease and then mark each event published, failed or
+ * released.
+ */
+@Repository
+public class ComplaintOutboxRepository {
+
+    /** Advisory lock key that serialises claiming across application instances */
+    private static final long CLAIM_LOCK_KEY = 0x636f6d706c6f7574L;
+
+    private static final String APPEND_SQL = "INSERT INTO complaint_outbox "
+            + "(complaint_id, event_type, payload, created_at, attempts, next_attempt_at) "
+            + "VALUES (?, ?, ?, LOCALTIMESTAMP, 0, LOCALTIMESTAMP)";
+
+    /**
+     * Claims the oldest deliverable events. An event is held back while an earlier
+     * undelivered event of the same complaint is waiting for a retry or claimed by another
+     * dispatcher, so each complaint's events are delivered in order.
+     */
+    private static final String CLAIM_SQL = """
+            UPDATE complaint_outbox o
+            SET claimed_until = LOCALTIMESTAMP + make_interval(secs => :leaseSeconds)
+            WHERE o.id IN (
+                SELECT c.id FROM complaint_outbox c
+                WHERE c.published_at IS NULL AND c.dead_at IS NULL
+                  AND c.next_attempt_at <= LOCALTIMESTAMP
+                  AND (c.claimed_until IS NULL OR c.claimed_until < LOCALTIMESTAMP)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM complaint_outbox p
+                      WHERE p.complaint_id = c.complaint_id AND p.id < c.id
+                        AND p.published_at IS NULL AND p.dead_at IS NULL
+                        AND (p.next_attempt_at > LOCALTIMESTAMP OR p.claimed_until >= LOCALTIMESTAMP))
+                ORDER BY c.id
+                LIMIT :limit)
+            RETURNING o.id, o.complaint_id, o.event_type, o.payload, o.attempts""";
+
+    private static final String PUBLISHED_SQL =
+            "UPDATE complaint_outbox SET published_at = LOCALTIMESTAMP, claimed_until = NULL WHERE id IN (:ids)";
+
+    private static final String RELEASE_SQL = "UPDATE complaint_outbox SET claimed_until = NULL WHERE id IN (:ids)";
+
+    private static final String FAILED_SQL = """
+            UPDATE complaint_outbox
+            SET attempts = attempts + 1,
+                last_error = :error,
+                claimed_until = NULL,
+                next_attempt_at = LOCALTIMESTAMP + make_interval(secs => :retryDelaySeconds),
+                dead_at = CASE WHEN attempts + 1 >= :maxAttempts THEN LOCALTIMESTAMP END
+            WHERE id = :id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ComplaintOutboxRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public record NewEntry(long complaintId, ComplaintEventType eventType, String payload) {}
+
+    public record ClaimedEntry(long id, long complaintId, ComplaintEventType eventType, String payload, int attempts) {}
+
+    /**
+     * Appends events within the caller's transaction, as one JDBC batch
+     */
+    public void append(List<NewEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPEND_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.complaintId());
+            ps.setString(2, entry.eventType().name());
+            ps.setString(3, entry.payload());
+        });
+    }
+
+    /**
+     * Claims up to limit deliverable events, oldest first, for leaseSeconds. Must run in a
+     * transaction; returns nothing if another instance is claiming at the same moment.
+     */
+    public List<ClaimedEntry> claim(int limit, long leaseSeconds) {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                CLAIM_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("leaseSeconds", leaseSeconds)
+                .addValue("limit", limit);
+        List<ClaimedEntry> claimed = namedJdbcTemplate.query(CLAIM_SQL, params, (rs, rowNum) -> new ClaimedEntry(
+                rs.getLong("id"),
+                rs.getLong("complaint_id"),
+                ComplaintEventType.valueOf(rs.getString("event_type")),
+                rs.getString("payload"),
+                rs.getInt("attempts")));
+        // RETURNING does not preserve the subquery's order
+        return claimed.stream().sorted(Comparator.comparingLong(ClaimedEntry::id)).toList();
+    }
+
+    public void markPublished(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            namedJdbcTemplate.update(PUBLISHED_SQL, new MapSqlParameterSource("ids", ids));
+        }
+    }
+
+    /**
+     * Gives up a claim without counting an attempt, e.g. for events queued behind a
+     * failed event of the same complaint
+     */
+    public void release(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            namedJdbcTemplate.update(RELEASE_SQL, new MapSqlParameterSource("ids", ids));
+        }
+    }
+
+    /**
+     * Records a failed delivery; the event is retried after the delay, or marked dead once
+     * it has failed maxAttempts times
+     */
+    public void markFailed(long id, String error, long retryDelaySeconds, int maxAttempts) {
+        namedJdbcTemplate.update(FAILED_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("error", error)
+                .addValue("retryDelaySeconds", retryDelaySeconds)
+                .addValue("maxAttempts", maxAttempts));
+    }
+
+    /**
+     * Deletes events published before the cutoff; dead events are kept for inspection
+     */
+    public int deletePublishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM complaint_outbox WHERE published_at < ?", cutoff);
+    }
+}
@@ -0,0 +1,118 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Maintenance of the monthly complaint partitions (V4.9): creating months before
+ * complaints are filed into them, moving rows that landed in the default partition into
+ * their month, and moving old finished complaints from a month's hot partition into its
+ * cold one.
+ * <p>
+ * Creating a partition locks the whole complaints table, so callers create months outside
+ * their own transactions.
+ */
+@Repository
+public class ComplaintPartitionRepository {
+
+    private static final String PARTITIONED_SQL =
+            "SELECT COALESCE((SELECT relkind = 'p' FROM pg_class WHERE oid = to_regclass('complaints')), false)";
+
+    private static final String DEFAULT_PARTITION_MONTHS_SQL = """
+            SELECT DISTINCT CAST(date_trunc('month', date_filed) AS DATE) AS month
+            FROM complaints_default
+            ORDER BY month""";
+
+    /**
+     * Flipping archived moves each row to the cold partition of its month. The date bound
+     * keeps both scans to the months before the cutoff; locked rows are left for the
+     * next batch rather than waited on, and recently updated ones for a later run, since
+     * a writer blocked on a row that moves partition fails instead of following it.
+     */
+    private static final String ARCHIVE_SQL = """
+            UPDATE complaints
+            SET archived = true
+            WHERE NOT archived AND date_filed < :cutoff
+              AND (id, date_filed) IN (
+                  SELECT id, date_filed FROM complaints
+                  WHERE NOT archived AND date_filed < :cutoff AND status IN (:statuses)
+                    AND (date_last_updated IS NULL OR date_last_updated < :updatedBefore)
+                  LIMIT :limit
+                  FOR UPDATE SKIP LOCKED)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /** Set once the table is seen partitioned; migrations never undo it */
+    private volatile boolean partitioned;
+
+    public ComplaintPartitionRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Whether the complaints table has been partitioned by V4.9
+     */
+    public boolean isPartitioned() {
+        if (!partitioned) {
+            partitioned = Boolean.TRUE.equals(jdbcTemplate.queryForObject(PARTITIONED_SQL, Boolean.class));
+        }
+        return partitioned;
+    }
+
+    /**
+     * Creates the hot and cold partitions of the month containing the given day, if missing.
+     * Rows of that month already in the default partition are moved into it.
+     */
+    public void ensureMonth(LocalDate month) {
+        jdbcTemplate.queryForList("SELECT ensure_complaint_partition(?)", Date.valueOf(month));
+    }
+
+    /**
+     * Creates the partitions of every month containing one of the given dates, one
+     * statement per month; does nothing while the table is not partitioned
+     */
+    public void ensureMonthsOf(Collection<LocalDateTime> dates) {
+        if (dates.isEmpty() || !isPartitioned()) {
+            return;
+        }
+        dates.stream()
+                .map(date -> date.toLocalDate().withDayOfMonth(1))
+                .collect(Collectors.toCollection(TreeSet::new))
+                .forEach(this::ensureMonth);
+    }
+
+    /**
+     * First days of the months that have rows in the default partition
+     */
+    public List<LocalDate> findDefaultPartitionMonths() {
+        return jdbcTemplate.query(DEFAULT_PARTITION_MONTHS_SQL,
+                (rs, rowNum) -> rs.getDate("month").toLocalDate());
+    }
+
+    /**
+     * Archives up to limit complaints filed before the cutoff and not updated since
+     * updatedBefore whose status is one of the given ones, and returns how many were archived
+     */
+    public int archiveBatch(Collection<ComplaintStatus> statuses, LocalDateTime cutoff, LocalDateTime updatedBefore,
+                            int limit) {
+        return namedJdbcTemplate.update(ARCHIVE_SQL, new MapSqlParameterSource()
+                .addValue("statuses", statuses.stream().map(Enum::name).toList())
+                .addValue("cutoff", cutoff)
+                .addValue("updatedBefore", updatedBefore)
+                .addValue("limit", limit));
+    }
+}
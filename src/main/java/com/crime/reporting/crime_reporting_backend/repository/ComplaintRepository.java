@@ -4,16 +4,24 @@ import com.crime.reporting.crime_reporting_backend.entity.Complaint;
 import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
 import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
 import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.repository.projection.ComplaintReportRow;
+import com.crime.reporting.crime_reporting_backend.repository.projection.ComplaintSummary;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
@@ -58,19 +66,12 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     @Query("SELECT c.crimeType, COUNT(c) FROM Complaint c GROUP BY c.crimeType ORDER BY COUNT(c) DESC")
     List<Object[]> countByCrimeType();
     
-    @Query("SELECT FUNCTION('DATE', c.dateFiled) as date, COUNT(c) FROM Complaint c " +
-            "WHERE c.dateFiled BETWEEN :startDate AND :endDate " +
-            "GROUP BY FUNCTION('DATE', c.dateFiled) ORDER BY date")
-    List<Object[]> countByDateBetween(LocalDateTime startDate, LocalDateTime endDate);
-    
-    @Query("SELECT FUNCTION('MONTH', c.dateFiled), COUNT(c) FROM Complaint c " +
-            "WHERE FUNCTION('YEAR', c.dateFiled) = FUNCTION('YEAR', CURRENT_DATE) " +
-            "GROUP BY FUNCTION('MONTH', c.dateFiled)")
-    List<Object[]> countByMonthForCurrentYear();
-    
     @Query("SELECT COUNT(c) FROM Complaint c WHERE c.user.id = :userId")
     long countByUserId(Long userId);
     
+    @Query("SELECT c.id FROM Complaint c WHERE c.user.id = :userId")
+    List<Long> findIdsByUserId(Long userId);
+    
     @Query("SELECT c FROM Complaint c LEFT JOIN FETCH c.evidences WHERE c.user = :user")
     List<Complaint> findByUserWithEvidences(User user);
     
@@ -82,4 +83,106 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     List<Complaint> findByAssignedOfficerId(Long officerId);
     
     List<Complaint> findByUserId(Long userId);
+    
+    /**
+     * Inputs for the analytics sketches: filing time, department id, officer id, complainant id,
+     * status and last update time. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT c.dateFiled, d.id, o.id, c.user.id, c.status, c.dateLastUpdated FROM Complaint c " +
+            "LEFT JOIN c.assignedOfficer o LEFT JOIN o.department d " +
+            "WHERE c.dateFiled >= :start AND c.dateFiled < :end")
+    Stream<Object[]> streamSketchInputs(LocalDateTime start, LocalDateTime end);
+    
+    /**
+     * Inputs for the duplicate index: id, description, location, filing time and duplicate-of
+     * id. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT c.id, c.description, c.location, c.dateFiled, c.duplicateOfId FROM Complaint c " +
+            "WHERE c.dateFiled >= :since")
+    Stream<Object[]> streamDuplicateInputs(LocalDateTime since);
+    
+    /**
+     * Rows of the complaints report filed within [from, to], optionally of one status and
+     * crime type, in filing order. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.crime.reporting.crime_reporting_backend.repository.projection.ComplaintReportRow(" +
+            "c.id, c.dateFiled, c.crimeType, c.description, c.status, c.location) FROM Complaint c " +
+            "WHERE c.dateFiled >= :from AND c.dateFiled <= :to " +
+            "AND (:status IS NULL OR c.status = :status) AND (:crimeType IS NULL OR c.crimeType = :crimeType) " +
+            "ORDER BY c.dateFiled, c.id")
+    Stream<ComplaintReportRow> streamReportRows(LocalDateTime from, LocalDateTime to, ComplaintStatus status,
+                                                CrimeType crimeType);
+    
+    @Query("SELECT DISTINCT CAST(c.dateFiled AS LocalDate) FROM Complaint c WHERE c.dateLastUpdated >= :since")
+    List<LocalDate> findFilingDatesUpdatedSince(LocalDateTime since);
+    
+    /** Open filing date bounds; complaints are partitioned by month of dateFiled (V4.9) */
+    LocalDateTime FILED_MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    LocalDateTime FILED_MAX = LocalDateTime.of(9999, 1, 1, 0, 0);
+    
+    /**
+     * Keyset page of complaint summaries, newest first, ordered by (dateFiled, id) descending.
+     * A null afterId starts from the top; otherwise only rows strictly after the
+     * (afterDate, afterId) position are returned, so pages never shift when rows are added.
+     * Unbounded dates are passed as FILED_MIN / FILED_MAX (afterDate as FILED_MAX on the
+     * first page) so that every date bound is a plain comparison Postgres can prune
+     * month partitions with, whatever plan the statement is cached with.
+     */
+    @Query(ComplaintSummary.SELECT + "WHERE " +
+            "(:status IS NULL OR c.status = :status) AND " +
+            "(:crimeType IS NULL OR c.crimeType = :crimeType) AND " +
+            "(:assignedOfficerId IS NULL OR o.id = :assignedOfficerId) AND " +
+            "(:userId IS NULL OR u.id = :userId) AND " +
+            "c.dateFiled >= :filedFrom AND c.dateFiled < :filedTo AND c.dateFiled <= :afterDate AND " +
+            "(:afterId IS NULL OR (c.dateFiled, c.id) < (:afterDate, :afterId)) " +
+            "ORDER BY c.dateFiled DESC, c.id DESC")
+    List<ComplaintSummary> findSummaryPage(ComplaintStatus status, CrimeType crimeType, Long assignedOfficerId, Long userId,
+                                           LocalDateTime filedFrom, LocalDateTime filedTo,
+                                           LocalDateTime afterDate, Long afterId, Limit limit);
+    
+    /** Prefix of ComplaintStatus literals in JPQL */
+    String STATUS = "com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus.";
+    
+    /**
+     * Keyset page of an officer's open complaints, highest priority first and oldest first
+     * within a priority; unscored complaints rank as priority 0. Served by the partial index
+     * idx_complaints_officer_work_queue, whose predicate lists the same statuses.
+     */
+    @Query(ComplaintSummary.SELECT + "WHERE c.assignedOfficer.id = :officerId AND " +
+            "c.status IN (" + STATUS + "SUBMITTED, " + STATUS + "UNDER_REVIEW, " + STATUS + "ASSIGNED, " +
+            STATUS + "INVESTIGATING, " + STATUS + "PENDING_EVIDENCE) AND " +
+            "(:afterDate IS NULL OR COALESCE(c.priorityScore, 0) < :afterPriority OR " +
+            "(COALESCE(c.priorityScore, 0) = :afterPriority AND (c.dateFiled, c.id) > (:afterDate, :afterId))) " +
+            "ORDER BY COALESCE(c.priorityScore, 0) DESC, c.dateFiled, c.id")
+    List<ComplaintSummary> findWorkQueuePage(Long officerId, Integer afterPriority, LocalDateTime afterDate,
+                                             Long afterId, Limit limit);
+    
+    /** Clears links to a deleted complaint, which no foreign key can do on the partitioned table */
+    @Modifying
+    @Query("UPDATE Complaint c SET c.duplicateOfId = NULL WHERE c.duplicateOfId = :id")
+    int clearDuplicateLinksTo(Long id);
+    
+    @Query(ComplaintSummary.SELECT + "WHERE c.id IN :ids")
+    List<ComplaintSummary> findSummariesByIds(Collection<Long> ids);
+    
+    @Query(ComplaintSummary.SELECT + "WHERE o.id = :officerId ORDER BY c.dateFiled DESC, c.id DESC")
+    List<ComplaintSummary> findSummariesByAssignedOfficerId(Long officerId);
+    
+    /** Page of an officer's complaints in id order, for the paged sync snapshot */
+    @Query(ComplaintSummary.SELECT + "WHERE o.id = :officerId AND c.id > :afterId ORDER BY c.id")
+    List<ComplaintSummary> findSnapshotPage(Long officerId, long afterId, Limit limit);
+    
+    @Query(ComplaintSummary.SELECT + "WHERE c.assignedOfficer.id = :officerId " +
+            "ORDER BY c.dateLastUpdated DESC NULLS LAST, c.id DESC")
+    List<ComplaintSummary> findRecentlyUpdatedByAssignedOfficerId(Long officerId, Limit limit);
+    
+    @Query(ComplaintSummary.SELECT + "WHERE c.status = :status ORDER BY c.dateFiled DESC, c.id DESC")
+    List<ComplaintSummary> findSummariesByStatus(ComplaintStatus status);
+    
+    @Query(value = ComplaintSummary.SELECT + "WHERE u.id = :userId",
+            countQuery = "SELECT COUNT(c) FROM Complaint c WHERE c.user.id = :userId")
+    Page<ComplaintSummary> findSummariesByUserId(Long userId, Pageable pageable);
 } 
\ No newline at end of file
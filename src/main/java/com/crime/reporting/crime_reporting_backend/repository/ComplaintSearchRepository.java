@@ -0,0 +1,110 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintFilter;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintSearchHit;
+import com.crime.reporting.crime_reporting_backend.dto.SearchLanguage;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import com.crime.reporting.crime_reporting_backend.service.pagination.SearchCursor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Full-text search over complaint descriptions and locations using the generated
+ * search_vector column and its GIN index (see V4.4). Results are ranked with ts_rank_cd
+ * and paged by (rank, id); highlights are only computed for the rows of the page.
+ * <p>
+ * Highlights are HTML: the text is escaped before ts_headline adds its mark tags, so the
+ * only markup in them is the highlighting.
+ */
+@Repository
+public class ComplaintSearchRepository {
+
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+    /** HTML-escapes a text column; &amp; first so the other entities are not escaped twice */
+    private static final String ESCAPE_HTML = "replace(replace(replace(%s, '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+
+    /** Rank normalisation 32 scales ranks into [0, 1): rank / (rank + 1) */
+    private static final String RANK = "ts_rank_cd(c.search_vector, q.query, 32)";
+
+    private static final String SEARCH_SQL = """
+            SELECT page.id, page.status, page.crime_type, page.date_filed, page.location, page.search_rank,
+                   ts_headline(CAST(:headlineConfig AS regconfig), %4$s, page.query, :headlineOptions)
+                       AS description_highlight,
+                   ts_headline('simple', %5$s, page.query, :headlineOptions)
+                       AS location_highlight
+            FROM (
+                SELECT c.id, c.status, c.crime_type, c.date_filed, c.description, c.location, q.query,
+                       %1$s AS search_rank
+                FROM complaints c CROSS JOIN (SELECT %2$s AS query) q
+                WHERE %3$s
+                ORDER BY search_rank DESC, c.id DESC
+                LIMIT :limit
+            ) page
+            ORDER BY page.search_rank DESC, page.id DESC""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ComplaintSearchRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    public List<ComplaintSearchHit> search(String text, SearchLanguage language, ComplaintFilter filter,
+                                           SearchCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("text", text)
+                .addValue("headlineConfig", language.getHeadlineConfig())
+                .addValue("headlineOptions", HEADLINE_OPTIONS)
+                .addValue("limit", limit);
+
+        StringBuilder where = new StringBuilder("c.search_vector @@ q.query");
+        if (filter.getStatus() != null) {
+            where.append(" AND c.status = :status");
+            params.addValue("status", filter.getStatus().name());
+        }
+        if (filter.getCrimeType() != null) {
+            where.append(" AND c.crime_type = :crimeType");
+            params.addValue("crimeType", filter.getCrimeType().name());
+        }
+        if (filter.getAssignedOfficerId() != null) {
+            where.append(" AND c.assigned_officer_id = :assignedOfficerId");
+            params.addValue("assignedOfficerId", filter.getAssignedOfficerId());
+        }
+        if (filter.getUserId() != null) {
+            where.append(" AND c.user_id = :userId");
+            params.addValue("userId", filter.getUserId());
+        }
+        if (filter.getFiledFrom() != null) {
+            where.append(" AND c.date_filed >= :filedFrom");
+            params.addValue("filedFrom", filter.getFiledFrom());
+        }
+        if (filter.getFiledTo() != null) {
+            where.append(" AND c.date_filed < :filedTo");
+            params.addValue("filedTo", filter.getFiledTo());
+        }
+        if (after != null) {
+            where.append(" AND (").append(RANK).append(", c.id) < (CAST(:afterRank AS REAL), :afterId)");
+            params.addValue("afterRank", after.rank());
+            params.addValue("afterId", after.id());
+        }
+
+        String sql = SEARCH_SQL.formatted(RANK, language.toQueryExpression(), where,
+                ESCAPE_HTML.formatted("page.description"), ESCAPE_HTML.formatted("COALESCE(page.location, '')"));
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> ComplaintSearchHit.builder()
+                .id(rs.getLong("id"))
+                .status(ComplaintStatus.valueOf(rs.getString("status")))
+                .crimeType(CrimeType.valueOf(rs.getString("crime_type")))
+                .dateFiled(rs.getTimestamp("date_filed").toLocalDateTime())
+                .location(rs.getString("location"))
+                .rank(rs.getFloat("search_rank"))
+                .descriptionHighlight(rs.getString("description_highlight"))
+                .locationHighlight(rs.getString("location_highlight"))
+                .build());
+    }
+}
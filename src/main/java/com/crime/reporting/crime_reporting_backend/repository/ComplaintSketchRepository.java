@@ -0,0 +1,24 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintSketch;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintSketchId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ComplaintSketchRepository extends JpaRepository<ComplaintSketch, ComplaintSketchId> {
+    
+    @Query("SELECT s FROM ComplaintSketch s WHERE s.id.sketchDate BETWEEN :startDate AND :endDate " +
+            "AND (:departmentId IS NULL OR s.id.departmentId = :departmentId) " +
+            "AND (:officerId IS NULL OR s.id.officerId = :officerId)")
+    List<ComplaintSketch> findInRange(LocalDate startDate, LocalDate endDate, Long departmentId, Long officerId);
+    
+    @Modifying
+    @Query("DELETE FROM ComplaintSketch s WHERE s.id.sketchDate BETWEEN :startDate AND :endDate")
+    int deleteInRange(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,149 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.dto.TrendGranularity;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import com.crime.reporting.crime_reporting_backend.repository.projection.ComplaintAggregate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Dashboard aggregates in a single round trip: one GROUPING SETS statement yields the
+ * status, crime type and daily trend counts together. Days before the trend window fall
+ * into one NULL group, so the trend set never returns more rows than the window has days.
+ * <p>
+ * System-wide counts are read from the complaint_daily_counts counters; per-officer
+ * counts, which the counters do not carry, from the officer's complaints.
+ */
+@Repository
+public class ComplaintStatisticsRepository {
+
+    /** GROUPING() bitmask of each set: a bit is 1 where the column is aggregated away */
+    private static final int STATUS_SET = 0b011;
+    private static final int CRIME_TYPE_SET = 0b101;
+    private static final int TREND_SET = 0b110;
+
+    private static final String AGGREGATE_SQL = """
+            SELECT s.status, s.crime_type, s.trend_date, SUM(s.complaint_count) AS complaint_count,
+                   GROUPING(s.status, s.crime_type, s.trend_date) AS grouping_set
+            FROM (%s) s
+            GROUP BY GROUPING SETS ((s.status), (s.crime_type), (s.trend_date))""";
+
+    private static final String COUNTER_SOURCE = """
+            SELECT status, crime_type, complaint_count,
+                   CASE WHEN count_date >= :trendFrom THEN count_date END AS trend_date
+            FROM complaint_daily_counts""";
+
+    private static final String OFFICER_SOURCE = """
+            SELECT status, crime_type, 1 AS complaint_count,
+                   CASE WHEN date_filed >= :trendFrom THEN CAST(date_filed AS DATE) END AS trend_date
+            FROM complaints
+            WHERE assigned_officer_id = :officerId""";
+
+    /** Hourly buckets need filing times; coarser ones are summed from the daily counters */
+    private static final String HOURLY_SQL = """
+            SELECT date_trunc('hour', date_filed) AS bucket, COUNT(*) AS complaint_count
+            FROM complaints
+            WHERE date_filed >= :from AND date_filed < :to
+            GROUP BY 1""";
+
+    private static final String COUNTER_BUCKET_SQL = """
+            SELECT date_trunc('%s', CAST(count_date AS TIMESTAMP)) AS bucket, SUM(complaint_count) AS complaint_count
+            FROM complaint_daily_counts
+            WHERE count_date >= :from AND count_date < :to
+            GROUP BY 1""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ComplaintStatisticsRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Counts over all complaints, with daily trend counts from {@code trendFrom} on
+     */
+    public ComplaintAggregate aggregate(LocalDate trendFrom) {
+        return query(COUNTER_SOURCE, new MapSqlParameterSource("trendFrom", trendFrom));
+    }
+
+    /**
+     * Counts over the complaints assigned to an officer, with daily trend counts from
+     * {@code trendFrom} on
+     */
+    public ComplaintAggregate aggregateForOfficer(long officerId, LocalDate trendFrom) {
+        return query(OFFICER_SOURCE, new MapSqlParameterSource("trendFrom", trendFrom)
+                .addValue("officerId", officerId));
+    }
+
+    /**
+     * Complaints filed per bucket in [from, to), which must be bucket-aligned; buckets
+     * without complaints are omitted
+     */
+    public Map<LocalDateTime, Long> countByBucket(TrendGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql;
+        if (granularity == TrendGranularity.HOUR) {
+            sql = HOURLY_SQL;
+            params.addValue("from", from).addValue("to", to);
+        } else {
+            sql = String.format(COUNTER_BUCKET_SQL, granularity.getSqlUnit());
+            params.addValue("from", from.toLocalDate()).addValue("to", to.toLocalDate());
+        }
+
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            counts.put(rs.getObject("bucket", LocalDateTime.class), rs.getLong("complaint_count"));
+        });
+        return counts;
+    }
+
+    private ComplaintAggregate query(String source, MapSqlParameterSource params) {
+        Map<ComplaintStatus, Long> byStatus = new EnumMap<>(ComplaintStatus.class);
+        for (ComplaintStatus status : ComplaintStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<CrimeType, Long> crimeTypeCounts = new EnumMap<>(CrimeType.class);
+        Map<LocalDate, Long> byDate = new TreeMap<>();
+
+        jdbcTemplate.query(String.format(AGGREGATE_SQL, source), params, rs -> {
+            long count = rs.getLong("complaint_count");
+            switch (rs.getInt("grouping_set")) {
+                case STATUS_SET -> byStatus.put(ComplaintStatus.valueOf(rs.getString("status")), count);
+                case CRIME_TYPE_SET -> {
+                    if (count > 0) {
+                        crimeTypeCounts.put(CrimeType.valueOf(rs.getString("crime_type")), count);
+                    }
+                }
+                case TREND_SET -> {
+                    Date trendDate = rs.getDate("trend_date");
+                    if (trendDate != null && count > 0) {
+                        byDate.put(trendDate.toLocalDate(), count);
+                    }
+                }
+                default -> {
+                }
+            }
+        });
+
+        List<Map.Entry<CrimeType, Long>> crimeTypes = new ArrayList<>(crimeTypeCounts.entrySet());
+        crimeTypes.sort(Map.Entry.<CrimeType, Long>comparingByValue(Comparator.reverseOrder()));
+        Map<CrimeType, Long> byCrimeType = new LinkedHashMap<>();
+        crimeTypes.forEach(entry -> byCrimeType.put(entry.getKey(), entry.getValue()));
+
+        return new ComplaintAggregate(byStatus, byCrimeType, byDate);
+    }
+}
@@ -0,0 +1,112 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SQL access to complaint_sync_log (V5.0), the per-officer change log read by the
+ * mobile delta sync. Writers append in the transaction that makes the change; readers
+ * page through the changes of transactions between two watermarks.
+ */
+@Repository
+public class ComplaintSyncRepository {
+
+    private static final String APPEND_SQL = "INSERT INTO complaint_sync_log "
+            + "(officer_id, complaint_id, evidence_id, change_type) VALUES (?, ?, ?, ?)";
+
+    /** Transactions below this id have all finished */
+    private static final String WATERMARK_SQL =
+            "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)";
+
+    private static final String CHANGES_SQL = """
+            SELECT id, complaint_id, evidence_id, change_type
+            FROM complaint_sync_log
+            WHERE officer_id = :officerId AND xact_id >= :since AND xact_id < :until AND id > :afterId
+            ORDER BY id
+            LIMIT :limit""";
+
+    private static final String PURGE_SQL = "DELETE FROM complaint_sync_log WHERE changed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ComplaintSyncRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * What changed for the officer. Tombstones (the REMOVED types) tell the client to drop
+     * the item; the other types tell it to fetch the current state.
+     */
+    public enum ChangeType {
+        /** The complaint was assigned to the officer; its evidence is new to them too */
+        COMPLAINT_ASSIGNED,
+        COMPLAINT_CHANGED,
+        /** The complaint was deleted or moved to another officer */
+        COMPLAINT_REMOVED,
+        EVIDENCE_ADDED,
+        EVIDENCE_REMOVED
+    }
+
+    public record NewChange(long officerId, long complaintId, Long evidenceId, ChangeType type) {}
+
+    public record LoggedChange(long id, long complaintId, Long evidenceId, ChangeType type) {}
+
+    /**
+     * Appends changes within the caller's transaction, as one JDBC batch
+     */
+    public void append(List<NewChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPEND_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, change.officerId());
+            ps.setLong(2, change.complaintId());
+            if (change.evidenceId() != null) {
+                ps.setLong(3, change.evidenceId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, change.type().name());
+        });
+    }
+
+    /**
+     * Oldest transaction id still running; every change logged by an older transaction is
+     * committed (or rolled back) and visible from now on
+     */
+    public long currentWatermark() {
+        Long watermark = jdbcTemplate.queryForObject(WATERMARK_SQL, Long.class);
+        return watermark != null ? watermark : 0;
+    }
+
+    /**
+     * The officer's changes from transactions in [since, until), after the given log id,
+     * in log order
+     */
+    public List<LoggedChange> findChanges(long officerId, long since, long until, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("officerId", officerId)
+                .addValue("since", since)
+                .addValue("until", until)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return namedJdbcTemplate.query(CHANGES_SQL, params, (rs, rowNum) -> new LoggedChange(
+                rs.getLong("id"),
+                rs.getLong("complaint_id"),
+                rs.getObject("evidence_id", Long.class),
+                ChangeType.valueOf(rs.getString("change_type"))));
+    }
+
+    public int deleteChangedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(PURGE_SQL, cutoff);
+    }
+}
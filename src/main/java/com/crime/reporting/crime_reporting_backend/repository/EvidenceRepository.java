@@ -4,9 +4,16 @@ import com.crime.reporting.crime_reporting_backend.entity.Complaint;
 import com.crime.reporting.crime_reporting_backend.entity.Evidence;
 import com.crime.reporting.crime_reporting_backend.entity.EvidenceType;
 import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.repository.projection.EvidenceFileName;
+import com.crime.reporting.crime_reporting_backend.repository.projection.EvidenceSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +23,24 @@ public interface EvidenceRepository extends JpaRepository<Evidence, Long> {
     List<Evidence> findByEvidenceType(EvidenceType evidenceType);
     List<Evidence> findByUploadedBy(User user);
     List<Evidence> findByFileType(String contentType);
+    
+    @Query("SELECT new com.crime.reporting.crime_reporting_backend.repository.projection.EvidenceFileName(" +
+            "e.complaint.id, e.fileName) FROM Evidence e WHERE e.complaint.id IN :complaintIds ORDER BY e.id")
+    List<EvidenceFileName> findFileNamesByComplaintIds(Collection<Long> complaintIds);
+    
+    @Query(EvidenceSummary.SELECT + "WHERE e.id IN :ids ORDER BY e.id")
+    List<EvidenceSummary> findSummariesByIds(Collection<Long> ids);
+    
+    @Query(EvidenceSummary.SELECT + "WHERE e.complaint.id IN :complaintIds ORDER BY e.id")
+    List<EvidenceSummary> findSummariesByComplaintIds(Collection<Long> complaintIds);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE Evidence e SET e.evidenceType = :evidenceType WHERE e.evidenceType IS NULL")
+    int fillMissingEvidenceType(EvidenceType evidenceType);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE Evidence e SET e.uploadDate = :uploadDate WHERE e.uploadDate IS NULL")
+    int fillMissingUploadDate(LocalDateTime uploadDate);
 } 
\ No newline at end of file
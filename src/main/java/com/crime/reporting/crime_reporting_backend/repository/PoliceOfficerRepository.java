@@ -6,10 +6,13 @@ import com.crime.reporting.crime_reporting_backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface PoliceOfficerRepository extends JpaRepository<PoliceOfficer, Long> {
@@ -28,4 +31,10 @@ public interface PoliceOfficerRepository extends JpaRepository<PoliceOfficer, Lo
     
     boolean existsByBadgeNumber(String badgeNumber);
     boolean existsByUser(User user);
+    
+    @Query("SELECT o.id FROM PoliceOfficer o WHERE o.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+    
+    @Query("SELECT o.department.id FROM PoliceOfficer o WHERE o.id = :officerId")
+    Optional<Long> findDepartmentIdById(Long officerId);
 } 
\ No newline at end of file
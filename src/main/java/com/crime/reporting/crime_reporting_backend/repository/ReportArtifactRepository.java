@@ -0,0 +1,21 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.entity.ReportArtifact;
+import com.crime.reporting.crime_reporting_backend.entity.ReportType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReportArtifactRepository extends JpaRepository<ReportArtifact, Long> {
+    Optional<ReportArtifact> findByReportTypeAndParameterKeyAndPeriodStartAndPeriodEnd(
+            ReportType reportType, String parameterKey, LocalDateTime periodStart, LocalDateTime periodEnd);
+    
+    Optional<ReportArtifact> findFirstByReportTypeAndParameterKeyOrderByPeriodEndDescGeneratedAtDesc(
+            ReportType reportType, String parameterKey);
+    
+    List<ReportArtifact> findByGeneratedAtBefore(LocalDateTime cutoff);
+}
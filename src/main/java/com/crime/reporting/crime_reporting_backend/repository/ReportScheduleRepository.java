@@ -0,0 +1,36 @@
+package com.crime.reporting.crime_reporting_backend.repository;
+
+import com.crime.reporting.crime_reporting_backend.entity.ReportSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReportScheduleRepository extends JpaRepository<ReportSchedule, Long> {
+    
+    @Query("SELECT s FROM ReportSchedule s WHERE s.enabled = true AND s.nextRunAt <= :now " +
+           "AND (s.lockedUntil IS NULL OR s.lockedUntil < :now) ORDER BY s.nextRunAt")
+    List<ReportSchedule> findDue(LocalDateTime now);
+    
+    /**
+     * Atomically claims a due schedule for one node. Returns 1 only for the node that won the claim.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportSchedule s SET s.lockedBy = :nodeId, s.lockedUntil = :lockedUntil " +
+           "WHERE s.id = :id AND s.enabled = true AND s.nextRunAt <= :now " +
+           "AND (s.lockedUntil IS NULL OR s.lockedUntil < :now)")
+    int claim(Long id, String nodeId, LocalDateTime now, LocalDateTime lockedUntil);
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportSchedule s SET s.lockedBy = NULL, s.lockedUntil = NULL, " +
+           "s.lastRunAt = :lastRunAt, s.nextRunAt = :nextRunAt " +
+           "WHERE s.id = :id AND s.lockedBy = :nodeId")
+    int release(Long id, String nodeId, LocalDateTime lastRunAt, LocalDateTime nextRunAt);
+}
@@ -1,185 +1,127 @@
 package com.crime.reporting.crime_reporting_backend.repository;
 
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.repository.procedure.OfficerPerformanceRow;
+import com.crime.reporting.crime_reporting_backend.repository.procedure.ReportFunctions;
+import com.crime.reporting.crime_reporting_backend.repository.procedure.StoredFunction;
+import com.crime.reporting.crime_reporting_backend.repository.procedure.UserActivityRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.simple.SimpleJdbcCall;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
-import java.time.LocalDate;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
+/**
+ * Typed access to the reporting functions. Each function is a precompiled
+ * {@link StoredFunction}: rows are mapped straight to records and streamed to a callback
+ * from the driver cursor, so large reports are processed with bounded memory. Failures
+ * propagate to the caller instead of turning into empty results.
+ */
 @Repository
+@Slf4j
+@ConnectionPool(Workload.REPORTING)
 public class StoredProcedureRepository {
-    private final JdbcTemplate jdbcTemplate;
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    /** Rows fetched per round trip when streaming a function's result cursor */
+    private static final int STREAM_FETCH_SIZE = 500;
 
-    private SimpleJdbcCall complaintStatsByDateRangeProc;
-    private SimpleJdbcCall complaintStatsByCrimeTypeProc;
-    private SimpleJdbcCall userActivityReportProc;
-    private SimpleJdbcCall complaintReportProc;
-    private SimpleJdbcCall officerPerformanceReportProc;
-    private SimpleJdbcCall systemOverviewStatsProc;
+    private final JdbcTemplate jdbcTemplate;
 
     public StoredProcedureRepository(DataSource dataSource) {
         this.jdbcTemplate = new JdbcTemplate(dataSource);
-        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-
-        // Initialize SimpleJdbcCall objects
-        this.complaintStatsByDateRangeProc = new SimpleJdbcCall(jdbcTemplate)
-                .withProcedureName("get_complaint_stats_by_date_range");
-                
-        this.complaintStatsByCrimeTypeProc = new SimpleJdbcCall(jdbcTemplate)
-                .withProcedureName("get_complaint_stats_by_crime_type");
-                
-        this.userActivityReportProc = new SimpleJdbcCall(jdbcTemplate)
-                .withProcedureName("get_user_activity_report");
-                
-        this.complaintReportProc = new SimpleJdbcCall(jdbcTemplate)
-                .withProcedureName("get_complaint_report");
-                
-        this.officerPerformanceReportProc = new SimpleJdbcCall(jdbcTemplate)
-                .withProcedureName("get_officer_performance_report");
-
-        this.systemOverviewStatsProc = new SimpleJdbcCall(jdbcTemplate)
-                .withProcedureName("get_system_overview_stats");
     }
 
     /**
-     * Get complaint statistics by date range using stored procedure
+     * Checks every reporting function once at startup: that it exists with the expected
+     * signature and that it returns the columns its row mapper reads. The describe round
+     * trip also leaves the statements parsed on the connections that ran them.
      */
-    public Map<String, Object> getComplaintStatsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        try {
-            Map<String, Object> params = new HashMap<>();
-            params.put("start_date", startDate);
-            params.put("end_date", endDate);
-            
-            return complaintStatsByDateRangeProc.execute(params);
-        } catch (Exception e) {
-            org.slf4j.LoggerFactory.getLogger(StoredProcedureRepository.class)
-                .error("Error executing get_complaint_stats_by_date_range: {}", e.getMessage(), e);
-            
-            Map<String, Object> emptyResult = new HashMap<>();
-            emptyResult.put("results", new java.util.ArrayList<>());
-            return emptyResult;
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (StoredFunction<?> function : ReportFunctions.ALL) {
+            try {
+                String resolved = jdbcTemplate.queryForObject(
+                        "SELECT CAST(to_regprocedure(?) AS VARCHAR)", String.class, function.getSignature());
+                if (resolved == null) {
+                    log.error("Reporting function {} is missing; apply the db/migration scripts", function);
+                    continue;
+                }
+                List<String> columns = jdbcTemplate.execute(function.getSql(), (PreparedStatementCallback<List<String>>) statement -> {
+                    ResultSetMetaData metaData = statement.getMetaData();
+                    List<String> names = new ArrayList<>();
+                    for (int i = 1; metaData != null && i <= metaData.getColumnCount(); i++) {
+                        names.add(metaData.getColumnLabel(i));
+                    }
+                    return names;
+                });
+                if (!function.getResultColumns().equals(columns)) {
+                    log.error("Reporting function {} returns {} but {} is expected", function, columns,
+                            function.getResultColumns());
+                } else {
+                    log.debug("Reporting function {} verified", function);
+                }
+            } catch (Exception e) {
+                log.error("Could not verify reporting function {}: {}", function, e.getMessage());
+            }
         }
     }
 
     /**
-     * Get complaint statistics by crime type using stored procedure
+     * Runs the function and hands each mapped row to the callback as it is read. Runs in a
+     * read-only transaction so the driver fetches in batches instead of buffering the whole
+     * result set; nothing but the current batch is held in memory.
      */
-    public Map<String, Object> getComplaintStatsByCrimeType() {
-        try {
-            return complaintStatsByCrimeTypeProc.execute();
-        } catch (Exception e) {
-            org.slf4j.LoggerFactory.getLogger(StoredProcedureRepository.class)
-                .error("Error executing get_complaint_stats_by_crime_type: {}", e.getMessage(), e);
-            
-            Map<String, Object> emptyResult = new HashMap<>();
-            emptyResult.put("results", new java.util.ArrayList<>());
-            return emptyResult;
-        }
+    @Transactional(readOnly = true)
+    public <R> long stream(StoredFunction<R> function, Consumer<? super R> rowHandler, Object... args) {
+        checkArguments(function, args);
+        long[] rowCount = {0};
+        PreparedStatementCreator statementCreator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(function.getSql());
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        };
+        jdbcTemplate.query(statementCreator, (RowCallbackHandler) rs ->
+                rowHandler.accept(function.getRowMapper().mapRow(rs, (int) rowCount[0]++)));
+        return rowCount[0];
     }
 
-    /**
-     * Get user activity report for admin dashboard
-     */
-    public Map<String, Object> getUserActivityReport(LocalDateTime startDate, LocalDateTime endDate) {
-        try {
-            Map<String, Object> params = new HashMap<>();
-            params.put("start_date", startDate);
-            params.put("end_date", endDate);
-            
-            return userActivityReportProc.execute(params);
-        } catch (Exception e) {
-            org.slf4j.LoggerFactory.getLogger(StoredProcedureRepository.class)
-                .error("Error executing get_user_activity_report: {}", e.getMessage(), e);
-            
-            Map<String, Object> emptyResult = new HashMap<>();
-            emptyResult.put("results", new java.util.ArrayList<>());
-            return emptyResult;
+    private void checkArguments(StoredFunction<?> function, Object[] args) {
+        if (args.length != function.getParameterCount()) {
+            throw new IllegalArgumentException(function + " expects " + function.getParameterCount()
+                    + " arguments but got " + args.length);
         }
     }
 
     /**
-     * Get complaint report with filter parameters
+     * Stream user activity report rows for the admin dashboard
      */
-    public Map<String, Object> getComplaintReport(LocalDateTime startDate, LocalDateTime endDate, 
-                                             String status, String crimeType) {
-        try {
-            Map<String, Object> params = new HashMap<>();
-            params.put("start_date", startDate);
-            params.put("end_date", endDate);
-            params.put("status", status);
-            params.put("crime_type", crimeType);
-            
-            return complaintReportProc.execute(params);
-        } catch (Exception e) {
-            // Log the error and return an empty result
-            org.slf4j.LoggerFactory.getLogger(StoredProcedureRepository.class)
-                .error("Error executing get_complaint_report procedure: {}", e.getMessage(), e);
-            
-            Map<String, Object> emptyResult = new HashMap<>();
-            emptyResult.put("results", new java.util.ArrayList<>());
-            return emptyResult;
-        }
+    @Transactional(readOnly = true)
+    public long streamUserActivityReport(LocalDateTime startDate, LocalDateTime endDate,
+                                         Consumer<? super UserActivityRow> rowHandler) {
+        return stream(ReportFunctions.USER_ACTIVITY_REPORT, rowHandler, startDate, endDate);
     }
 
     /**
-     * Get officer performance report for admin dashboard
+     * Stream officer performance report rows for the admin dashboard
      */
-    public Map<String, Object> getOfficerPerformanceReport(Long departmentId, LocalDateTime startDate, 
-                                                     LocalDateTime endDate) {
-        try {
-            Map<String, Object> params = new HashMap<>();
-            params.put("department_id", departmentId);
-            params.put("start_date", startDate);
-            params.put("end_date", endDate);
-            
-            return officerPerformanceReportProc.execute(params);
-        } catch (Exception e) {
-            org.slf4j.LoggerFactory.getLogger(StoredProcedureRepository.class)
-                .error("Error executing get_officer_performance_report: {}", e.getMessage(), e);
-            
-            Map<String, Object> emptyResult = new HashMap<>();
-            emptyResult.put("results", new java.util.ArrayList<>());
-            return emptyResult;
-        }
-    }
-
-    /**
-     * Get system overview statistics
-     */
-    public Map<String, Object> getSystemOverviewStats(LocalDateTime startDate, LocalDateTime endDate) {
-        try {
-            Map<String, Object> params = new HashMap<>();
-            params.put("start_date", startDate);
-            params.put("end_date", endDate);
-            
-            return systemOverviewStatsProc.execute(params);
-        } catch (Exception e) {
-            org.slf4j.LoggerFactory.getLogger(StoredProcedureRepository.class)
-                .error("Error executing get_system_overview_stats: {}", e.getMessage(), e);
-            
-            Map<String, Object> emptyResult = new HashMap<>();
-            emptyResult.put("results", new java.util.ArrayList<>());
-            return emptyResult;
-        }
-    }
-
-    /**
-     * Execute custom SQL query with parameters
-     */
-    public List<Map<String, Object>> executeQuery(String sql, Map<String, Object> params) {
-        MapSqlParameterSource parameters = new MapSqlParameterSource();
-        if (params != null) {
-            params.forEach(parameters::addValue);
-        }
-        
-        return namedParameterJdbcTemplate.queryForList(sql, parameters);
+    @Transactional(readOnly = true)
+    public long streamOfficerPerformanceReport(Long departmentId, LocalDateTime startDate, LocalDateTime endDate,
+                                               Consumer<? super OfficerPerformanceRow> rowHandler) {
+        return stream(ReportFunctions.OFFICER_PERFORMANCE_REPORT, rowHandler, departmentId, startDate, endDate);
     }
-} 
\ No newline at end of file
+}
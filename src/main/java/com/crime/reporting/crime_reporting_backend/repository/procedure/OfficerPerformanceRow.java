@@ -0,0 +1,25 @@
+package com.crime.reporting.crime_reporting_backend.repository.procedure;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Row of get_officer_performance_report
+ */
+public record OfficerPerformanceRow(Long officerId, String officerName, String badgeNumber, String departmentName,
+                                    long assignedCount, long closedCount, long pendingCount,
+                                    BigDecimal avgResolutionDays) {
+
+    static OfficerPerformanceRow map(ResultSet rs, int rowNum) throws SQLException {
+        return new OfficerPerformanceRow(
+                ProcedureRows.getLong(rs, "officer_id"),
+                rs.getString("officer_name"),
+                rs.getString("badge_number"),
+                rs.getString("department_name"),
+                ProcedureRows.getCount(rs, "assigned_count"),
+                ProcedureRows.getCount(rs, "closed_count"),
+                ProcedureRows.getCount(rs, "pending_count"),
+                rs.getBigDecimal("avg_resolution_days"));
+    }
+}
@@ -0,0 +1,27 @@
+package com.crime.reporting.crime_reporting_backend.repository.procedure;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Null-aware column readers shared by the procedure row mappers
+ */
+final class ProcedureRows {
+
+    private ProcedureRows() {
+    }
+
+    static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    static long getCount(ResultSet rs, String column) throws SQLException {
+        return rs.getLong(column);
+    }
+
+    static LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, LocalDateTime.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.crime.reporting.crime_reporting_backend.repository.procedure;
+
+import java.util.List;
+
+/**
+ * The reporting functions the reports stream from, compiled once. The other functions
+ * in the db/migration scripts are superseded by the counters and JPQL projections.
+ */
+public final class ReportFunctions {
+
+    public static final StoredFunction<UserActivityRow> USER_ACTIVITY_REPORT =
+            StoredFunction.builder("get_user_activity_report", UserActivityRow::map)
+                    .parameter("TIMESTAMP")
+                    .parameter("TIMESTAMP")
+                    .columns("user_id", "username", "email", "role", "registration_date",
+                            "complaints_filed", "last_login")
+                    .build();
+
+    public static final StoredFunction<OfficerPerformanceRow> OFFICER_PERFORMANCE_REPORT =
+            StoredFunction.builder("get_officer_performance_report", OfficerPerformanceRow::map)
+                    .parameter("BIGINT")
+                    .parameter("TIMESTAMP")
+                    .parameter("TIMESTAMP")
+                    .columns("officer_id", "officer_name", "badge_number", "department_name",
+                            "assigned_count", "closed_count", "pending_count", "avg_resolution_days")
+                    .build();
+
+    public static final List<StoredFunction<?>> ALL = List.of(USER_ACTIVITY_REPORT, OFFICER_PERFORMANCE_REPORT);
+
+    private ReportFunctions() {
+    }
+}
@@ -0,0 +1,100 @@
+package com.crime.reporting.crime_reporting_backend.repository.procedure;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * A set-returning database function compiled once into its SELECT statement, together with
+ * the mapper that turns each result row into a record. Parameters are cast explicitly so
+ * the statement never needs metadata lookups, and nulls bind without type guessing.
+ *
+ * @param <R> the record type produced for each row
+ */
+public final class StoredFunction<R> {
+
+    private final String name;
+    private final List<String> parameterTypes;
+    private final List<String> resultColumns;
+    private final RowMapper<R> rowMapper;
+    private final String sql;
+
+    private StoredFunction(Builder<R> builder) {
+        this.name = builder.name;
+        this.parameterTypes = List.copyOf(builder.parameterTypes);
+        this.resultColumns = List.copyOf(builder.resultColumns);
+        this.rowMapper = builder.rowMapper;
+        this.sql = "SELECT " + resultColumns.stream().map(column -> '"' + column + '"').collect(Collectors.joining(", "))
+                + " FROM " + name + "("
+                + parameterTypes.stream().map(type -> "CAST(? AS " + type + ")").collect(Collectors.joining(", "))
+                + ")";
+    }
+
+    public static <R> Builder<R> builder(String name, RowMapper<R> rowMapper) {
+        return new Builder<>(name, rowMapper);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getResultColumns() {
+        return resultColumns;
+    }
+
+    public RowMapper<R> getRowMapper() {
+        return rowMapper;
+    }
+
+    public int getParameterCount() {
+        return parameterTypes.size();
+    }
+
+    /**
+     * Signature in the form accepted by to_regprocedure, e.g. get_report(bigint,timestamp)
+     */
+    public String getSignature() {
+        return name + "(" + String.join(",", parameterTypes).toLowerCase(Locale.ROOT) + ")";
+    }
+
+    @Override
+    public String toString() {
+        return getSignature();
+    }
+
+    public static final class Builder<R> {
+        private final String name;
+        private final RowMapper<R> rowMapper;
+        private final List<String> parameterTypes = new ArrayList<>();
+        private final List<String> resultColumns = new ArrayList<>();
+
+        private Builder(String name, RowMapper<R> rowMapper) {
+            this.name = name;
+            this.rowMapper = rowMapper;
+        }
+
+        public Builder<R> parameter(String sqlType) {
+            this.parameterTypes.add(sqlType);
+            return this;
+        }
+
+        public Builder<R> columns(String... columns) {
+            this.resultColumns.addAll(List.of(columns));
+            return this;
+        }
+
+        public StoredFunction<R> build() {
+            if (resultColumns.isEmpty()) {
+                throw new IllegalStateException("Stored function '" + name + "' declares no result columns");
+            }
+            return new StoredFunction<>(this);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.crime.reporting.crime_reporting_backend.repository.procedure;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Row of get_user_activity_report
+ */
+public record UserActivityRow(Long userId, String username, String email, String role,
+                              LocalDateTime registrationDate, long complaintsFiled, LocalDateTime lastLogin) {
+
+    static UserActivityRow map(ResultSet rs, int rowNum) throws SQLException {
+        return new UserActivityRow(
+                ProcedureRows.getLong(rs, "user_id"),
+                rs.getString("username"),
+                rs.getString("email"),
+                rs.getString("role"),
+                ProcedureRows.getDateTime(rs, "registration_date"),
+                ProcedureRows.getCount(rs, "complaints_filed"),
+                ProcedureRows.getDateTime(rs, "last_login"));
+    }
+}
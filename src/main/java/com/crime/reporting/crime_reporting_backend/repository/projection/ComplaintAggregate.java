@@ -0,0 +1,22 @@
+package com.crime.reporting.crime_reporting_backend.repository.projection;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Complaint counts by status, by crime type and by filing day over a recent window, read
+ * together in one statement. Every status is present, zero if it has no complaints;
+ * crime types are ordered most frequent first and days ascending, both without zeros.
+ */
+public record ComplaintAggregate(
+        Map<ComplaintStatus, Long> byStatus,
+        Map<CrimeType, Long> byCrimeType,
+        Map<LocalDate, Long> byDate) {
+
+    public long total() {
+        return byStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
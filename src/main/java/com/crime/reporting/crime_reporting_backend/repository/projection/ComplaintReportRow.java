@@ -0,0 +1,19 @@
+package com.crime.reporting.crime_reporting_backend.repository.projection;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the complaints report, selected with a constructor expression so the report
+ * streams plain values instead of managed complaint entities
+ */
+public record ComplaintReportRow(
+        Long id,
+        LocalDateTime dateFiled,
+        CrimeType crimeType,
+        String description,
+        ComplaintStatus status,
+        String location) {
+}
@@ -0,0 +1,37 @@
+package com.crime.reporting.crime_reporting_backend.repository.projection;
+
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read model of a complaint with its complainant and assigned officer, selected
+ * with a constructor expression so a list of them costs one query instead of one per
+ * association per row. Officer fields are null for unassigned complaints.
+ */
+public record ComplaintSummary(
+        Long id,
+        String description,
+        String location,
+        ComplaintStatus status,
+        CrimeType crimeType,
+        Integer priorityScore,
+        Long duplicateOfId,
+        LocalDateTime dateFiled,
+        LocalDateTime dateLastUpdated,
+        Long userId,
+        String userFirstName,
+        String userLastName,
+        String userEmail,
+        Long assignedOfficerId,
+        String officerFirstName,
+        String officerLastName) {
+
+    /** Select list and joins shared by every summary query */
+    public static final String SELECT =
+            "SELECT new com.crime.reporting.crime_reporting_backend.repository.projection.ComplaintSummary(" +
+            "c.id, c.description, c.location, c.status, c.crimeType, c.priorityScore, c.duplicateOfId, c.dateFiled, c.dateLastUpdated, " +
+            "u.id, u.firstName, u.lastName, u.email, o.id, ou.firstName, ou.lastName) " +
+            "FROM Complaint c JOIN c.user u LEFT JOIN c.assignedOfficer o LEFT JOIN o.user ou ";
+}
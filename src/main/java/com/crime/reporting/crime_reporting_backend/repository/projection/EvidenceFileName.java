@@ -0,0 +1,8 @@
+package com.crime.reporting.crime_reporting_backend.repository.projection;
+
+/**
+ * File name of one evidence item, keyed by its complaint, for batching evidence lookups
+ * across a page of complaints
+ */
+public record EvidenceFileName(Long complaintId, String fileName) {
+}
@@ -0,0 +1,32 @@
+package com.crime.reporting.crime_reporting_backend.repository.projection;
+
+import com.crime.reporting.crime_reporting_backend.entity.EvidenceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read model of an evidence item with its uploader, selected with a constructor
+ * expression so neither the complaint nor the uploader is loaded as an entity
+ */
+public record EvidenceSummary(
+        Long id,
+        Long complaintId,
+        EvidenceType evidenceType,
+        String fileName,
+        String fileUrl,
+        String fileType,
+        Long fileSize,
+        String description,
+        String metadata,
+        LocalDateTime uploadDate,
+        Long uploadedById,
+        String uploaderFirstName,
+        String uploaderLastName) {
+
+    /** Select list and joins shared by every evidence summary query */
+    public static final String SELECT =
+            "SELECT new com.crime.reporting.crime_reporting_backend.repository.projection.EvidenceSummary(" +
+            "e.id, e.complaint.id, e.evidenceType, e.fileName, e.fileUrl, e.fileType, e.fileSize, e.description, " +
+            "e.metadata, e.uploadDate, u.id, u.firstName, u.lastName) " +
+            "FROM Evidence e JOIN e.uploadedBy u ";
+}
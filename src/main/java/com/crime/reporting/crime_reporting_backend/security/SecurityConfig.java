@@ -49,6 +49,8 @@ public class SecurityConfig {
                         .requestMatchers("/uploads/**").permitAll()
                         .requestMatchers("/files/**").permitAll()
                         .requestMatchers("/api/v1/files/**").permitAll()
+                        // STOMP clients authenticate on CONNECT, see StompAuthChannelInterceptor
+                        .requestMatchers("/ws/**").permitAll()
                         // Reports endpoints - Require authentication
                         .requestMatchers("/api/v1/reports/**").authenticated()
                         .anyRequest().authenticated()
@@ -0,0 +1,121 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the monthly complaint partitions ahead of the calendar and moves finished
+ * complaints into cold storage once they are older than the configured age. Cold
+ * complaints stay in the complaints table, so lookups by id and every listing still find
+ * them; they no longer share pages or index entries with the working set.
+ * <p>
+ * Does nothing until the complaints table has been partitioned (V4.9).
+ */
+@Service
+@Slf4j
+@ConnectionPool(Workload.BACKGROUND)
+public class ComplaintArchiveService {
+
+    /** Statuses a complaint does not leave in normal handling */
+    private static final Set<ComplaintStatus> FINISHED_STATUSES =
+            EnumSet.of(ComplaintStatus.RESOLVED, ComplaintStatus.CLOSED, ComplaintStatus.REJECTED);
+
+    private final ComplaintPartitionRepository partitionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${complaints.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${complaints.archive.age-days:365}")
+    private int ageDays;
+
+    @Value("${complaints.archive.quiet-hours:24}")
+    private int quietHours;
+
+    @Value("${complaints.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${complaints.archive.months-ahead:3}")
+    private int monthsAhead;
+
+    public ComplaintArchiveService(ComplaintPartitionRepository partitionRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.partitionRepository = partitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        if (!partitionRepository.isPartitioned()) {
+            log.info("Complaints table is not partitioned; partition maintenance and archiving are off");
+            return;
+        }
+        createUpcomingPartitions();
+    }
+
+    /**
+     * Creates upcoming months and those of stray rows, then archives in batches of their own transaction so row
+     * locks are held briefly
+     */
+    @Scheduled(cron = "${complaints.archive.cron:0 0 2 * * *}")
+    public void archive() {
+        if (!partitionRepository.isPartitioned()) {
+            return;
+        }
+        createUpcomingPartitions();
+        relocateDefaultPartitionRows();
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDate.now().minusDays(ageDays).atStartOfDay();
+        LocalDateTime updatedBefore = LocalDateTime.now().minusHours(quietHours);
+        long archived = 0;
+        Integer moved;
+        do {
+            moved = transactionTemplate.execute(status ->
+                    partitionRepository.archiveBatch(FINISHED_STATUSES, cutoff, updatedBefore, batchSize));
+            archived += moved != null ? moved : 0;
+        } while (moved != null && moved == batchSize);
+
+        if (archived > 0) {
+            log.info("Archived {} complaints filed before {}", archived, cutoff);
+        }
+    }
+
+    /**
+     * Gives every month found in the default partition its own partitions, which moves its
+     * rows there so they are pruned and archived like the rest
+     */
+    private void relocateDefaultPartitionRows() {
+        List<LocalDate> months = partitionRepository.findDefaultPartitionMonths();
+        for (LocalDate month : months) {
+            partitionRepository.ensureMonth(month);
+        }
+        if (!months.isEmpty()) {
+            log.info("Moved complaints of {} months out of the default partition", months.size());
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitionRepository.ensureMonth(month.plusMonths(i));
+        }
+    }
+}
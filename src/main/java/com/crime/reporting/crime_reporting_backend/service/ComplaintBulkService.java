@@ -0,0 +1,167 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.dto.BulkAssignmentRequest;
+import com.crime.reporting.crime_reporting_backend.dto.BulkOperationResult;
+import com.crime.reporting.crime_reporting_backend.dto.BulkOperationResult.ItemResult;
+import com.crime.reporting.crime_reporting_backend.dto.BulkStatusRequest;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintAssignmentChangedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEventOutbox;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintStatusChangedEvent;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintBulkRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintBulkRepository.ComplaintState;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintBulkRepository.ComplaintUpdate;
+import com.crime.reporting.crime_reporting_backend.repository.PoliceOfficerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns complaints and changes their status in bulk. A request is validated with one
+ * query for the complaints (locked for the transaction) and one for the officers, the
+ * valid items are written as one batch of UPDATEs, and the statistics counters are
+ * adjusted once per (day, crime type, status change) group. Invalid items are reported
+ * and skipped; the rest are applied and each gets its lifecycle event in the outbox.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintBulkService {
+
+    private final ComplaintBulkRepository complaintBulkRepository;
+    private final PoliceOfficerRepository policeOfficerRepository;
+    private final ComplaintCounterService complaintCounterService;
+    private final ComplaintEventOutbox complaintEventOutbox;
+
+    @Value("${complaints.bulk.max-items:500}")
+    private int maxItems;
+
+    @Transactional
+    public BulkOperationResult assignComplaints(BulkAssignmentRequest request) {
+        List<BulkAssignmentRequest.Item> items = request.getAssignments();
+        checkSize(items.size());
+        log.info("Bulk assigning {} complaints", items.size());
+
+        Map<Long, ComplaintState> complaints = complaintBulkRepository.lockForUpdate(
+                items.stream().map(BulkAssignmentRequest.Item::getComplaintId).collect(Collectors.toSet()));
+        Set<Long> officers = policeOfficerRepository.findExistingIds(
+                items.stream().map(BulkAssignmentRequest.Item::getOfficerId).collect(Collectors.toSet()));
+
+        List<ItemResult> results = new ArrayList<>(items.size());
+        List<ComplaintUpdate> updates = new ArrayList<>(items.size());
+        Set<Long> seen = new HashSet<>();
+        for (BulkAssignmentRequest.Item item : items) {
+            ComplaintState complaint = complaints.get(item.getComplaintId());
+            if (!seen.add(item.getComplaintId())) {
+                results.add(ItemResult.failed(item.getComplaintId(), "Complaint listed more than once"));
+            } else if (complaint == null) {
+                results.add(ItemResult.failed(item.getComplaintId(),
+                        "Complaint not found with id: " + item.getComplaintId()));
+            } else if (!officers.contains(item.getOfficerId())) {
+                results.add(ItemResult.failed(item.getComplaintId(),
+                        "Police officer not found with id: " + item.getOfficerId()));
+            } else {
+                updates.add(new ComplaintUpdate(complaint.id(), ComplaintStatus.ASSIGNED, item.getOfficerId()));
+                results.add(ItemResult.ok(complaint.id(), ComplaintStatus.ASSIGNED, item.getOfficerId()));
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            complaintBulkRepository.assign(updates, now);
+            recordStatusChanges(updates, complaints);
+            complaintEventOutbox.recordAll(updates.stream()
+                    .map(update -> {
+                        ComplaintState previous = complaints.get(update.id());
+                        return new ComplaintAssignmentChangedEvent(update.id(), previous.assignedOfficerId(),
+                                update.assignedOfficerId(), previous.status(), update.status(), now);
+                    })
+                    .toList());
+        }
+        return toResult(results);
+    }
+
+    @Transactional
+    public BulkOperationResult updateStatuses(BulkStatusRequest request) {
+        List<BulkStatusRequest.Item> items = request.getUpdates();
+        checkSize(items.size());
+        log.info("Bulk updating status of {} complaints", items.size());
+
+        Map<Long, ComplaintState> complaints = complaintBulkRepository.lockForUpdate(
+                items.stream().map(BulkStatusRequest.Item::getComplaintId).collect(Collectors.toSet()));
+
+        List<ItemResult> results = new ArrayList<>(items.size());
+        List<ComplaintUpdate> updates = new ArrayList<>(items.size());
+        Set<Long> seen = new HashSet<>();
+        for (BulkStatusRequest.Item item : items) {
+            ComplaintState complaint = complaints.get(item.getComplaintId());
+            if (!seen.add(item.getComplaintId())) {
+                results.add(ItemResult.failed(item.getComplaintId(), "Complaint listed more than once"));
+            } else if (complaint == null) {
+                results.add(ItemResult.failed(item.getComplaintId(),
+                        "Complaint not found with id: " + item.getComplaintId()));
+            } else {
+                updates.add(new ComplaintUpdate(complaint.id(), item.getStatus(), complaint.assignedOfficerId()));
+                results.add(ItemResult.ok(complaint.id(), item.getStatus(), complaint.assignedOfficerId()));
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            complaintBulkRepository.updateStatus(updates, now);
+            recordStatusChanges(updates, complaints);
+            complaintEventOutbox.recordAll(updates.stream()
+                    .map(update -> new ComplaintStatusChangedEvent(update.id(),
+                            complaints.get(update.id()).status(), update.status(), update.assignedOfficerId(), now))
+                    .toList());
+        }
+        return toResult(results);
+    }
+
+    private void checkSize(int size) {
+        if (size > maxItems) {
+            throw new IllegalArgumentException("At most " + maxItems + " items can be updated per request");
+        }
+    }
+
+    /**
+     * One counter update per (day, crime type, previous status, new status) group
+     */
+    private void recordStatusChanges(List<ComplaintUpdate> updates, Map<Long, ComplaintState> before) {
+        Map<StatusChangeKey, Long> changes = updates.stream()
+                .map(update -> {
+                    ComplaintState previous = before.get(update.id());
+                    return new StatusChangeKey(previous.dateFiled().toLocalDate(), previous.crimeType(),
+                            previous.status(), update.status());
+                })
+                .filter(key -> key.previousStatus() != key.newStatus())
+                .collect(Collectors.groupingBy(key -> key, Collectors.counting()));
+        changes.forEach((key, count) -> complaintCounterService.recordStatusChanges(
+                key.dateFiled(), key.crimeType(), key.previousStatus(), key.newStatus(), count));
+    }
+
+    private static BulkOperationResult toResult(List<ItemResult> results) {
+        int succeeded = (int) results.stream().filter(ItemResult::success).count();
+        return BulkOperationResult.builder()
+                .requested(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    private record StatusChangeKey(LocalDate dateFiled, CrimeType crimeType, ComplaintStatus previousStatus,
+                                   ComplaintStatus newStatus) {}
+}
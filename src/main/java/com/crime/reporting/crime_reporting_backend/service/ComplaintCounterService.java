@@ -0,0 +1,278 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.entity.Complaint;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintDailyCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Maintains the per-day complaint counters and answers the dashboard statistics from them.
+ * Every record* method must run inside the transaction that changes the complaint, so a
+ * counter update commits or rolls back together with the change it describes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConnectionPool(Workload.REPORTING)
+public class ComplaintCounterService {
+
+    /** Statuses counted as pending by the date-range statistics */
+    public static final Set<ComplaintStatus> PENDING_STATUSES = EnumSet.of(
+            ComplaintStatus.SUBMITTED, ComplaintStatus.ASSIGNED, ComplaintStatus.INVESTIGATING,
+            ComplaintStatus.PENDING_EVIDENCE, ComplaintStatus.UNDER_REVIEW);
+
+    private final ComplaintDailyCountRepository dailyCountRepository;
+    private final ComplaintTrendService complaintTrendService;
+
+    @Value("${stats.counters.slots:8}")
+    private int slots;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Complaint complaint) {
+        adjust(complaint.getDateFiled(), complaint.getStatus(), complaint.getCrimeType(), 1);
+        evictTrends(complaint.getDateFiled());
+    }
+
+    /**
+     * Records complaints inserted in bulk that share a filing day, status and crime type
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(LocalDate dateFiled, ComplaintStatus status, CrimeType crimeType, long count) {
+        adjust(dateFiled.atStartOfDay(), status, crimeType, count);
+        evictTrends(dateFiled.atStartOfDay());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Complaint complaint, ComplaintStatus previousStatus) {
+        if (previousStatus == complaint.getStatus()) {
+            return;
+        }
+        adjust(complaint.getDateFiled(), previousStatus, complaint.getCrimeType(), -1);
+        adjust(complaint.getDateFiled(), complaint.getStatus(), complaint.getCrimeType(), 1);
+    }
+
+    /**
+     * Records complaints moved from one status to another in bulk that share a filing day
+     * and crime type
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(LocalDate dateFiled, CrimeType crimeType, ComplaintStatus previousStatus,
+                                    ComplaintStatus newStatus, long count) {
+        if (previousStatus == newStatus) {
+            return;
+        }
+        adjust(dateFiled.atStartOfDay(), previousStatus, crimeType, -count);
+        adjust(dateFiled.atStartOfDay(), newStatus, crimeType, count);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCrimeTypeChange(Complaint complaint, CrimeType previousCrimeType) {
+        if (previousCrimeType == complaint.getCrimeType()) {
+            return;
+        }
+        adjust(complaint.getDateFiled(), complaint.getStatus(), previousCrimeType, -1);
+        adjust(complaint.getDateFiled(), complaint.getStatus(), complaint.getCrimeType(), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Complaint complaint) {
+        adjust(complaint.getDateFiled(), complaint.getStatus(), complaint.getCrimeType(), -1);
+        evictTrends(complaint.getDateFiled());
+    }
+
+    /**
+     * Filing counts of the complaint's day changed, so cached trend buckets covering it are stale
+     */
+    private void evictTrends(LocalDateTime dateFiled) {
+        if (dateFiled != null) {
+            complaintTrendService.evictOnCommit(dateFiled);
+        }
+    }
+
+    private void adjust(LocalDateTime dateFiled, ComplaintStatus status, CrimeType crimeType, long delta) {
+        if (dateFiled == null || status == null || crimeType == null) {
+            // Left to the reconciliation job rather than failing the complaint write
+            log.warn("Skipping counter update for incomplete complaint: date={}, status={}, crimeType={}",
+                    dateFiled, status, crimeType);
+            return;
+        }
+        int slot = slots > 1 ? ThreadLocalRandom.current().nextInt(slots) : 0;
+        dailyCountRepository.increment(dateFiled.toLocalDate(), status.name(), crimeType.name(), slot, delta);
+    }
+
+    /**
+     * Complaint counts for every status, including statuses with no complaints
+     */
+    @Transactional(readOnly = true)
+    public Map<ComplaintStatus, Long> getCountsByStatus() {
+        Map<ComplaintStatus, Long> counts = new EnumMap<>(ComplaintStatus.class);
+        for (ComplaintStatus status : ComplaintStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : dailyCountRepository.sumByStatus()) {
+            counts.put((ComplaintStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Complaint counts per crime type, most frequent first
+     */
+    @Transactional(readOnly = true)
+    public Map<CrimeType, Long> getCountsByCrimeType() {
+        Map<CrimeType, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : dailyCountRepository.sumByCrimeType()) {
+            counts.put((CrimeType) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Complaints filed per day in the inclusive range; days without complaints are omitted
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Long> getDailyCounts(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : dailyCountRepository.sumByDateBetween(startDate, endDate)) {
+            counts.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Per-day total, resolved and pending counts for every day in the range, in the same
+     * shape as the get_complaint_stats_by_date_range procedure result
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getDateRangeStats(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, long[]> byDate = new HashMap<>();
+        for (Object[] row : dailyCountRepository.sumByDateAndStatusBetween(startDate, endDate)) {
+            long[] totals = byDate.computeIfAbsent((LocalDate) row[0], d -> new long[3]);
+            ComplaintStatus status = (ComplaintStatus) row[1];
+            long count = ((Number) row[2]).longValue();
+            totals[0] += count;
+            if (status == ComplaintStatus.RESOLVED) {
+                totals[1] += count;
+            } else if (PENDING_STATUSES.contains(status)) {
+                totals[2] += count;
+            }
+        }
+
+        List<Map<String, Object>> results = startDate.datesUntil(endDate.plusDays(1))
+                .map(date -> {
+                    long[] totals = byDate.getOrDefault(date, new long[3]);
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("date", date);
+                    row.put("total_count", totals[0]);
+                    row.put("resolved_count", totals[1]);
+                    row.put("pending_count", totals[2]);
+                    return row;
+                })
+                .toList();
+        return Map.of("results", results);
+    }
+
+    /**
+     * Counts and percentage share per crime type, in the same shape as the
+     * get_complaint_stats_by_crime_type procedure result
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCrimeTypeStats() {
+        Map<CrimeType, Long> counts = getCountsByCrimeType();
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+
+        List<Map<String, Object>> results = counts.entrySet().stream()
+                .map(entry -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("crime_type", entry.getKey().name());
+                    row.put("count", entry.getValue());
+                    row.put("percentage", total > 0 ? Math.round(entry.getValue() * 10000.0 / total) / 100.0 : 0.0);
+                    return row;
+                })
+                .toList();
+        return Map.of("results", results);
+    }
+
+    /**
+     * Fills the counters on first start when the table was created empty by Hibernate
+     * rather than by the migration
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        if (dailyCountRepository.count() == 0) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Corrects every counter from the complaints table a month at a time, without blocking
+     * writers: each month's striped rows are collapsed back into one row per key, the
+     * difference from the complaints is upserted, and counters left at zero are dropped,
+     * each in a short statement of its own.
+     */
+    @Scheduled(cron = "${stats.counters.reconcile-cron:0 30 3 * * *}")
+    @ConnectionPool(Workload.BACKGROUND)
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        LocalDate first = earliest(dailyCountRepository.findEarliestCountDate(),
+                dailyCountRepository.findEarliestDateFiled());
+        LocalDate last = latest(dailyCountRepository.findLatestCountDate(),
+                dailyCountRepository.findLatestDateFiled());
+        if (first == null) {
+            return;
+        }
+
+        int collapsed = 0;
+        int corrected = 0;
+        int dropped = 0;
+        for (LocalDate month = first.withDayOfMonth(1); !month.isAfter(last); month = month.plusMonths(1)) {
+            LocalDate nextMonth = month.plusMonths(1);
+            collapsed += dailyCountRepository.collapseSlots(month, nextMonth);
+            corrected += dailyCountRepository.correctCounts(month, nextMonth);
+            dropped += dailyCountRepository.deleteEmptyCounts(month, nextMonth);
+        }
+        if (corrected > 0) {
+            complaintTrendService.evictAllOnCommit();
+        }
+        log.info("Reconciled complaint counters from {} to {}: {} keys collapsed, {} corrected, {} dropped in {} ms",
+                first, last, collapsed, corrected, dropped, System.currentTimeMillis() - start);
+    }
+
+    private static LocalDate earliest(LocalDate countDate, LocalDateTime dateFiled) {
+        if (dateFiled == null) {
+            return countDate;
+        }
+        LocalDate filed = dateFiled.toLocalDate();
+        return countDate == null || filed.isBefore(countDate) ? filed : countDate;
+    }
+
+    private static LocalDate latest(LocalDate countDate, LocalDateTime dateFiled) {
+        if (dateFiled == null) {
+            return countDate;
+        }
+        LocalDate filed = dateFiled.toLocalDate();
+        return countDate == null || filed.isAfter(countDate) ? filed : countDate;
+    }
+}
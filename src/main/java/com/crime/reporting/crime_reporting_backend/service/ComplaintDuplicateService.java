@@ -0,0 +1,164 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.entity.Complaint;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintRepository;
+import com.crime.reporting.crime_reporting_backend.service.dedupe.DuplicateIndex;
+import com.crime.reporting.crime_reporting_backend.service.dedupe.DuplicateIndex.Fingerprint;
+import com.crime.reporting.crime_reporting_backend.service.dedupe.DuplicateIndex.Match;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Links newly filed complaints to a probable duplicate: an earlier complaint from the same
+ * place, filed within the configured window, whose description is nearly the same. The
+ * new complaint points at the first complaint of the group, so every report of one
+ * incident shares a single duplicate-of id for triage.
+ * <p>
+ * The index lives in memory and holds only the current window; it is rebuilt from the
+ * database at startup. Complaints are added once their transaction commits, so only
+ * complaints filed or imported through this instance since startup, or present at
+ * startup, are matched.
+ */
+@Service
+@Slf4j
+public class ComplaintDuplicateService {
+
+    private final ComplaintRepository complaintRepository;
+    private final DuplicateIndex index;
+    private final Duration window;
+    private final boolean enabled;
+
+    public ComplaintDuplicateService(ComplaintRepository complaintRepository,
+                                     @Value("${complaints.dedupe.enabled:true}") boolean enabled,
+                                     @Value("${complaints.dedupe.window-hours:48}") long windowHours,
+                                     @Value("${complaints.dedupe.similarity-threshold:0.6}") double threshold) {
+        this.complaintRepository = complaintRepository;
+        this.enabled = enabled;
+        this.window = Duration.ofHours(windowHours);
+        this.index = new DuplicateIndex(window, threshold);
+    }
+
+    /**
+     * Sets the complaint's duplicate-of link if a probable duplicate is indexed, and adds
+     * the complaint to the index when the current transaction commits. Call before the
+     * complaint is saved.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void linkProbableDuplicate(Complaint complaint) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime filedAt = complaint.getDateFiled() != null ? complaint.getDateFiled() : LocalDateTime.now();
+        Fingerprint fingerprint = DuplicateIndex.fingerprint(complaint.getDescription(), complaint.getLocation());
+
+        Optional<Match> match = index.findBestMatch(fingerprint, filedAt)
+                // The matched complaint may have been deleted on another instance
+                .filter(candidate -> complaintRepository.existsById(candidate.rootId()));
+        match.ifPresent(found -> {
+            complaint.setDuplicateOfId(found.rootId());
+            log.info("New complaint looks like a duplicate of complaint {} (matched {} with similarity {})",
+                    found.rootId(), found.matchedId(), String.format("%.2f", found.similarity()));
+        });
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long id = complaint.getId();
+                index.add(id, match.map(Match::rootId).orElse(id), filedAt, fingerprint);
+            }
+        });
+    }
+
+    /**
+     * Adds complaints stored without {@link #linkProbableDuplicate}, such as bulk imports, to
+     * the index once the current transaction commits. They are not linked themselves, but
+     * complaints filed later are matched against them. Complaints filed too long ago to be
+     * matched are skipped, as in {@link #rebuild()}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void indexAfterCommit(List<StoredComplaint> complaints) {
+        if (!enabled || complaints.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                LocalDateTime since = LocalDateTime.now().minus(window.multipliedBy(2));
+                for (StoredComplaint complaint : complaints) {
+                    if (complaint.dateFiled().isAfter(since)) {
+                        index.add(complaint.id(), complaint.id(), complaint.dateFiled(),
+                                DuplicateIndex.fingerprint(complaint.description(), complaint.location()));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops a complaint from the index once the current transaction commits
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void forget(long complaintId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.remove(complaintId);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @ConnectionPool(Workload.BACKGROUND)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        // Two windows back covers every partition a new complaint can be compared with
+        LocalDateTime since = LocalDateTime.now().minus(window.multipliedBy(2));
+        try (Stream<Object[]> rows = complaintRepository.streamDuplicateInputs(since)) {
+            rows.forEach(row -> {
+                long id = (Long) row[0];
+                Long duplicateOfId = (Long) row[4];
+                index.add(id, duplicateOfId != null ? duplicateOfId : id, (LocalDateTime) row[3],
+                        DuplicateIndex.fingerprint((String) row[1], (String) row[2]));
+            });
+        }
+        log.info("Indexed {} recent complaints for duplicate detection in {} ms",
+                index.size(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${complaints.dedupe.evict-interval-ms:600000}")
+    public void evictExpired() {
+        int evicted = index.evictOlderThan(LocalDateTime.now());
+        if (evicted > 0) {
+            log.debug("Evicted {} complaints from the duplicate index", evicted);
+        }
+    }
+
+    /**
+     * A complaint already stored, with the fields its fingerprint is taken from
+     */
+    public record StoredComplaint(long id, String description, String location, LocalDateTime dateFiled) {
+    }
+}
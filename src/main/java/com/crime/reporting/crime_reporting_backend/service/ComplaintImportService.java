@@ -0,0 +1,390 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.dto.BulkImportResult;
+import com.crime.reporting.crime_reporting_backend.entity.Complaint;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintCreatedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEventOutbox;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintBulkRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintBulkRepository.NewComplaint;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintPartitionRepository;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintDuplicateService.StoredComplaint;
+import com.crime.reporting.crime_reporting_backend.service.importer.CsvImportRowReader;
+import com.crime.reporting.crime_reporting_backend.service.importer.ImportRow;
+import com.crime.reporting.crime_reporting_backend.service.importer.ImportRowReader;
+import com.crime.reporting.crime_reporting_backend.service.importer.NdjsonImportRowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Imports complaints in bulk from a streamed CSV or NDJSON body. Rows are read in
+ * chunks; each chunk resolves its users with one query per lookup kind, validates and
+ * scores its rows in parallel, then inserts the valid rows with multi-row statements,
+ * updates the statistics counters and records a created event per complaint in a single
+ * transaction. Once it commits, the new complaints are added to the duplicate index.
+ * <p>
+ * Invalid rows are skipped and reported by line. If a chunk's insert fails, its rows are
+ * retried one at a time so only the offending rows are rejected.
+ */
+@Service
+@Slf4j
+@ConnectionPool(Workload.BACKGROUND)
+public class ComplaintImportService {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 2000;
+
+    /** Leeway for clock differences with the exporting system */
+    private static final long MAX_FILED_AHEAD_MINUTES = 60;
+
+    private final ComplaintBulkRepository bulkRepository;
+    private final ComplaintPartitionRepository partitionRepository;
+    private final AiPrioritizationService aiPrioritizationService;
+    private final ComplaintCounterService complaintCounterService;
+    private final ComplaintEventOutbox complaintEventOutbox;
+    private final ComplaintDuplicateService complaintDuplicateService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${complaints.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${complaints.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public ComplaintImportService(ComplaintBulkRepository bulkRepository,
+                                  ComplaintPartitionRepository partitionRepository,
+                                  AiPrioritizationService aiPrioritizationService,
+                                  ComplaintCounterService complaintCounterService,
+                                  ComplaintEventOutbox complaintEventOutbox,
+                                  ComplaintDuplicateService complaintDuplicateService,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper) {
+        this.bulkRepository = bulkRepository;
+        this.partitionRepository = partitionRepository;
+        this.aiPrioritizationService = aiPrioritizationService;
+        this.complaintCounterService = complaintCounterService;
+        this.complaintEventOutbox = complaintEventOutbox;
+        this.complaintDuplicateService = complaintDuplicateService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+    }
+
+    public BulkImportResult importCsv(InputStream in) throws IOException {
+        try (ImportRowReader reader = new CsvImportRowReader(in)) {
+            return importRows(reader);
+        }
+    }
+
+    public BulkImportResult importNdjson(InputStream in) throws IOException {
+        try (ImportRowReader reader = new NdjsonImportRowReader(in, objectMapper)) {
+            return importRows(reader);
+        }
+    }
+
+    private BulkImportResult importRows(ImportRowReader reader) throws IOException {
+        long start = System.nanoTime();
+        ImportProgress progress = new ImportProgress(maxReportedErrors);
+        UserLookup users = new UserLookup();
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() >= batchSize) {
+                importChunk(chunk, users, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, users, progress);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        BulkImportResult result = progress.toResult(elapsedMs);
+        log.info("Imported {} of {} complaints in {} ms ({} rows/s), {} rejected",
+                result.getImportedRows(), result.getTotalRows(), elapsedMs, result.getRowsPerSecond(),
+                result.getFailedRows());
+        return result;
+    }
+
+    private void importChunk(List<ImportRow> chunk, UserLookup users, ImportProgress progress) {
+        progress.total += chunk.size();
+        users.resolve(chunk);
+
+        // Validation and priority scoring are CPU-bound and independent per row
+        List<PreparedRow> prepared = chunk.parallelStream()
+                .map(row -> prepare(row, users))
+                .toList();
+
+        List<PreparedRow> valid = new ArrayList<>(prepared.size());
+        for (PreparedRow row : prepared) {
+            if (row.error() != null) {
+                progress.reject(row.line(), row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // Backdated rows need their month partitions. Creating one locks the complaints
+        // table, so it is done in short statements of its own rather than in the insert
+        partitionRepository.ensureMonthsOf(valid.stream().map(row -> row.complaint().dateFiled()).toList());
+
+        try {
+            insertInTransaction(valid);
+            progress.imported += valid.size();
+        } catch (DataAccessException e) {
+            log.warn("Bulk insert of {} complaints failed, retrying row by row: {}", valid.size(), e.getMessage());
+            for (PreparedRow row : valid) {
+                try {
+                    insertInTransaction(List.of(row));
+                    progress.imported++;
+                } catch (DataAccessException rowFailure) {
+                    progress.reject(row.line(), "Could not be stored: " + rootMessage(rowFailure));
+                }
+            }
+        }
+    }
+
+    private void insertInTransaction(List<PreparedRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<NewComplaint> complaints = rows.stream().map(PreparedRow::complaint).toList();
+            long[] ids = bulkRepository.insert(complaints);
+            recordCounters(rows);
+            LocalDateTime now = LocalDateTime.now();
+            List<ComplaintCreatedEvent> events = new ArrayList<>(complaints.size());
+            List<StoredComplaint> stored = new ArrayList<>(complaints.size());
+            for (int i = 0; i < complaints.size(); i++) {
+                NewComplaint complaint = complaints.get(i);
+                events.add(new ComplaintCreatedEvent(ids[i], complaint.userId(), complaint.crimeType(),
+                        complaint.status(), complaint.dateFiled(), now));
+                stored.add(new StoredComplaint(ids[i], complaint.description(), complaint.location(),
+                        complaint.dateFiled()));
+            }
+            complaintEventOutbox.recordAll(events);
+            complaintDuplicateService.indexAfterCommit(stored);
+        });
+    }
+
+    /**
+     * One counter update per (day, status, crime type) rather than per row
+     */
+    private void recordCounters(List<PreparedRow> rows) {
+        Map<CounterKey, Long> counts = rows.stream()
+                .map(PreparedRow::complaint)
+                .collect(Collectors.groupingBy(
+                        c -> new CounterKey(c.dateFiled().toLocalDate(), c.status(), c.crimeType()),
+                        Collectors.counting()));
+        counts.forEach((key, count) ->
+                complaintCounterService.recordCreated(key.date(), key.status(), key.crimeType(), count));
+    }
+
+    private PreparedRow prepare(ImportRow row, UserLookup users) {
+        if (row.parseError() != null) {
+            return PreparedRow.rejected(row.line(), row.parseError());
+        }
+
+        Long userId;
+        if (row.userId() != null) {
+            try {
+                userId = Long.parseLong(row.userId().trim());
+            } catch (NumberFormatException e) {
+                return PreparedRow.rejected(row.line(), "Invalid user id: " + row.userId());
+            }
+            if (!users.exists(userId)) {
+                return PreparedRow.rejected(row.line(), "User not found with id: " + userId);
+            }
+        } else if (row.userEmail() != null) {
+            userId = users.idForEmail(row.userEmail().trim());
+            if (userId == null) {
+                return PreparedRow.rejected(row.line(), "User not found with email: " + row.userEmail());
+            }
+        } else {
+            return PreparedRow.rejected(row.line(), "A user id or user email is required");
+        }
+
+        CrimeType crimeType = parseEnum(CrimeType.class, row.crimeType());
+        if (crimeType == null) {
+            return PreparedRow.rejected(row.line(), row.crimeType() == null
+                    ? "Crime type is required" : "Unknown crime type: " + row.crimeType());
+        }
+
+        String description = row.description();
+        if (description == null || description.isBlank()) {
+            return PreparedRow.rejected(row.line(), "Description is required");
+        }
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            return PreparedRow.rejected(row.line(),
+                    "Description exceeds " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+
+        ComplaintStatus status = ComplaintStatus.SUBMITTED;
+        if (row.status() != null) {
+            status = parseEnum(ComplaintStatus.class, row.status());
+            if (status == null) {
+                return PreparedRow.rejected(row.line(), "Unknown status: " + row.status());
+            }
+        }
+
+        LocalDateTime dateFiled;
+        try {
+            dateFiled = parseDateFiled(row.dateFiled());
+        } catch (DateTimeParseException e) {
+            return PreparedRow.rejected(row.line(), "Invalid date filed: " + row.dateFiled());
+        }
+        if (dateFiled.isAfter(LocalDateTime.now().plusMinutes(MAX_FILED_AHEAD_MINUTES))) {
+            return PreparedRow.rejected(row.line(), "Date filed is in the future: " + row.dateFiled());
+        }
+
+        int priorityScore = aiPrioritizationService.calculatePriorityScore(Complaint.builder()
+                .crimeType(crimeType)
+                .description(description)
+                .location(row.location())
+                .build());
+
+        return new PreparedRow(row.line(), new NewComplaint(
+                userId, crimeType, description, row.location(), status, priorityScore, dateFiled), null);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Accepts an ISO date-time or an ISO date (taken as start of day); defaults to now
+     */
+    private static LocalDateTime parseDateFiled(String value) {
+        if (value == null) {
+            return LocalDateTime.now();
+        }
+        String trimmed = value.trim();
+        return trimmed.length() == 10 ? LocalDate.parse(trimmed).atStartOfDay() : LocalDateTime.parse(trimmed);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private record PreparedRow(long line, NewComplaint complaint, String error) {
+        static PreparedRow rejected(long line, String error) {
+            return new PreparedRow(line, null, error);
+        }
+    }
+
+    private record CounterKey(LocalDate date, ComplaintStatus status, CrimeType crimeType) {}
+
+    /**
+     * Users seen so far in this import, so each id or email is looked up at most once
+     */
+    private class UserLookup {
+        private final Set<Long> existingIds = new HashSet<>();
+        private final Set<Long> checkedIds = new HashSet<>();
+        private final Map<String, Long> idsByEmail = new HashMap<>();
+        private final Set<String> checkedEmails = new HashSet<>();
+
+        void resolve(List<ImportRow> rows) {
+            Set<Long> ids = new HashSet<>();
+            Set<String> emails = new HashSet<>();
+            for (ImportRow row : rows) {
+                if (row.userId() != null) {
+                    try {
+                        long id = Long.parseLong(row.userId().trim());
+                        if (!checkedIds.contains(id)) {
+                            ids.add(id);
+                        }
+                    } catch (NumberFormatException ignored) {
+                        // Reported when the row is validated
+                    }
+                } else if (row.userEmail() != null) {
+                    String email = row.userEmail().trim();
+                    if (!checkedEmails.contains(email)) {
+                        emails.add(email);
+                    }
+                }
+            }
+            if (!ids.isEmpty()) {
+                existingIds.addAll(bulkRepository.findExistingUserIds(ids));
+                checkedIds.addAll(ids);
+            }
+            if (!emails.isEmpty()) {
+                idsByEmail.putAll(bulkRepository.findUserIdsByEmail(emails));
+                checkedEmails.addAll(emails);
+            }
+        }
+
+        boolean exists(long userId) {
+            return existingIds.contains(userId);
+        }
+
+        Long idForEmail(String email) {
+            return idsByEmail.get(email);
+        }
+    }
+
+    private static final class ImportProgress {
+        private final int maxReportedErrors;
+        private final List<BulkImportResult.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new BulkImportResult.RowError(line, message));
+            }
+        }
+
+        BulkImportResult toResult(long elapsedMs) {
+            return BulkImportResult.builder()
+                    .totalRows(total)
+                    .importedRows(imported)
+                    .failedRows(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .elapsedMs(elapsedMs)
+                    .rowsPerSecond(elapsedMs > 0 ? imported * 1000 / elapsedMs : imported)
+                    .build();
+        }
+    }
+}
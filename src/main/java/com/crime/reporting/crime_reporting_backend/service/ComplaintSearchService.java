@@ -0,0 +1,72 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintFilter;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintSearchHit;
+import com.crime.reporting.crime_reporting_backend.dto.CursorPage;
+import com.crime.reporting.crime_reporting_backend.dto.SearchLanguage;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintSearchRepository;
+import com.crime.reporting.crime_reporting_backend.service.pagination.SearchCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Ranked full-text search over complaints, paged with an opaque cursor
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 256;
+
+    private final ComplaintSearchRepository complaintSearchRepository;
+
+    @Value("${complaints.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${complaints.page.max-size:200}")
+    private int maxPageSize;
+
+    /**
+     * Searches descriptions and locations. The text uses web search syntax: quoted
+     * phrases, {@code or}, and {@code -} to exclude a word.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ComplaintSearchHit> search(String text, SearchLanguage language, ComplaintFilter filter,
+                                                 String cursor, Integer size) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text is required");
+        }
+        if (text.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search text must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        SearchCursor after = cursor != null && !cursor.isBlank() ? SearchCursor.decode(cursor) : null;
+        log.info("Searching complaints for '{}' ({}), page of {}", text, language, pageSize);
+
+        List<ComplaintSearchHit> hits = complaintSearchRepository.search(text.trim(),
+                language != null ? language : SearchLanguage.ALL,
+                filter != null ? filter : new ComplaintFilter(),
+                after, pageSize + 1);
+
+        boolean hasMore = hits.size() > pageSize;
+        List<ComplaintSearchHit> page = hasMore ? hits.subList(0, pageSize) : hits;
+        String nextCursor = null;
+        if (hasMore) {
+            ComplaintSearchHit last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(last.getRank(), last.getId()).encode();
+        }
+
+        return CursorPage.<ComplaintSearchHit>builder()
+                .items(page)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .size(pageSize)
+                .build();
+    }
+}
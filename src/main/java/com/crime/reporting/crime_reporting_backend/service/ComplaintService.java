@@ -4,8 +4,11 @@ import com.crime.reporting.crime_reporting_backend.controller.ComplaintControlle
 import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.DateCountDTO;
 import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.StatusCountDTO;
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintFilter;
+import com.crime.reporting.crime_reporting_backend.dto.CursorPage;
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintRequest;
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintResponse;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintSyncDTO;
 import com.crime.reporting.crime_reporting_backend.dto.EvidenceResponse;
 import com.crime.reporting.crime_reporting_backend.dto.PoliceOfficerStatisticsDTO;
 import com.crime.reporting.crime_reporting_backend.entity.Complaint;
@@ -84,16 +87,43 @@ public interface ComplaintService {
     PoliceOfficerStatisticsDTO getPoliceOfficerStatistics(Long policeOfficerId);
     
     /**
-     * Gets all complaints in the system
-     * @return list of all complaints
+     * Gets one page of complaints, newest first, using keyset pagination
+     * @param filter optional filters; unset fields do not filter
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size; capped at the configured maximum
+     * @return the page and the cursor of the next one
      */
-    List<ComplaintDTO> getAllComplaints();
+    CursorPage<ComplaintDTO> getComplaintsPage(ComplaintFilter filter, String cursor, Integer size);
     
     /**
-     * Gets all complaints for admin with detailed information
-     * @return list of all complaints with detailed information
+     * Gets one page of a police officer's open complaints, highest priority first and
+     * oldest first within a priority, using keyset pagination
+     * @param policeOfficerId the ID of the police officer
+     * @param cursor the nextCursor of the previous page, or null for the top of the queue
+     * @param size the requested page size; capped at the configured maximum
+     * @return the page and the cursor of the next one
+     */
+    CursorPage<ComplaintDTO> getOfficerWorkQueue(Long policeOfficerId, String cursor, Integer size);
+    
+    /**
+     * Gets what changed in a police officer's assigned complaints and their evidence since
+     * a previous sync, or a full snapshot for a missing or expired token
+     * @param policeOfficerId the ID of the police officer
+     * @param token the syncToken of the previous sync, or null for a full snapshot
+     * @param size the maximum number of changes, or of snapshot complaints, to return; capped at the
+     *             configured maximum
+     * @return the changes and the token for the next sync
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    ComplaintSyncDTO syncOfficerComplaints(Long policeOfficerId, String token, Integer size);
+    
+    /**
+     * Gets a police officer's most recently updated complaints
+     * @param policeOfficerId the ID of the police officer
+     * @param limit the maximum number of complaints to return
+     * @return the complaints, most recently updated first
      */
-    List<ComplaintDTO> getAllComplaintsForAdmin();
+    List<ComplaintDTO> getRecentlyUpdatedComplaintsByPoliceOfficerId(Long policeOfficerId, int limit);
     
     /**
      * Gets complaints by their status
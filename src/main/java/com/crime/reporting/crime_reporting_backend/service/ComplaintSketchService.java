@@ -0,0 +1,209 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.dto.ResolutionAnalyticsDTO;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintSketch;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintSketchId;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintSketchRepository;
+import com.crime.reporting.crime_reporting_backend.service.sketch.HyperLogLog;
+import com.tdunning.math.stats.MergingDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Builds per-day, per-officer sketches of resolution time and complainants, and answers
+ * percentile and distinct-count questions for any date range by merging them. Sketches
+ * are keyed by filing day, matching the date filter used by the report procedures.
+ * Days whose complaints changed are rebuilt every few minutes; a nightly full rebuild
+ * picks up deletions.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConnectionPool(Workload.REPORTING)
+public class ComplaintSketchService {
+
+    private static final double DIGEST_COMPRESSION = 100;
+    private static final double SECONDS_PER_DAY = 86400.0;
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
+
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintSketchRepository sketchRepository;
+
+    private volatile LocalDateTime lastRefresh = LocalDateTime.now();
+
+    /**
+     * Resolution percentiles and distinct complainants for the range; null bounds mean
+     * "from the beginning" and "up to today"
+     */
+    @Transactional(readOnly = true)
+    public ResolutionAnalyticsDTO summarize(LocalDate startDate, LocalDate endDate, Long departmentId, Long officerId) {
+        LocalDate from = startDate != null ? startDate : EARLIEST_DATE;
+        LocalDate to = endDate != null ? endDate : LocalDate.now();
+
+        SketchAccumulator accumulator = new SketchAccumulator();
+        sketchRepository.findInRange(from, to, departmentId, officerId).forEach(accumulator::merge);
+        return accumulator.toDTO(from, to, departmentId, officerId);
+    }
+
+    /**
+     * Same as {@link #summarize} but split per officer, for the officer performance report
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ResolutionAnalyticsDTO> summarizeByOfficer(LocalDate startDate, LocalDate endDate, Long departmentId) {
+        LocalDate from = startDate != null ? startDate : EARLIEST_DATE;
+        LocalDate to = endDate != null ? endDate : LocalDate.now();
+
+        Map<Long, SketchAccumulator> accumulators = new HashMap<>();
+        for (ComplaintSketch sketch : sketchRepository.findInRange(from, to, departmentId, null)) {
+            accumulators.computeIfAbsent(sketch.getId().getOfficerId(), id -> new SketchAccumulator()).merge(sketch);
+        }
+
+        Map<Long, ResolutionAnalyticsDTO> summaries = new HashMap<>();
+        accumulators.forEach((officerId, accumulator) ->
+                summaries.put(officerId, accumulator.toDTO(from, to, departmentId, officerId)));
+        return summaries;
+    }
+
+    /**
+     * Rebuilds the sketches for filing days with complaints updated since the last refresh
+     */
+    @Scheduled(fixedDelayString = "${stats.sketches.refresh-interval-ms:300000}",
+            initialDelayString = "${stats.sketches.refresh-interval-ms:300000}")
+    @ConnectionPool(Workload.BACKGROUND)
+    @Transactional
+    public void refreshChangedDays() {
+        LocalDateTime now = LocalDateTime.now();
+        // Overlap the previous window a little so updates committed late are not missed
+        List<LocalDate> days = complaintRepository.findFilingDatesUpdatedSince(lastRefresh.minusMinutes(1));
+        for (LocalDate day : days) {
+            rebuild(day, day);
+        }
+        lastRefresh = now;
+        if (!days.isEmpty()) {
+            log.info("Refreshed complaint sketches for {} changed days", days.size());
+        }
+    }
+
+    @Scheduled(cron = "${stats.sketches.rebuild-cron:0 45 3 * * *}")
+    @ConnectionPool(Workload.BACKGROUND)
+    @Transactional
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+        int rows = rebuild(EARLIEST_DATE, LocalDate.now());
+        log.info("Rebuilt {} complaint sketches in {} ms", rows, System.currentTimeMillis() - start);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (sketchRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    private int rebuild(LocalDate from, LocalDate to) {
+        sketchRepository.deleteInRange(from, to);
+
+        Map<ComplaintSketchId, SketchAccumulator> accumulators = new HashMap<>();
+        try (Stream<Object[]> rows = complaintRepository.streamSketchInputs(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            rows.forEach(row -> {
+                LocalDateTime dateFiled = (LocalDateTime) row[0];
+                ComplaintSketchId id = new ComplaintSketchId(
+                        dateFiled.toLocalDate(),
+                        row[1] != null ? (Long) row[1] : ComplaintSketchId.UNASSIGNED,
+                        row[2] != null ? (Long) row[2] : ComplaintSketchId.UNASSIGNED);
+                accumulators.computeIfAbsent(id, key -> new SketchAccumulator())
+                        .add(dateFiled, (Long) row[3], (ComplaintStatus) row[4], (LocalDateTime) row[5]);
+            });
+        }
+
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        List<ComplaintSketch> sketches = new ArrayList<>(accumulators.size());
+        accumulators.forEach((id, accumulator) -> sketches.add(accumulator.toEntity(id, refreshedAt)));
+        sketchRepository.saveAll(sketches);
+        return sketches.size();
+    }
+
+    /**
+     * Running counts plus the two sketches, fed either from raw complaints or from stored rows
+     */
+    private static final class SketchAccumulator {
+        private final MergingDigest resolutionDays = new MergingDigest(DIGEST_COMPRESSION);
+        private final HyperLogLog complainants = new HyperLogLog();
+        private long complaintCount;
+        private long resolvedCount;
+
+        void add(LocalDateTime dateFiled, Long userId, ComplaintStatus status, LocalDateTime dateLastUpdated) {
+            complaintCount++;
+            if (userId != null) {
+                complainants.add(userId);
+            }
+            if (status == ComplaintStatus.RESOLVED && dateLastUpdated != null) {
+                resolvedCount++;
+                resolutionDays.add(Duration.between(dateFiled, dateLastUpdated).toSeconds() / SECONDS_PER_DAY);
+            }
+        }
+
+        void merge(ComplaintSketch sketch) {
+            complaintCount += sketch.getComplaintCount();
+            resolvedCount += sketch.getResolvedCount();
+            complainants.merge(HyperLogLog.fromBytes(sketch.getComplainantHll()));
+            if (sketch.getResolutionDigest() != null) {
+                resolutionDays.add(MergingDigest.fromBytes(ByteBuffer.wrap(sketch.getResolutionDigest())));
+            }
+        }
+
+        ComplaintSketch toEntity(ComplaintSketchId id, LocalDateTime refreshedAt) {
+            byte[] digest = null;
+            if (resolutionDays.size() > 0) {
+                ByteBuffer buffer = ByteBuffer.allocate(resolutionDays.smallByteSize());
+                resolutionDays.asSmallBytes(buffer);
+                digest = buffer.array();
+            }
+            return ComplaintSketch.builder()
+                    .id(id)
+                    .complaintCount(complaintCount)
+                    .resolvedCount(resolvedCount)
+                    .resolutionDigest(digest)
+                    .complainantHll(complainants.toBytes())
+                    .refreshedAt(refreshedAt)
+                    .build();
+        }
+
+        ResolutionAnalyticsDTO toDTO(LocalDate from, LocalDate to, Long departmentId, Long officerId) {
+            boolean hasResolutions = resolutionDays.size() > 0;
+            return ResolutionAnalyticsDTO.builder()
+                    .startDate(from)
+                    .endDate(to)
+                    .departmentId(departmentId)
+                    .officerId(officerId)
+                    .complaintCount(complaintCount)
+                    .resolvedCount(resolvedCount)
+                    .p50ResolutionDays(hasResolutions ? resolutionDays.quantile(0.5) : null)
+                    .p90ResolutionDays(hasResolutions ? resolutionDays.quantile(0.9) : null)
+                    .p99ResolutionDays(hasResolutions ? resolutionDays.quantile(0.99) : null)
+                    .distinctComplainants(complaintCount > 0 ? complainants.estimate() : 0)
+                    .build();
+        }
+    }
+}
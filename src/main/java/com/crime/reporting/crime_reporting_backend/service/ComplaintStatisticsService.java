@@ -0,0 +1,112 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.CrimeTypeCountDTO;
+import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.DateCountDTO;
+import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.StatusCountDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintStatisticsDTO;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintStatisticsRepository;
+import com.crime.reporting.crime_reporting_backend.repository.projection.ComplaintAggregate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Read model behind the complaint and police dashboards. Each view is one aggregate
+ * statement (see {@link ComplaintStatisticsRepository}) and is cached for a few seconds,
+ * so a burst of dashboard loads costs one query per view rather than one per request.
+ * The cache holds a bounded number of views, evicting the least recently used officers.
+ */
+@Service
+@Slf4j
+@ConnectionPool(Workload.REPORTING)
+public class ComplaintStatisticsService {
+
+    private static final long SYSTEM_WIDE = -1L;
+
+    private final ComplaintStatisticsRepository statisticsRepository;
+    private final int trendDays;
+    private final Cache<Long, ComplaintStatisticsDTO> cache;
+
+    public ComplaintStatisticsService(ComplaintStatisticsRepository statisticsRepository,
+                                      @Value("${stats.aggregate.ttl-ms:5000}") long ttlMillis,
+                                      @Value("${stats.aggregate.max-entries:1000}") long maxEntries,
+                                      @Value("${stats.aggregate.trend-days:30}") int trendDays) {
+        this.statisticsRepository = statisticsRepository;
+        this.trendDays = trendDays;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Statistics over all complaints
+     */
+    @Transactional(readOnly = true)
+    public ComplaintStatisticsDTO getStatistics() {
+        return cached(SYSTEM_WIDE, () -> statisticsRepository.aggregate(trendFrom()));
+    }
+
+    /**
+     * Statistics over the complaints assigned to one police officer
+     */
+    @Transactional(readOnly = true)
+    public ComplaintStatisticsDTO getOfficerStatistics(Long policeOfficerId) {
+        return cached(policeOfficerId, () -> statisticsRepository.aggregateForOfficer(policeOfficerId, trendFrom()));
+    }
+
+    /**
+     * Count of the given statuses in a statistics view
+     */
+    public static long countOf(ComplaintStatisticsDTO statistics, ComplaintStatus... statuses) {
+        long count = 0;
+        for (StatusCountDTO statusCount : statistics.getByStatus()) {
+            for (ComplaintStatus status : statuses) {
+                if (status.name().equals(statusCount.status())) {
+                    count += statusCount.count();
+                }
+            }
+        }
+        return count;
+    }
+
+    private ComplaintStatisticsDTO cached(long key, Supplier<ComplaintAggregate> query) {
+        // Concurrent misses for the same view wait for one query instead of each running it
+        return cache.get(key, k -> toDTO(query.get()));
+    }
+
+    private LocalDate trendFrom() {
+        return LocalDate.now().minusDays(trendDays);
+    }
+
+    private static ComplaintStatisticsDTO toDTO(ComplaintAggregate aggregate) {
+        List<StatusCountDTO> byStatus = aggregate.byStatus().entrySet().stream()
+                .map(entry -> new StatusCountDTO(entry.getKey().name(), entry.getValue()))
+                .toList();
+        List<CrimeTypeCountDTO> byCrimeType = aggregate.byCrimeType().entrySet().stream()
+                .map(entry -> new CrimeTypeCountDTO(entry.getKey().name(), entry.getValue()))
+                .toList();
+        List<DateCountDTO> trends = aggregate.byDate().entrySet().stream()
+                .map(entry -> new DateCountDTO(entry.getKey().toString(), entry.getValue()))
+                .toList();
+        return ComplaintStatisticsDTO.builder()
+                .byStatus(byStatus)
+                .byCrimeType(byCrimeType)
+                .trends(trends)
+                .total(aggregate.total())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.entity.Complaint;
+import com.crime.reporting.crime_reporting_backend.entity.Evidence;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintAssignmentChangedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintCreatedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintDeletedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintStatusChangedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintUpdatedEvent;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintSyncRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintSyncRepository.ChangeType;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintSyncRepository.NewChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes the per-officer change log read by the mobile delta sync, in the transaction
+ * that makes the change. Complaint changes are taken from the complaint events as the
+ * outbox stores them, so every path that records an event is covered; evidence changes
+ * are recorded by the evidence service.
+ * <p>
+ * Entries are kept for the configured retention; a client whose token is older gets a
+ * full snapshot instead.
+ */
+@Service
+@Slf4j
+public class ComplaintSyncLog {
+
+    private final ComplaintSyncRepository syncRepository;
+    private final int retentionDays;
+
+    public ComplaintSyncLog(ComplaintSyncRepository syncRepository,
+                            @Value("${complaints.sync.retention-days:30}") int retentionDays) {
+        this.syncRepository = syncRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordEvents(Collection<? extends ComplaintEvent> events) {
+        List<NewChange> changes = new ArrayList<>();
+        for (ComplaintEvent event : events) {
+            collect(event, changes);
+        }
+        syncRepository.append(changes);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordEvidenceAdded(Complaint complaint, Collection<Evidence> evidences) {
+        Long officerId = officerId(complaint);
+        if (officerId == null) {
+            return;
+        }
+        syncRepository.append(evidences.stream()
+                .map(evidence -> new NewChange(officerId, complaint.getId(), evidence.getId(), ChangeType.EVIDENCE_ADDED))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordEvidenceRemoved(Evidence evidence) {
+        Long officerId = officerId(evidence.getComplaint());
+        if (officerId != null) {
+            syncRepository.append(List.of(new NewChange(officerId, evidence.getComplaint().getId(), evidence.getId(),
+                    ChangeType.EVIDENCE_REMOVED)));
+        }
+    }
+
+    /**
+     * Whether changes since a watermark taken at the given time are all still in the log
+     */
+    public boolean isRetained(LocalDateTime issuedAt) {
+        return issuedAt.isAfter(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    @Scheduled(cron = "${complaints.sync.purge-cron:0 0 5 * * *}")
+    public void purgeExpired() {
+        // A day past the retention, for transactions that were already running when a token was issued
+        int deleted = syncRepository.deleteChangedBefore(LocalDateTime.now().minusDays(retentionDays + 1L));
+        if (deleted > 0) {
+            log.info("Purged {} complaint sync log entries", deleted);
+        }
+    }
+
+    private static void collect(ComplaintEvent event, List<NewChange> changes) {
+        long complaintId = event.complaintId();
+        switch (event) {
+            // New complaints are not assigned to anyone yet
+            case ComplaintCreatedEvent created -> { }
+            case ComplaintAssignmentChangedEvent assigned -> {
+                Long previous = assigned.previousOfficerId();
+                Long current = assigned.officerId();
+                if (previous != null && !previous.equals(current)) {
+                    changes.add(new NewChange(previous, complaintId, null, ChangeType.COMPLAINT_REMOVED));
+                }
+                if (current != null) {
+                    changes.add(new NewChange(current, complaintId, null,
+                            current.equals(previous) ? ChangeType.COMPLAINT_CHANGED : ChangeType.COMPLAINT_ASSIGNED));
+                }
+            }
+            case ComplaintStatusChangedEvent changed -> {
+                if (changed.officerId() != null) {
+                    changes.add(new NewChange(changed.officerId(), complaintId, null, ChangeType.COMPLAINT_CHANGED));
+                }
+            }
+            case ComplaintUpdatedEvent updated -> {
+                if (updated.officerId() != null) {
+                    changes.add(new NewChange(updated.officerId(), complaintId, null, ChangeType.COMPLAINT_CHANGED));
+                }
+            }
+            case ComplaintDeletedEvent deleted -> {
+                if (deleted.officerId() != null) {
+                    changes.add(new NewChange(deleted.officerId(), complaintId, null, ChangeType.COMPLAINT_REMOVED));
+                }
+            }
+        }
+    }
+
+    private static Long officerId(Complaint complaint) {
+        return complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : null;
+    }
+}
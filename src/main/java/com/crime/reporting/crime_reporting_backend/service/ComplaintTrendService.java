@@ -0,0 +1,220 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintTrendDTO;
+import com.crime.reporting.crime_reporting_backend.dto.TrendGranularity;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintStatisticsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Complaint counts per hour, day, week or month over a range, with empty buckets filled
+ * in. A bucket that ended before now only changes if a complaint is filed into the past
+ * (a backdated import) or deleted, so closed buckets are cached and only the open bucket
+ * and uncached ones are queried, in one statement.
+ * <p>
+ * The counter service evicts the buckets of a day when a complaint filed on it is created
+ * or deleted, once that transaction commits. Evictions are local to this instance, so
+ * closed buckets also expire after a configured time, which bounds how long a change
+ * made through another instance can go unseen.
+ */
+@Service
+@Slf4j
+@ConnectionPool(Workload.REPORTING)
+public class ComplaintTrendService {
+
+    private final ComplaintStatisticsRepository statisticsRepository;
+    private final int maxBuckets;
+    private final long closedBucketTtlNanos;
+    private final Map<TrendGranularity, NavigableMap<LocalDateTime, CachedBucket>> closedBuckets =
+            new EnumMap<>(TrendGranularity.class);
+    /** Bumped on every eviction, so a query that raced with one does not cache its result */
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ComplaintTrendService(ComplaintStatisticsRepository statisticsRepository,
+                                 @Value("${stats.trends.max-buckets:1000}") int maxBuckets,
+                                 @Value("${stats.trends.closed-bucket-ttl-ms:300000}") long closedBucketTtlMs) {
+        this.statisticsRepository = statisticsRepository;
+        this.maxBuckets = maxBuckets;
+        this.closedBucketTtlNanos = TimeUnit.MILLISECONDS.toNanos(closedBucketTtlMs);
+        for (TrendGranularity granularity : TrendGranularity.values()) {
+            closedBuckets.put(granularity, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * Complaints filed per bucket between {@code from} and {@code to}, widened to whole buckets
+     * @throws IllegalArgumentException if the range is empty or spans too many buckets
+     */
+    @Transactional(readOnly = true)
+    public ComplaintTrendDTO getTrend(TrendGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (granularity == null || from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("A granularity and a non-empty range are required");
+        }
+        LocalDateTime start = granularity.truncate(from);
+        LocalDateTime truncatedEnd = granularity.truncate(to);
+        LocalDateTime end = truncatedEnd.equals(to) ? to : granularity.next(truncatedEnd);
+
+        List<LocalDateTime> bucketStarts = new ArrayList<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = granularity.next(bucket)) {
+            if (bucketStarts.size() == maxBuckets) {
+                throw new IllegalArgumentException("Range spans more than " + maxBuckets + " "
+                        + granularity.getSqlUnit() + " buckets");
+            }
+            bucketStarts.add(bucket);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long nowNanos = System.nanoTime();
+        NavigableMap<LocalDateTime, CachedBucket> cache = closedBuckets.get(granularity);
+
+        // Query from the first bucket that is open, not cached or expired to the end of the range
+        LocalDateTime queryFrom = null;
+        Map<LocalDateTime, Long> cachedCounts = new HashMap<>();
+        for (LocalDateTime bucket : bucketStarts) {
+            CachedBucket cached = isClosed(granularity, bucket, now) ? cache.get(bucket) : null;
+            if (cached == null || cached.isExpired(nowNanos)) {
+                queryFrom = bucket;
+                break;
+            }
+            cachedCounts.put(bucket, cached.count());
+        }
+
+        long evictionsBefore = evictions.get();
+        Map<LocalDateTime, Long> queried = queryFrom != null
+                ? statisticsRepository.countByBucket(granularity, queryFrom, end)
+                : Map.of();
+
+        List<ComplaintTrendDTO.Bucket> buckets = new ArrayList<>(bucketStarts.size());
+        Map<LocalDateTime, CachedBucket> newlyClosed = new HashMap<>();
+        long expiresAt = nowNanos + closedBucketTtlNanos;
+        for (LocalDateTime bucket : bucketStarts) {
+            long count;
+            if (queryFrom == null || bucket.isBefore(queryFrom)) {
+                count = cachedCounts.get(bucket);
+            } else {
+                count = queried.getOrDefault(bucket, 0L);
+                if (isClosed(granularity, bucket, now)) {
+                    newlyClosed.put(bucket, new CachedBucket(count, expiresAt));
+                }
+            }
+            buckets.add(new ComplaintTrendDTO.Bucket(bucket, count));
+        }
+        if (evictions.get() == evictionsBefore) {
+            cache.putAll(newlyClosed);
+        }
+
+        return ComplaintTrendDTO.builder()
+                .granularity(granularity)
+                .from(start)
+                .to(end)
+                .buckets(buckets)
+                .build();
+    }
+
+    /**
+     * Evicts the cached buckets covering the day of a complaint filed (or deleted) at
+     * {@code filedAt} once the current transaction commits, or immediately outside a
+     * transaction. Complaints filed in the current hour touch only open buckets and evict
+     * nothing, so ordinary submissions leave the cache alone.
+     */
+    public void evictOnCommit(LocalDateTime filedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(Set.of(filedAt));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEvictions pending && pending.owner() == this) {
+                pending.filedAt.add(filedAt);
+                return;
+            }
+        }
+        PendingEvictions pending = new PendingEvictions();
+        pending.filedAt.add(filedAt);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    /**
+     * Drops every cached bucket once the current transaction commits; used when the
+     * counters are rebuilt
+     */
+    public void evictAllOnCommit() {
+        Runnable evictAll = () -> {
+            evictions.incrementAndGet();
+            closedBuckets.values().forEach(Map::clear);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll.run();
+            }
+        });
+    }
+
+    private void evict(Set<LocalDateTime> filedAt) {
+        LocalDateTime currentHour = TrendGranularity.HOUR.truncate(LocalDateTime.now());
+        Set<LocalDate> days = new HashSet<>();
+        for (LocalDateTime time : filedAt) {
+            if (time.isBefore(currentHour)) {
+                days.add(time.toLocalDate());
+            }
+        }
+        if (days.isEmpty()) {
+            return;
+        }
+        evictions.incrementAndGet();
+        for (LocalDate day : days) {
+            LocalDateTime dayStart = day.atStartOfDay();
+            LocalDateTime dayEnd = dayStart.plusDays(1);
+            closedBuckets.forEach((granularity, cache) ->
+                    cache.subMap(granularity.truncate(dayStart), true, dayEnd, false).clear());
+        }
+    }
+
+    private static boolean isClosed(TrendGranularity granularity, LocalDateTime bucket, LocalDateTime now) {
+        return !granularity.next(bucket).isAfter(now);
+    }
+
+    private record CachedBucket(long count, long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    private final class PendingEvictions implements TransactionSynchronization {
+        private final Set<LocalDateTime> filedAt = new HashSet<>();
+
+        ComplaintTrendService owner() {
+            return ComplaintTrendService.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            evict(filedAt);
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class EvidenceService {
     private final ComplaintRepository complaintRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
+    private final ComplaintSyncLog complaintSyncLog;
 
     @Transactional
     public List<EvidenceResponse> uploadEvidenceFiles(List<MultipartFile> files, Long complaintId, Long userId) throws IOException {
@@ -64,9 +65,13 @@ public class EvidenceService {
                     .uploadedBy(user)
                     .build();
             
-            evidences.add(evidenceRepository.save(evidence));
+            evidences.add(evidence);
         }
         
+        // Persisted together so the inserts go out as one JDBC batch at flush
+        evidences = evidenceRepository.saveAll(evidences);
+        complaintSyncLog.recordEvidenceAdded(complaint, evidences);
+        
         // Return evidence responses
         return evidences.stream()
                 .map(this::mapToEvidenceResponse)
@@ -123,6 +128,7 @@ public class EvidenceService {
             
             // Delete the database record
             evidenceRepository.delete(evidence);
+            complaintSyncLog.recordEvidenceRemoved(evidence);
         } catch (IOException e) {
             throw new RuntimeException("Failed to delete evidence file", e);
         }
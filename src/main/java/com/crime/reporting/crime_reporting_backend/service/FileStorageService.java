@@ -1,14 +1,23 @@
 package com.crime.reporting.crime_reporting_backend.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -19,11 +28,24 @@ import java.util.UUID;
  * Service for handling file storage operations
  */
 @Service
+@Slf4j
 public class FileStorageService {
 
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    @Value("${file.staging-dir:${file.upload-dir}-staging}")
+    private String stagingDir;
+
+    @Value("${file.staging.max-age-minutes:60}")
+    private long stagingMaxAgeMinutes;
+
+    /**
+     * An uploaded file written to the staging area, not yet visible under /uploads
+     */
+    public record StagedFile(Path path, String fileName, String originalFileName, String contentType, long size) {
+    }
+
     public List<String> storeFiles(List<MultipartFile> files) throws IOException {
         List<String> fileUrls = new ArrayList<>();
         Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
@@ -35,15 +57,7 @@ public class FileStorageService {
 
         for (MultipartFile file : files) {
             // Generate a unique file name to prevent conflicts
-            String originalFileName = file.getOriginalFilename();
-            String fileExtension = "";
-            if (originalFileName != null && originalFileName.contains(".")) {
-                fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-            }
-            
-            // Format: year-month-day_hour-minute-second_randomUUID.extension
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String newFileName = timestamp + "_" + UUID.randomUUID().toString() + fileExtension;
+            String newFileName = newFileName(file.getOriginalFilename());
             
             Path targetLocation = uploadPath.resolve(newFileName);
             
@@ -72,15 +86,7 @@ public class FileStorageService {
         }
 
         // Generate a unique file name to prevent conflicts
-        String originalFileName = file.getOriginalFilename();
-        String fileExtension = "";
-        if (originalFileName != null && originalFileName.contains(".")) {
-            fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        }
-        
-        // Format: year-month-day_hour-minute-second_randomUUID.extension
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-        String newFileName = timestamp + "_" + UUID.randomUUID().toString() + fileExtension;
+        String newFileName = newFileName(file.getOriginalFilename());
         
         Path targetLocation = uploadPath.resolve(newFileName);
         
@@ -90,6 +96,89 @@ public class FileStorageService {
         return newFileName;
     }
     
+    /**
+     * Streams uploads into the staging area. Meant to run before the transaction that
+     * records them, so slow uploads never hold a database connection. If any file fails,
+     * the ones already staged are removed.
+     * @param files the uploaded files
+     * @return the staged files, in upload order
+     */
+    public List<StagedFile> stageFiles(List<MultipartFile> files) throws IOException {
+        Path stagingPath = Paths.get(stagingDir).toAbsolutePath().normalize();
+        Files.createDirectories(stagingPath);
+
+        List<StagedFile> staged = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                String fileName = newFileName(file.getOriginalFilename());
+                Path target = stagingPath.resolve(fileName);
+                file.transferTo(target);
+                staged.add(new StagedFile(target, fileName, file.getOriginalFilename(), file.getContentType(),
+                        file.getSize()));
+            }
+        } catch (IOException | RuntimeException e) {
+            discard(staged);
+            throw e;
+        }
+        return staged;
+    }
+
+    /**
+     * Moves staged files into the upload directory as the current transaction commits.
+     * Files are moved just before the commit, so a committed evidence row always finds its
+     * file; if the transaction rolls back, staged and already moved files are deleted.
+     * @param files files staged by {@link #stageFiles}
+     */
+    public void promoteOnCommit(List<StagedFile> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Staged files can only be promoted within a transaction");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new PromoteOnCommit(files));
+    }
+
+    /**
+     * Removes staged files that will not be promoted
+     */
+    public void discard(List<StagedFile> files) {
+        for (StagedFile file : files) {
+            try {
+                Files.deleteIfExists(file.path());
+            } catch (IOException e) {
+                log.warn("Could not delete staged file {}: {}", file.path(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes staged files left behind by requests that never completed, e.g. because the
+     * application stopped mid-upload
+     */
+    @Scheduled(cron = "${file.staging.purge-cron:0 15 * * * *}")
+    public void purgeStaleStagedFiles() {
+        Path stagingPath = Paths.get(stagingDir).toAbsolutePath().normalize();
+        if (!Files.isDirectory(stagingPath)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(stagingMaxAgeMinutes));
+        int purged = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(stagingPath)) {
+            for (Path entry : entries) {
+                if (Files.isRegularFile(entry) && Files.getLastModifiedTime(entry).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(entry);
+                    purged++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not purge staged files in {}: {}", stagingPath, e.getMessage());
+        }
+        if (purged > 0) {
+            log.info("Purged {} stale staged files", purged);
+        }
+    }
+
     /**
      * Deletes a stored file
      * @param fileName the name of the file to delete
@@ -98,4 +187,64 @@ public class FileStorageService {
         Path filePath = Paths.get(uploadDir).resolve(fileName).normalize();
         Files.deleteIfExists(filePath);
     }
+
+    private static String newFileName(String originalFileName) {
+        String fileExtension = "";
+        if (originalFileName != null && originalFileName.contains(".")) {
+            fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        }
+
+        // Format: year-month-day_hour-minute-second_randomUUID.extension
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        return timestamp + "_" + UUID.randomUUID() + fileExtension;
+    }
+
+    private final class PromoteOnCommit implements TransactionSynchronization {
+        private final List<StagedFile> staged;
+        private final List<Path> promoted = new ArrayList<>();
+
+        private PromoteOnCommit(List<StagedFile> staged) {
+            this.staged = staged;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+            try {
+                Files.createDirectories(uploadPath);
+                for (StagedFile file : staged) {
+                    Path target = uploadPath.resolve(file.fileName());
+                    move(file.path(), target);
+                    promoted.add(target);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not move staged evidence into " + uploadPath, e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            // On an unknown outcome the rows may have committed, so the files are kept
+            if (status != STATUS_ROLLED_BACK) {
+                return;
+            }
+            discard(staged);
+            for (Path path : promoted) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Could not delete evidence file {} after rollback: {}", path, e.getMessage());
+                }
+            }
+        }
+
+        private static void move(Path source, Path target) throws IOException {
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                // Staging area on another file system; fall back to copy and delete
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.crime.reporting.crime_reporting_backend.service;
 
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
 import com.crime.reporting.crime_reporting_backend.dto.HotspotResponse;
 import com.crime.reporting.crime_reporting_backend.entity.Complaint;
 import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
@@ -22,6 +24,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@ConnectionPool(Workload.REPORTING)
 public class HotspotAnalysisService {
 
     private final ComplaintRepository complaintRepository;
@@ -0,0 +1,200 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.entity.ReportArtifact;
+import com.crime.reporting.crime_reporting_backend.entity.ReportType;
+import com.crime.reporting.crime_reporting_backend.repository.ReportArtifactRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores pre-rendered reports on disk and looks them up by report type, parameters and period.
+ * The artifact directory is expected to be shared between nodes, like the upload directory.
+ * <p>
+ * Files are changed in step with the records: files a transaction replaces or purges are
+ * deleted only once it commits, and a file it wrote is deleted if it rolls back.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportArtifactService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ReportArtifactRepository reportArtifactRepository;
+
+    @Value("${report.artifacts.dir:./report-artifacts}")
+    private String artifactsDir;
+
+    @Value("${report.artifacts.retention-days:35}")
+    private int retentionDays;
+
+    /**
+     * Builds the canonical parameter key used to match requests against stored artifacts
+     */
+    public static String parameterKey(Long departmentId, String status, String crimeType) {
+        return "department=" + (departmentId != null ? departmentId : "")
+                + ";status=" + (status != null ? status : "")
+                + ";crimeType=" + (crimeType != null ? crimeType : "");
+    }
+
+    /**
+     * Returns the stored report for exactly this type, parameters and period, if one was pre-generated
+     */
+    @Transactional(readOnly = true)
+    public Optional<byte[]> findArtifact(ReportType reportType, String parameterKey,
+                                         LocalDateTime periodStart, LocalDateTime periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            return Optional.empty();
+        }
+        return reportArtifactRepository
+                .findByReportTypeAndParameterKeyAndPeriodStartAndPeriodEnd(reportType, parameterKey, periodStart, periodEnd)
+                .flatMap(this::readArtifact);
+    }
+
+    /**
+     * Returns the most recent pre-generated report of this type and parameters
+     */
+    @Transactional(readOnly = true)
+    public Optional<ReportArtifact> findLatest(ReportType reportType, String parameterKey) {
+        return reportArtifactRepository
+                .findFirstByReportTypeAndParameterKeyOrderByPeriodEndDescGeneratedAtDesc(reportType, parameterKey);
+    }
+
+    public Optional<byte[]> readArtifact(ReportArtifact artifact) {
+        Path file = resolveDir().resolve(artifact.getFileName()).normalize();
+        try {
+            return Optional.of(Files.readAllBytes(file));
+        } catch (IOException e) {
+            log.warn("Report artifact {} is registered but could not be read from {}: {}",
+                    artifact.getId(), file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the rendered report to the artifact area and registers (or replaces) its record
+     */
+    @Transactional
+    public ReportArtifact storeArtifact(ReportType reportType, String parameterKey, LocalDateTime periodStart,
+                                        LocalDateTime periodEnd, byte[] content, Long scheduleId) throws IOException {
+        Path dir = resolveDir();
+        Files.createDirectories(dir);
+
+        String fileName = reportType.name().toLowerCase() + "_" + LocalDateTime.now().format(FILE_TIMESTAMP)
+                + "_" + UUID.randomUUID() + ".pdf";
+        // Write to a temporary file first so readers never see a partially written report
+        Path tmp = Files.createTempFile(dir, "report-", ".tmp");
+        Files.write(tmp, content);
+        Files.move(tmp, dir.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+        fileChanges().written.add(fileName);
+
+        ReportArtifact artifact = reportArtifactRepository
+                .findByReportTypeAndParameterKeyAndPeriodStartAndPeriodEnd(reportType, parameterKey, periodStart, periodEnd)
+                .orElseGet(() -> ReportArtifact.builder()
+                        .reportType(reportType)
+                        .parameterKey(parameterKey)
+                        .periodStart(periodStart)
+                        .periodEnd(periodEnd)
+                        .build());
+        String previousFile = artifact.getFileName();
+
+        artifact.setFileName(fileName);
+        artifact.setContentType("application/pdf");
+        artifact.setSizeBytes((long) content.length);
+        artifact.setScheduleId(scheduleId);
+        artifact.setGeneratedAt(LocalDateTime.now());
+        ReportArtifact saved = reportArtifactRepository.save(artifact);
+
+        if (previousFile != null) {
+            fileChanges().replaced.add(previousFile);
+        }
+        log.info("Stored {} report artifact {} ({} bytes) for period {} - {}",
+                reportType, saved.getId(), content.length, periodStart, periodEnd);
+        return saved;
+    }
+
+    /**
+     * Removes artifacts older than the retention window
+     */
+    @Scheduled(cron = "${report.artifacts.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void purgeExpiredArtifacts() {
+        List<ReportArtifact> expired = reportArtifactRepository
+                .findByGeneratedAtBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (expired.isEmpty()) {
+            return;
+        }
+        reportArtifactRepository.deleteAll(expired);
+        FileChanges changes = fileChanges();
+        expired.forEach(artifact -> changes.replaced.add(artifact.getFileName()));
+        log.info("Purged {} expired report artifacts", expired.size());
+    }
+
+    /**
+     * The file changes of the current transaction, registered with it on first use
+     */
+    private FileChanges fileChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Report artifact files can only be changed within a transaction");
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof FileChanges changes && changes.owner() == this) {
+                return changes;
+            }
+        }
+        FileChanges changes = new FileChanges();
+        TransactionSynchronizationManager.registerSynchronization(changes);
+        return changes;
+    }
+
+    private void deleteQuietly(String fileName) {
+        try {
+            Files.deleteIfExists(resolveDir().resolve(fileName).normalize());
+        } catch (IOException e) {
+            log.warn("Could not delete report artifact file {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    private Path resolveDir() {
+        return Paths.get(artifactsDir).toAbsolutePath().normalize();
+    }
+
+    private final class FileChanges implements TransactionSynchronization {
+        /** Files no longer referenced once the transaction commits */
+        private final List<String> replaced = new ArrayList<>();
+        /** Files the transaction's records point to */
+        private final List<String> written = new ArrayList<>();
+
+        ReportArtifactService owner() {
+            return ReportArtifactService.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            // On an unknown outcome the records may point to either set, so both are kept
+            if (status == STATUS_COMMITTED) {
+                replaced.forEach(ReportArtifactService.this::deleteQuietly);
+            } else if (status == STATUS_ROLLED_BACK) {
+                written.forEach(ReportArtifactService.this::deleteQuietly);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.dto.ReportScheduleRequest;
+import com.crime.reporting.crime_reporting_backend.dto.ReportScheduleResponse;
+import com.crime.reporting.crime_reporting_backend.entity.ReportSchedule;
+import com.crime.reporting.crime_reporting_backend.exception.ResourceNotFoundException;
+import com.crime.reporting.crime_reporting_backend.repository.ReportScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.net.InetAddress;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the stored report schedules and keeps the artifact area filled with the standard reports.
+ * Every node polls for due schedules, but a schedule is rendered only by the node that wins
+ * the conditional claim update, so each report is generated once per run across the cluster.
+ */
+@Service
+@Slf4j
+public class ReportScheduleService {
+
+    private final ReportScheduleRepository reportScheduleRepository;
+    private final ReportArtifactService reportArtifactService;
+    private final ReportService reportService;
+    private final String nodeId;
+
+    @Value("${report.schedule.lock-minutes:30}")
+    private long lockMinutes;
+
+    public ReportScheduleService(ReportScheduleRepository reportScheduleRepository,
+                                 ReportArtifactService reportArtifactService,
+                                 ReportService reportService,
+                                 @Value("${report.schedule.node-id:}") String nodeId) {
+        this.reportScheduleRepository = reportScheduleRepository;
+        this.reportArtifactService = reportArtifactService;
+        this.reportService = reportService;
+        this.nodeId = nodeId != null && !nodeId.isBlank() ? nodeId : defaultNodeId();
+    }
+
+    @Scheduled(fixedDelayString = "${report.schedule.poll-interval-ms:60000}",
+               initialDelayString = "${report.schedule.initial-delay-ms:30000}")
+    public void runDueSchedules() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReportSchedule> due = reportScheduleRepository.findDue(now);
+        for (ReportSchedule schedule : due) {
+            if (reportScheduleRepository.claim(schedule.getId(), nodeId, now, now.plusMinutes(lockMinutes)) != 1) {
+                log.debug("Report schedule {} was claimed by another node", schedule.getId());
+                continue;
+            }
+            runClaimedSchedule(schedule);
+        }
+    }
+
+    private void runClaimedSchedule(ReportSchedule schedule) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDate today = startedAt.toLocalDate();
+        LocalDateTime periodStart = schedule.getPeriod().startFor(today);
+        LocalDateTime periodEnd = schedule.getPeriod().endFor(today);
+        log.info("Pre-generating report schedule {} ({}) for period {} - {} on node {}",
+                schedule.getId(), schedule.getReportType(), periodStart, periodEnd, nodeId);
+
+        try {
+            byte[] content = render(schedule, periodStart, periodEnd);
+            if (content.length > 0) {
+                reportArtifactService.storeArtifact(schedule.getReportType(), parameterKey(schedule),
+                        periodStart, periodEnd, content, schedule.getId());
+            } else {
+                log.info("Report schedule {} produced no content for period {} - {}",
+                        schedule.getId(), periodStart, periodEnd);
+            }
+        } catch (Exception e) {
+            log.error("Error running report schedule {}", schedule.getId(), e);
+        } finally {
+            reportScheduleRepository.release(schedule.getId(), nodeId, startedAt,
+                    nextRun(schedule.getCronExpression(), LocalDateTime.now()));
+        }
+    }
+
+    private byte[] render(ReportSchedule schedule, LocalDateTime periodStart, LocalDateTime periodEnd) {
+        ByteArrayInputStream pdf = switch (schedule.getReportType()) {
+            case COMPLAINTS -> reportService.generateComplaintsReport(
+                    periodStart, periodEnd, schedule.getStatus(), schedule.getCrimeType());
+            case OFFICER_PERFORMANCE -> reportService.generateOfficersPerformanceReport(
+                    schedule.getDepartmentId(), periodStart, periodEnd);
+            case USER_ACTIVITY -> reportService.generateUserActivityReport(periodStart, periodEnd);
+            case SYSTEM_OVERVIEW -> reportService.generateSystemOverviewReport(periodStart, periodEnd);
+        };
+        return pdf != null ? pdf.readAllBytes() : new byte[0];
+    }
+
+    public static String parameterKey(ReportSchedule schedule) {
+        return ReportArtifactService.parameterKey(schedule.getDepartmentId(), schedule.getStatus(), schedule.getCrimeType());
+    }
+
+    // Schedule management
+
+    @Transactional(readOnly = true)
+    public List<ReportScheduleResponse> getAllSchedules() {
+        return reportScheduleRepository.findAll().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public ReportScheduleResponse createSchedule(ReportScheduleRequest request) {
+        ReportSchedule schedule = new ReportSchedule();
+        applyRequest(schedule, request);
+        ReportSchedule saved = reportScheduleRepository.save(schedule);
+        log.info("Created report schedule {} ({}) with cron '{}'", saved.getId(), saved.getName(), saved.getCronExpression());
+        return mapToResponse(saved);
+    }
+
+    @Transactional
+    public ReportScheduleResponse updateSchedule(Long id, ReportScheduleRequest request) {
+        ReportSchedule schedule = reportScheduleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report schedule not found with id: " + id));
+        applyRequest(schedule, request);
+        return mapToResponse(reportScheduleRepository.save(schedule));
+    }
+
+    @Transactional
+    public void deleteSchedule(Long id) {
+        if (!reportScheduleRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Report schedule not found with id: " + id);
+        }
+        reportScheduleRepository.deleteById(id);
+    }
+
+    private void applyRequest(ReportSchedule schedule, ReportScheduleRequest request) {
+        // Validates the expression and computes the first run in one go
+        LocalDateTime nextRunAt = nextRun(request.getCronExpression(), LocalDateTime.now());
+
+        schedule.setName(request.getName());
+        schedule.setReportType(request.getReportType());
+        schedule.setPeriod(request.getPeriod());
+        schedule.setCronExpression(request.getCronExpression());
+        schedule.setDepartmentId(request.getDepartmentId());
+        schedule.setStatus(request.getStatus());
+        schedule.setCrimeType(request.getCrimeType());
+        schedule.setEnabled(request.getEnabled() == null || request.getEnabled());
+        schedule.setNextRunAt(nextRunAt);
+    }
+
+    private LocalDateTime nextRun(String cronExpression, LocalDateTime after) {
+        try {
+            return CronExpression.parse(cronExpression).next(after);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cron expression '" + cronExpression + "': " + e.getMessage());
+        }
+    }
+
+    private ReportScheduleResponse mapToResponse(ReportSchedule schedule) {
+        return ReportScheduleResponse.builder()
+                .id(schedule.getId())
+                .name(schedule.getName())
+                .reportType(schedule.getReportType())
+                .period(schedule.getPeriod())
+                .cronExpression(schedule.getCronExpression())
+                .departmentId(schedule.getDepartmentId())
+                .status(schedule.getStatus())
+                .crimeType(schedule.getCrimeType())
+                .enabled(schedule.isEnabled())
+                .nextRunAt(schedule.getNextRunAt())
+                .lastRunAt(schedule.getLastRunAt())
+                .lockedBy(schedule.getLockedBy())
+                .build();
+    }
+
+    private static String defaultNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        } catch (Exception e) {
+            return "node-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.crime.reporting.crime_reporting_backend.service;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -32,11 +34,23 @@ public interface ReportService {
     ByteArrayInputStream generateOfficersPerformanceReport(Long departmentId, LocalDateTime startDate, 
                                                          LocalDateTime endDate);
     
+    /**
+     * Stream officer performance report as an XLSX workbook to the given output
+     */
+    void writeOfficersPerformanceSpreadsheet(Long departmentId, LocalDateTime startDate,
+                                             LocalDateTime endDate, OutputStream out) throws IOException;
+    
     /**
      * Generate PDF report for user activity
      */
     ByteArrayInputStream generateUserActivityReport(LocalDateTime startDate, LocalDateTime endDate);
     
+    /**
+     * Stream user activity report as an XLSX workbook to the given output
+     */
+    void writeUserActivitySpreadsheet(LocalDateTime startDate, LocalDateTime endDate,
+                                      OutputStream out) throws IOException;
+    
     /**
      * Get statistics for reports
      */
@@ -0,0 +1,227 @@
+package com.crime.reporting.crime_reporting_backend.service.dedupe;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory LSH index of recent complaint descriptions, partitioned by filing-time window
+ * and location cell. A lookup touches only the partitions of its own and the previous
+ * window in its own cell (and, for coordinates, the neighbouring cells), and within each
+ * only the complaints sharing at least one MinHash band; candidates are then confirmed by
+ * exact Jaccard similarity. Old windows are dropped whole.
+ * <p>
+ * Locations are free text. Text that parses as "latitude, longitude" is mapped to a grid
+ * cell; anything else is matched on its normalised form, so the same address written the
+ * same way lands in the same cell.
+ */
+public class DuplicateIndex {
+
+    private static final Pattern COORDINATES =
+            Pattern.compile("^\\s*(-?\\d{1,2}(?:\\.\\d+)?)\\s*[,;\\s]\\s*(-?\\d{1,3}(?:\\.\\d+)?)\\s*$");
+    /** Grid cell size in degrees, roughly 1 km of latitude */
+    private static final double CELL_DEGREES = 0.01;
+    private static final String NO_LOCATION = "-";
+
+    private final Duration window;
+    private final double threshold;
+    private final Map<PartitionKey, Partition> partitions = new ConcurrentHashMap<>();
+    private final Map<Long, PartitionKey> partitionOf = new ConcurrentHashMap<>();
+
+    /**
+     * @param window how far apart in filing time two complaints may be and still match
+     * @param threshold minimum Jaccard similarity of a confirmed match
+     */
+    public DuplicateIndex(Duration window, double threshold) {
+        this.window = window;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Shingles, signature and cells of a complaint, computed once per submission
+     */
+    public record Fingerprint(int[] shingles, int[] signature, String cell, List<String> searchCells) {
+    }
+
+    /**
+     * A confirmed match: the earliest complaint of the matched group and the similarity
+     * to the complaint that was matched
+     */
+    public record Match(long rootId, long matchedId, double similarity) {
+    }
+
+    public static Fingerprint fingerprint(String description, String location) {
+        int[] shingles = MinHash.shingles(description);
+        Matcher coordinates = location != null ? COORDINATES.matcher(location) : null;
+        if (coordinates != null && coordinates.matches()) {
+            long row = (long) Math.floor(Double.parseDouble(coordinates.group(1)) / CELL_DEGREES);
+            long column = (long) Math.floor(Double.parseDouble(coordinates.group(2)) / CELL_DEGREES);
+            List<String> searchCells = new ArrayList<>(9);
+            for (long r = row - 1; r <= row + 1; r++) {
+                for (long c = column - 1; c <= column + 1; c++) {
+                    searchCells.add(gridCell(r, c));
+                }
+            }
+            return new Fingerprint(shingles, MinHash.signature(shingles), gridCell(row, column), searchCells);
+        }
+        String normalized = MinHash.normalize(location);
+        String cell = normalized.isEmpty() ? NO_LOCATION : "t:" + normalized;
+        return new Fingerprint(shingles, MinHash.signature(shingles), cell, List.of(cell));
+    }
+
+    /**
+     * The most similar indexed complaint filed within the window before {@code filedAt},
+     * if any reaches the threshold
+     */
+    public Optional<Match> findBestMatch(Fingerprint fingerprint, LocalDateTime filedAt) {
+        if (fingerprint.shingles().length == 0) {
+            return Optional.empty();
+        }
+        long bucket = bucketOf(filedAt);
+        LocalDateTime earliest = filedAt.minus(window);
+        Match best = null;
+        for (long b = bucket - 1; b <= bucket; b++) {
+            for (String cell : fingerprint.searchCells()) {
+                Partition partition = partitions.get(new PartitionKey(b, cell));
+                if (partition == null) {
+                    continue;
+                }
+                Match match = partition.bestMatch(fingerprint, earliest, threshold);
+                if (match != null && (best == null || match.similarity() > best.similarity())) {
+                    best = match;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Adds or replaces a complaint
+     * @param rootId the complaint's own id, or that of the complaint it duplicates
+     */
+    public void add(long id, long rootId, LocalDateTime filedAt, Fingerprint fingerprint) {
+        if (fingerprint.shingles().length == 0) {
+            return;
+        }
+        remove(id);
+        PartitionKey key = new PartitionKey(bucketOf(filedAt), fingerprint.cell());
+        partitions.computeIfAbsent(key, k -> new Partition())
+                .add(new Entry(id, rootId, filedAt, fingerprint.shingles()), fingerprint.signature());
+        partitionOf.put(id, key);
+    }
+
+    public void remove(long id) {
+        PartitionKey key = partitionOf.remove(id);
+        if (key != null) {
+            Partition partition = partitions.get(key);
+            if (partition != null) {
+                partition.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Drops every window that can no longer match a complaint filed at or after {@code now}
+     * @return the number of complaints dropped
+     */
+    public int evictOlderThan(LocalDateTime now) {
+        long oldestKept = bucketOf(now) - 1;
+        int evicted = 0;
+        for (Map.Entry<PartitionKey, Partition> partition : partitions.entrySet()) {
+            if (partition.getKey().bucket() < oldestKept && partitions.remove(partition.getKey(), partition.getValue())) {
+                for (long id : partition.getValue().ids()) {
+                    partitionOf.remove(id, partition.getKey());
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return partitionOf.size();
+    }
+
+    private long bucketOf(LocalDateTime filedAt) {
+        return Math.floorDiv(filedAt.toEpochSecond(ZoneOffset.UTC), window.toSeconds());
+    }
+
+    private static String gridCell(long row, long column) {
+        return "g:" + row + ":" + column;
+    }
+
+    private record PartitionKey(long bucket, String cell) {
+    }
+
+    private record Entry(long id, long rootId, LocalDateTime filedAt, int[] shingles) {
+    }
+
+    private static final class Partition {
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final Map<Long, Set<Long>> bands = new HashMap<>();
+        private final Map<Long, long[]> bandKeysOf = new HashMap<>();
+
+        synchronized void add(Entry entry, int[] signature) {
+            long[] keys = new long[MinHash.BANDS];
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                keys[band] = MinHash.bandKey(signature, band);
+                bands.computeIfAbsent(keys[band], k -> new HashSet<>()).add(entry.id());
+            }
+            entries.put(entry.id(), entry);
+            bandKeysOf.put(entry.id(), keys);
+        }
+
+        synchronized void remove(long id) {
+            entries.remove(id);
+            long[] keys = bandKeysOf.remove(id);
+            if (keys == null) {
+                return;
+            }
+            for (long key : keys) {
+                Set<Long> ids = bands.get(key);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        bands.remove(key);
+                    }
+                }
+            }
+        }
+
+        synchronized Match bestMatch(Fingerprint fingerprint, LocalDateTime earliest, double threshold) {
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                Set<Long> ids = bands.get(MinHash.bandKey(fingerprint.signature(), band));
+                if (ids != null) {
+                    candidates.addAll(ids);
+                }
+            }
+            Match best = null;
+            for (long id : candidates) {
+                Entry entry = entries.get(id);
+                if (entry == null || entry.filedAt().isBefore(earliest)) {
+                    continue;
+                }
+                double similarity = MinHash.jaccard(fingerprint.shingles(), entry.shingles());
+                if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+                    best = new Match(entry.rootId(), entry.id(), similarity);
+                }
+            }
+            return best;
+        }
+
+        synchronized List<Long> ids() {
+            return new ArrayList<>(entries.keySet());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.crime.reporting.crime_reporting_backend.service.dedupe;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash over character shingles of free text. Two texts agree on any one signature
+ * position with probability equal to the Jaccard similarity of their shingle sets, so
+ * splitting signatures into bands and bucketing by band finds likely matches without
+ * comparing against every other text.
+ * <p>
+ * Text is lower-cased and reduced to letters and digits separated by single spaces before
+ * shingling, so punctuation and spacing differences do not count.
+ */
+public final class MinHash {
+
+    public static final int SHINGLE_LENGTH = 5;
+    public static final int BANDS = 32;
+    public static final int ROWS_PER_BAND = 4;
+    public static final int SIGNATURE_LENGTH = BANDS * ROWS_PER_BAND;
+
+    private static final long[] MULTIPLIERS = new long[SIGNATURE_LENGTH];
+    private static final long[] OFFSETS = new long[SIGNATURE_LENGTH];
+
+    static {
+        // Fixed seed: signatures must not change between restarts or nodes
+        SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1L;
+            OFFSETS[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * Sorted, distinct hashes of the text's shingles; empty for blank text
+     */
+    public static int[] shingles(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        if (normalized.length() <= SHINGLE_LENGTH) {
+            return new int[] {mix(normalized.hashCode())};
+        }
+        int[] hashes = new int[normalized.length() - SHINGLE_LENGTH + 1];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = mix(normalized.substring(i, i + SHINGLE_LENGTH).hashCode());
+        }
+        return Arrays.stream(hashes).sorted().distinct().toArray();
+    }
+
+    /**
+     * MinHash signature of a shingle set; all zeros for an empty set
+     */
+    public static int[] signature(int[] shingles) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        if (shingles.length == 0) {
+            return signature;
+        }
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                // Universal hash; the high bits are the well-mixed ones
+                int hash = (int) ((MULTIPLIERS[i] * shingle + OFFSETS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Bucket key of one band of a signature
+     */
+    public static long bandKey(int[] signature, int band) {
+        long key = band;
+        int from = band * ROWS_PER_BAND;
+        for (int i = from; i < from + ROWS_PER_BAND; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return key;
+    }
+
+    /**
+     * Exact Jaccard similarity of two sorted, distinct shingle sets
+     */
+    public static double jaccard(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B1;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,115 @@
+package com.crime.reporting.crime_reporting_backend.service.fanout;
+
+import com.crime.reporting.crime_reporting_backend.config.datasource.WorkloadContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the independent queries behind a composite endpoint concurrently, one virtual
+ * thread per part. Each part has its own timeout and the whole request has a deadline;
+ * parts that have not finished by then are cancelled and reported as timed out while the
+ * parts that did finish are still returned.
+ */
+@Component
+@Slf4j
+public class FanOutExecutor {
+
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+
+    /**
+     * Starts a fan-out whose parts must all complete within the given deadline
+     */
+    public FanOut begin(Duration deadline) {
+        return new FanOut(deadline);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class FanOut {
+        private final long startNanos = System.nanoTime();
+        private final long deadlineNanos;
+        private final Map<String, Part> parts = new LinkedHashMap<>();
+
+        private FanOut(Duration deadline) {
+            this.deadlineNanos = startNanos + deadline.toNanos();
+        }
+
+        /**
+         * Submits a part immediately; it starts running while further parts are added
+         */
+        public FanOut part(String name, Duration timeout, Callable<?> task) {
+            if (parts.containsKey(name)) {
+                throw new IllegalArgumentException("Duplicate fan-out part: " + name);
+            }
+            AtomicLong finishedNanos = new AtomicLong();
+            // Parts take their connections from the caller's pool, not the interactive default
+            Callable<?> bound = WorkloadContext.propagate(task);
+            Future<?> future = executor.submit(() -> {
+                try {
+                    return bound.call();
+                } finally {
+                    finishedNanos.set(System.nanoTime());
+                }
+            });
+            parts.put(name, new Part(future, startNanos + timeout.toNanos(), finishedNanos));
+            return this;
+        }
+
+        /**
+         * Waits for every part up to its own timeout or the overall deadline, whichever
+         * comes first, and returns the results in submission order
+         */
+        public Map<String, PartResult> join() {
+            Map<String, PartResult> results = new LinkedHashMap<>();
+            parts.forEach((name, part) -> results.put(name, await(name, part)));
+            return results;
+        }
+
+        private PartResult await(String name, Part part) {
+            long waitNanos = Math.min(part.timeoutNanos(), deadlineNanos) - System.nanoTime();
+            try {
+                Object value = part.future().get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+                return PartResult.ok(value, elapsedMillis(part));
+            } catch (TimeoutException e) {
+                part.future().cancel(true);
+                log.warn("Fan-out part '{}' timed out", name);
+                return PartResult.timedOut(elapsedMillis());
+            } catch (ExecutionException e) {
+                log.error("Fan-out part '{}' failed", name, e.getCause());
+                return PartResult.failed(e.getCause(), elapsedMillis(part));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                part.future().cancel(true);
+                return PartResult.failed(e, elapsedMillis());
+            }
+        }
+
+        private long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+
+        private long elapsedMillis(Part part) {
+            long finished = part.finishedNanos().get();
+            return finished == 0 ? elapsedMillis() : TimeUnit.NANOSECONDS.toMillis(finished - startNanos);
+        }
+    }
+
+    private record Part(Future<?> future, long timeoutNanos, AtomicLong finishedNanos) {}
+}
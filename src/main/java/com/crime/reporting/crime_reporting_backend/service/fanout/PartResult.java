@@ -0,0 +1,27 @@
+package com.crime.reporting.crime_reporting_backend.service.fanout;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Result of one part of a fan-out request. A part that failed or timed out carries no
+ * value and says why, so callers can tell a missing section from a genuinely empty one.
+ */
+public record PartResult(PartStatus status, @JsonIgnore Object value, String error, long elapsedMs) {
+
+    static PartResult ok(Object value, long elapsedMs) {
+        return new PartResult(PartStatus.OK, value, null, elapsedMs);
+    }
+
+    static PartResult failed(Throwable error, long elapsedMs) {
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        return new PartResult(PartStatus.FAILED, null, message, elapsedMs);
+    }
+
+    static PartResult timedOut(long elapsedMs) {
+        return new PartResult(PartStatus.TIMED_OUT, null, "Timed out after " + elapsedMs + " ms", elapsedMs);
+    }
+
+    public boolean isOk() {
+        return status == PartStatus.OK;
+    }
+}
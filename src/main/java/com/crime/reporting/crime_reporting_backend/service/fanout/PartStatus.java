@@ -0,0 +1,10 @@
+package com.crime.reporting.crime_reporting_backend.service.fanout;
+
+/**
+ * Outcome of one part of a fan-out request
+ */
+public enum PartStatus {
+    OK,
+    FAILED,
+    TIMED_OUT
+}
@@ -2,9 +2,12 @@ package com.crime.reporting.crime_reporting_backend.service.impl;
 
 import com.crime.reporting.crime_reporting_backend.dto.*;
 import com.crime.reporting.crime_reporting_backend.entity.*;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEventOutbox;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintStatusChangedEvent;
 import com.crime.reporting.crime_reporting_backend.exception.ResourceNotFoundException;
 import com.crime.reporting.crime_reporting_backend.repository.*;
 import com.crime.reporting.crime_reporting_backend.service.AdminService;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintCounterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -39,6 +42,8 @@ public class AdminServiceImpl implements AdminService {
     private final CaseFileRepository caseFileRepository;
     private final PasswordEncoder passwordEncoder;
     private final JdbcTemplate jdbcTemplate;
+    private final ComplaintCounterService complaintCounterService;
+    private final ComplaintEventOutbox complaintEventOutbox;
     
     @PersistenceContext
     private EntityManager entityManager;
@@ -367,7 +372,7 @@ public class AdminServiceImpl implements AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("Police officer not found with id: " + officerId));
         
         // Create case file if it doesn't exist
-        CaseFile caseFile = complaint.getCaseFile();
+        CaseFile caseFile = caseFileRepository.findByComplaint(complaint).orElse(null);
         if (caseFile == null) {
             caseFile = new CaseFile();
             caseFile.setComplaint(complaint);
@@ -377,7 +382,6 @@ public class AdminServiceImpl implements AdminService {
             caseFile.setLastUpdated(LocalDateTime.now());
             
             caseFileRepository.save(caseFile);
-            complaint.setCaseFile(caseFile);
         } else {
             caseFile.setAssignedOfficer(officer);
             caseFile.setLastUpdated(LocalDateTime.now());
@@ -385,9 +389,14 @@ public class AdminServiceImpl implements AdminService {
         }
         
         // Update complaint status
+        ComplaintStatus previousStatus = complaint.getStatus();
         complaint.setStatus(ComplaintStatus.ASSIGNED);
         complaint.setDateLastUpdated(LocalDateTime.now());
         complaintRepository.save(complaint);
+        complaintCounterService.recordStatusChange(complaint, previousStatus);
+        complaintEventOutbox.record(new ComplaintStatusChangedEvent(complaintId, previousStatus, complaint.getStatus(),
+                complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : null,
+                complaint.getDateLastUpdated()));
         
         log.info("Assigned complaint #{} to officer with id: {}", complaintId, officerId);
     }
@@ -425,36 +434,24 @@ public class AdminServiceImpl implements AdminService {
         long policeOfficerCount = userRepository.countByRole(Role.POLICE_OFFICER);
         long adminCount = userRepository.countByRole(Role.ADMIN);
         
-        // Complaint statistics
-        long totalComplaints = complaintRepository.count();
-        long activeComplaints = complaintRepository.countByStatusIn(
-                Arrays.asList(
-                        ComplaintStatus.SUBMITTED, 
-                        ComplaintStatus.UNDER_REVIEW, 
-                        ComplaintStatus.ASSIGNED, 
-                        ComplaintStatus.INVESTIGATING, 
-                        ComplaintStatus.PENDING_EVIDENCE
-                )
-        );
-        long resolvedComplaints = complaintRepository.countByStatus(ComplaintStatus.RESOLVED);
+        // Complaint statistics, read from the daily counters
+        Map<ComplaintStatus, Long> statusCounts = complaintCounterService.getCountsByStatus();
+        long totalComplaints = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        long activeComplaints = sumCounts(statusCounts, ComplaintCounterService.PENDING_STATUSES);
+        long resolvedComplaints = statusCounts.get(ComplaintStatus.RESOLVED);
         
         // Department statistics
         long totalDepartments = departmentRepository.count();
         
         // Count active cases from complaints (not case files)
-        long activeCases = complaintRepository.countByStatusIn(
-                Arrays.asList(
-                        ComplaintStatus.ASSIGNED,
-                        ComplaintStatus.INVESTIGATING,
-                        ComplaintStatus.PENDING_EVIDENCE
-                )
-        );
+        long activeCases = sumCounts(statusCounts, EnumSet.of(
+                ComplaintStatus.ASSIGNED,
+                ComplaintStatus.INVESTIGATING,
+                ComplaintStatus.PENDING_EVIDENCE));
         
         // Complaints by status
         Map<String, Long> complaintsByStatus = new HashMap<>();
-        for (ComplaintStatus status : ComplaintStatus.values()) {
-            complaintsByStatus.put(status.name(), complaintRepository.countByStatus(status));
-        }
+        statusCounts.forEach((status, count) -> complaintsByStatus.put(status.name(), count));
         
         // Complaints by department
         Map<String, Long> complaintsByDepartment = new HashMap<>();
@@ -467,12 +464,12 @@ public class AdminServiceImpl implements AdminService {
         // Complaints by month (last 6 months)
         Map<String, Long> complaintsByMonth = new HashMap<>();
         LocalDateTime sixMonthsAgo = LocalDateTime.now().minusMonths(6);
-        List<Complaint> recentComplaints = complaintRepository.findByDateFiledAfter(sixMonthsAgo);
-        
-        Map<Month, Long> countByMonth = recentComplaints.stream()
+        Map<Month, Long> countByMonth = complaintCounterService
+                .getDailyCounts(sixMonthsAgo.toLocalDate(), LocalDateTime.now().toLocalDate())
+                .entrySet().stream()
                 .collect(Collectors.groupingBy(
-                        complaint -> complaint.getDateFiled().getMonth(),
-                        Collectors.counting()
+                        entry -> entry.getKey().getMonth(),
+                        Collectors.summingLong(Map.Entry::getValue)
                 ));
         
         for (int i = 0; i < 6; i++) {
@@ -497,6 +494,10 @@ public class AdminServiceImpl implements AdminService {
                 .build();
     }
     
+    private long sumCounts(Map<ComplaintStatus, Long> statusCounts, Set<ComplaintStatus> statuses) {
+        return statuses.stream().mapToLong(statusCounts::get).sum();
+    }
+    
     // Helper methods for mapping entities to DTOs
     
     private DepartmentResponse mapToDepartmentResponse(Department department) {
@@ -4,7 +4,12 @@ import com.crime.reporting.crime_reporting_backend.controller.ComplaintControlle
 import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.DateCountDTO;
 import com.crime.reporting.crime_reporting_backend.controller.ComplaintController.StatusCountDTO;
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintFilter;
+import com.crime.reporting.crime_reporting_backend.dto.CursorPage;
 import com.crime.reporting.crime_reporting_backend.dto.ComplaintRequest;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintStatisticsDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintSyncDTO;
+import com.crime.reporting.crime_reporting_backend.dto.EvidenceDTO;
 import com.crime.reporting.crime_reporting_backend.dto.PoliceOfficerStatisticsDTO;
 import com.crime.reporting.crime_reporting_backend.entity.Complaint;
 import com.crime.reporting.crime_reporting_backend.entity.PoliceOfficer;
@@ -13,29 +18,59 @@ import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
 import com.crime.reporting.crime_reporting_backend.entity.Evidence;
 import com.crime.reporting.crime_reporting_backend.entity.EvidenceType;
 import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintAssignmentChangedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintCreatedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintDeletedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEventOutbox;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintStatusChangedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintUpdatedEvent;
 import com.crime.reporting.crime_reporting_backend.exception.ResourceNotFoundException;
 import com.crime.reporting.crime_reporting_backend.exception.InvalidOperationException;
+import com.crime.reporting.crime_reporting_backend.repository.CaseFileRepository;
 import com.crime.reporting.crime_reporting_backend.repository.ComplaintRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintSyncRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintSyncRepository.ChangeType;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintSyncRepository.LoggedChange;
 import com.crime.reporting.crime_reporting_backend.repository.EvidenceRepository;
 import com.crime.reporting.crime_reporting_backend.repository.PoliceOfficerRepository;
 import com.crime.reporting.crime_reporting_backend.repository.UserRepository;
+import com.crime.reporting.crime_reporting_backend.repository.projection.ComplaintSummary;
+import com.crime.reporting.crime_reporting_backend.repository.projection.EvidenceSummary;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintCounterService;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintDuplicateService;
 import com.crime.reporting.crime_reporting_backend.service.ComplaintService;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintStatisticsService;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintSyncLog;
 import com.crime.reporting.crime_reporting_backend.service.FileStorageService;
+import com.crime.reporting.crime_reporting_backend.service.FileStorageService.StagedFile;
+import com.crime.reporting.crime_reporting_backend.service.pagination.ComplaintCursor;
+import com.crime.reporting.crime_reporting_backend.service.pagination.SyncToken;
+import com.crime.reporting.crime_reporting_backend.service.pagination.WorkQueueCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,76 +78,121 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ComplaintServiceImpl implements ComplaintService {
 
+    /** Complaint ids per evidence file name query when mapping summary lists */
+    private static final int EVIDENCE_BATCH_SIZE = 1000;
+
     private final ComplaintRepository complaintRepository;
+    private final CaseFileRepository caseFileRepository;
     private final PoliceOfficerRepository policeOfficerRepository;
     private final UserRepository userRepository;
     private final EvidenceRepository evidenceRepository;
     private final FileStorageService fileStorageService;
+    private final ComplaintCounterService complaintCounterService;
+    private final ComplaintEventOutbox complaintEventOutbox;
+    private final ComplaintDuplicateService complaintDuplicateService;
+    private final PlatformTransactionManager transactionManager;
+    private final ComplaintSyncRepository complaintSyncRepository;
+    private final ComplaintSyncLog complaintSyncLog;
+    private final ComplaintStatisticsService complaintStatisticsService;
+
+    @Value("${complaints.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${complaints.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${complaints.work-queue.default-size:20}")
+    private int defaultWorkQueueSize;
+
+    @Value("${complaints.sync.default-size:500}")
+    private int defaultSyncSize;
+
+    @Value("${complaints.sync.max-size:2000}")
+    private int maxSyncSize;
 
     @Override
     @Transactional
     public ComplaintDTO createComplaint(ComplaintRequest request) {
         log.info("Creating new complaint: {}", request);
         
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + request.getUserId()));
-        
-        Complaint complaint = new Complaint();
-        complaint.setUser(user);
-        complaint.setCrimeType(request.getCrimeType());
-        complaint.setDescription(request.getDescription());
-        complaint.setLocation(request.getLocation());
-        complaint.setStatus(ComplaintStatus.SUBMITTED);
-        complaint.setDateFiled(LocalDateTime.now());
-        complaint.setDateLastUpdated(LocalDateTime.now());
-        
-        Complaint savedComplaint = complaintRepository.save(complaint);
+        Complaint savedComplaint = insertComplaint(request, List.of());
         log.info("Created complaint with ID: {}", savedComplaint.getId());
         
         return mapToDTO(savedComplaint);
     }
     
+    /**
+     * Runs in two phases so file I/O stays out of the transaction: uploads are first
+     * streamed to the staging area, then one short transaction inserts the complaint and
+     * its evidence rows. Staged files are moved under /uploads as that transaction commits
+     * and deleted if it rolls back.
+     */
     @Override
-    @Transactional
     public ComplaintDTO createComplaintWithFiles(ComplaintRequest request, List<MultipartFile> files) throws IOException {
-        log.info("Creating new complaint with {} files: {}", files.size(), request);
+        List<MultipartFile> uploads = files != null ? files : List.of();
+        log.info("Creating new complaint with {} files: {}", uploads.size(), request);
         
-        ComplaintDTO complaintDTO = createComplaint(request);
-        Complaint complaint = complaintRepository.findById(complaintDTO.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Complaint not found with ID: " + complaintDTO.getId()));
+        List<StagedFile> staged = fileStorageService.stageFiles(uploads);
+        Complaint complaint;
+        try {
+            complaint = new TransactionTemplate(transactionManager).execute(status -> {
+                Complaint savedComplaint = insertComplaint(request, staged);
+                fileStorageService.promoteOnCommit(staged);
+                return savedComplaint;
+            });
+        } catch (RuntimeException e) {
+            // Covers failures before promotion was registered; deleting twice is harmless
+            fileStorageService.discard(staged);
+            throw e;
+        }
         
-        // Get the user who is creating the complaint
+        log.info("Created complaint with ID: {} and {} evidence files", complaint.getId(), staged.size());
+        return mapToDTO(complaint);
+    }
+    
+    /**
+     * Inserts a complaint with evidence rows for the given staged files; the evidence is
+     * cascaded from the complaint and written in one JDBC batch
+     */
+    private Complaint insertComplaint(ComplaintRequest request, List<StagedFile> evidenceFiles) {
         User user = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + request.getUserId()));
         
-        List<Evidence> evidences = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        Complaint complaint = new Complaint();
+        complaint.setUser(user);
+        complaint.setCrimeType(request.getCrimeType());
+        complaint.setDescription(request.getDescription());
+        complaint.setLocation(request.getLocation());
+        complaint.setStatus(ComplaintStatus.SUBMITTED);
+        complaint.setDateFiled(now);
+        complaint.setDateLastUpdated(now);
         
-        for (MultipartFile file : files) {
-            String fileName = fileStorageService.storeFile(file);
-            
+        List<Evidence> evidences = new ArrayList<>(evidenceFiles.size());
+        for (StagedFile file : evidenceFiles) {
             Evidence evidence = new Evidence();
             evidence.setComplaint(complaint);
-            evidence.setFileName(fileName);
-            evidence.setFileUrl("/uploads/" + fileName);
-            evidence.setOriginalFileName(file.getOriginalFilename());
-            evidence.setFileType(file.getContentType());
-            evidence.setFileSize(file.getSize());
-            evidence.setEvidenceType(determineEvidenceType(file.getContentType()));
-            evidence.setUploadDate(LocalDateTime.now());
-            evidence.setUploadedBy(user);  // Set the user who uploaded the file
-            
+            evidence.setFileName(file.fileName());
+            evidence.setFileUrl("/uploads/" + file.fileName());
+            evidence.setOriginalFileName(file.originalFileName());
+            evidence.setFileType(file.contentType());
+            evidence.setFileSize(file.size());
+            evidence.setEvidenceType(determineEvidenceType(file.contentType()));
+            evidence.setUploadDate(now);
+            evidence.setUploadedBy(user);
             evidences.add(evidence);
         }
-        
         if (!evidences.isEmpty()) {
-            evidenceRepository.saveAll(evidences);
             complaint.setEvidences(evidences);
-            complaintRepository.save(complaint);
-            
-            log.info("Added {} evidence files to complaint ID: {}", evidences.size(), complaint.getId());
         }
         
-        return mapToDTO(complaint);
+        complaintDuplicateService.linkProbableDuplicate(complaint);
+        Complaint savedComplaint = complaintRepository.save(complaint);
+        complaintCounterService.recordCreated(savedComplaint);
+        complaintEventOutbox.record(new ComplaintCreatedEvent(savedComplaint.getId(), user.getId(),
+                savedComplaint.getCrimeType(), savedComplaint.getStatus(), savedComplaint.getDateFiled(),
+                LocalDateTime.now()));
+        return savedComplaint;
     }
     
     private EvidenceType determineEvidenceType(String contentType) {
@@ -158,12 +238,10 @@ public class ComplaintServiceImpl implements ComplaintService {
             throw new ResourceNotFoundException("Police officer not found with ID: " + policeOfficerId);
         }
         
-        List<Complaint> complaints = complaintRepository.findByAssignedOfficerId(policeOfficerId);
+        List<ComplaintSummary> complaints = complaintRepository.findSummariesByAssignedOfficerId(policeOfficerId);
         log.info("Found {} complaints assigned to police officer ID: {}", complaints.size(), policeOfficerId);
         
-        return complaints.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return mapSummariesToDTOs(complaints);
     }
     
     @Override
@@ -174,58 +252,223 @@ public class ComplaintServiceImpl implements ComplaintService {
         PoliceOfficer officer = policeOfficerRepository.findById(policeOfficerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Police officer not found with ID: " + policeOfficerId));
         
-        List<Complaint> officerComplaints = complaintRepository.findByAssignedOfficerId(policeOfficerId);
-        
-        // Count complaints by status
-        Map<ComplaintStatus, Long> complaintsByStatus = officerComplaints.stream()
-                .collect(Collectors.groupingBy(Complaint::getStatus, Collectors.counting()));
-        
-        // Get counts for specific statuses or 0
-        long submittedCount = complaintsByStatus.getOrDefault(ComplaintStatus.SUBMITTED, 0L);
-        long assignedCount = complaintsByStatus.getOrDefault(ComplaintStatus.ASSIGNED, 0L);
-        long investigating = complaintsByStatus.getOrDefault(ComplaintStatus.INVESTIGATING, 0L);
-        long resolved = complaintsByStatus.getOrDefault(ComplaintStatus.RESOLVED, 0L);
-        long closed = complaintsByStatus.getOrDefault(ComplaintStatus.CLOSED, 0L);
+        // Status counts come from the shared grouped aggregate instead of loading the complaints
+        ComplaintStatisticsDTO statistics = complaintStatisticsService.getOfficerStatistics(policeOfficerId);
         
         return PoliceOfficerStatisticsDTO.builder()
                 .officerId(policeOfficerId)
                 .officerName(officer.getUser().getFirstName() + " " + officer.getUser().getLastName())
-                .totalAssignedComplaints(officerComplaints.size())
-                .pendingComplaints((int) (submittedCount + assignedCount))
-                .inProgressComplaints((int) investigating)
-                .resolvedComplaints((int) resolved)
-                .closedComplaints((int) closed)
+                .totalAssignedComplaints((int) statistics.getTotal())
+                .pendingComplaints((int) ComplaintStatisticsService.countOf(statistics,
+                        ComplaintStatus.SUBMITTED, ComplaintStatus.ASSIGNED))
+                .inProgressComplaints((int) ComplaintStatisticsService.countOf(statistics, ComplaintStatus.INVESTIGATING))
+                .resolvedComplaints((int) ComplaintStatisticsService.countOf(statistics, ComplaintStatus.RESOLVED))
+                .closedComplaints((int) ComplaintStatisticsService.countOf(statistics, ComplaintStatus.CLOSED))
                 .build();
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<ComplaintDTO> getAllComplaints() {
-        log.info("Fetching all complaints");
-        List<Complaint> complaints = complaintRepository.findAll();
-        return complaints.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    public CursorPage<ComplaintDTO> getComplaintsPage(ComplaintFilter filter, String cursor, Integer size) {
+        ComplaintFilter criteria = filter != null ? filter : new ComplaintFilter();
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        ComplaintCursor after = cursor != null && !cursor.isBlank() ? ComplaintCursor.decode(cursor) : null;
+        log.info("Fetching complaints page of {} after {}", pageSize, after);
+        
+        // One extra row tells us whether another page follows without a count query
+        List<ComplaintSummary> complaints = complaintRepository.findSummaryPage(
+                criteria.getStatus(), criteria.getCrimeType(), criteria.getAssignedOfficerId(), criteria.getUserId(),
+                criteria.getFiledFrom() != null ? criteria.getFiledFrom() : ComplaintRepository.FILED_MIN,
+                criteria.getFiledTo() != null ? criteria.getFiledTo() : ComplaintRepository.FILED_MAX,
+                after != null ? after.dateFiled() : ComplaintRepository.FILED_MAX, after != null ? after.id() : null,
+                Limit.of(pageSize + 1));
+        
+        boolean hasMore = complaints.size() > pageSize;
+        List<ComplaintSummary> page = hasMore ? complaints.subList(0, pageSize) : complaints;
+        String nextCursor = null;
+        if (hasMore) {
+            ComplaintSummary last = page.get(page.size() - 1);
+            nextCursor = new ComplaintCursor(last.dateFiled(), last.id()).encode();
+        }
+        
+        return CursorPage.<ComplaintDTO>builder()
+                .items(mapSummariesToDTOs(page))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .size(pageSize)
+                .build();
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<ComplaintDTO> getAllComplaintsForAdmin() {
-        log.info("Fetching all complaints with details for admin");
-        List<Complaint> complaints = complaintRepository.findAll();
-        return complaints.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    public CursorPage<ComplaintDTO> getOfficerWorkQueue(Long policeOfficerId, String cursor, Integer size) {
+        int pageSize = size == null || size < 1 ? defaultWorkQueueSize : Math.min(size, maxPageSize);
+        WorkQueueCursor after = cursor != null && !cursor.isBlank() ? WorkQueueCursor.decode(cursor) : null;
+        log.info("Fetching work queue of {} for police officer ID: {} after {}", pageSize, policeOfficerId, after);
+        
+        List<ComplaintSummary> complaints = complaintRepository.findWorkQueuePage(policeOfficerId,
+                after != null ? after.priorityScore() : null,
+                after != null ? after.dateFiled() : null,
+                after != null ? after.id() : null,
+                Limit.of(pageSize + 1));
+        
+        boolean hasMore = complaints.size() > pageSize;
+        List<ComplaintSummary> page = hasMore ? complaints.subList(0, pageSize) : complaints;
+        String nextCursor = null;
+        if (hasMore) {
+            ComplaintSummary last = page.get(page.size() - 1);
+            int priority = last.priorityScore() != null ? last.priorityScore() : 0;
+            nextCursor = new WorkQueueCursor(priority, last.dateFiled(), last.id()).encode();
+        }
+        
+        return CursorPage.<ComplaintDTO>builder()
+                .items(mapSummariesToDTOs(page))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .size(pageSize)
+                .build();
+    }
+    
+    /**
+     * Changes are read from the officer's sync log between two watermarks (see
+     * {@link ComplaintSyncRepository#currentWatermark()}); the window is fixed on its first
+     * page so later pages of one sync do not move. Each changed complaint and evidence item
+     * is sent once per page in its current state, or as a tombstone if it is gone or no
+     * longer the officer's. Without a usable token the officer's complaints are sent as a
+     * snapshot, paged by id.
+     * <p>
+     * Runs read-write so it is never routed to a replica: a watermark and the log rows
+     * below it must be read from the same up-to-date node, or changes a lagging replica
+     * has not replayed yet would fall behind the next token and never be sent.
+     */
+    @Override
+    @Transactional
+    public ComplaintSyncDTO syncOfficerComplaints(Long policeOfficerId, String token, Integer size) {
+        int pageSize = size == null || size < 1 ? defaultSyncSize : Math.min(size, maxSyncSize);
+        SyncToken position = token != null && !token.isBlank() ? SyncToken.decode(token) : null;
+        if (position == null || !complaintSyncLog.isRetained(position.issuedAt())) {
+            log.info("Full sync for police officer ID: {}", policeOfficerId);
+            // Taken before reading: changes committed meanwhile are sent again next time rather than missed
+            position = SyncToken.snapshotAfter(complaintSyncRepository.currentWatermark(), 0, LocalDateTime.now());
+        }
+        if (position.snapshot()) {
+            return snapshotPage(policeOfficerId, position, pageSize);
+        }
+        
+        long until = position.isWindowOpen()
+                ? Math.max(position.since(), complaintSyncRepository.currentWatermark())
+                : position.until();
+        List<LoggedChange> changes = complaintSyncRepository.findChanges(policeOfficerId, position.since(), until,
+                position.afterId(), pageSize + 1);
+        boolean hasMore = changes.size() > pageSize;
+        List<LoggedChange> page = hasMore ? changes.subList(0, pageSize) : changes;
+        SyncToken next = hasMore
+                ? position.windowAfter(until, page.get(page.size() - 1).id())
+                : SyncToken.startingAt(until, LocalDateTime.now());
+        log.info("Delta sync of {} changes for police officer ID: {}", page.size(), policeOfficerId);
+        
+        // Latest change per item; complaints (re)assigned in this page get all their evidence
+        Map<Long, ChangeType> complaintChanges = new LinkedHashMap<>();
+        Set<Long> assignedIds = new HashSet<>();
+        Map<Long, ChangeType> evidenceChanges = new LinkedHashMap<>();
+        for (LoggedChange change : page) {
+            switch (change.type()) {
+                case COMPLAINT_ASSIGNED -> {
+                    complaintChanges.put(change.complaintId(), change.type());
+                    assignedIds.add(change.complaintId());
+                }
+                case COMPLAINT_CHANGED -> complaintChanges.put(change.complaintId(), change.type());
+                case COMPLAINT_REMOVED -> {
+                    complaintChanges.put(change.complaintId(), change.type());
+                    assignedIds.remove(change.complaintId());
+                }
+                case EVIDENCE_ADDED, EVIDENCE_REMOVED -> evidenceChanges.put(change.evidenceId(), change.type());
+            }
+        }
+        
+        Set<Long> removedComplaintIds = new LinkedHashSet<>();
+        List<Long> changedComplaintIds = new ArrayList<>();
+        complaintChanges.forEach((id, type) -> {
+            if (type == ChangeType.COMPLAINT_REMOVED) {
+                removedComplaintIds.add(id);
+            } else {
+                changedComplaintIds.add(id);
+            }
+        });
+        // Deleted or reassigned again since the change was logged
+        List<ComplaintSummary> complaints = findComplaintSummaries(changedComplaintIds).stream()
+                .filter(summary -> policeOfficerId.equals(summary.assignedOfficerId()))
+                .toList();
+        Set<Long> currentIds = complaints.stream().map(ComplaintSummary::id).collect(Collectors.toSet());
+        changedComplaintIds.stream().filter(id -> !currentIds.contains(id)).forEach(removedComplaintIds::add);
+        assignedIds.retainAll(currentIds);
+        
+        Set<Long> removedEvidenceIds = new LinkedHashSet<>();
+        List<Long> addedEvidenceIds = new ArrayList<>();
+        evidenceChanges.forEach((id, type) -> {
+            if (type == ChangeType.EVIDENCE_REMOVED) {
+                removedEvidenceIds.add(id);
+            } else {
+                addedEvidenceIds.add(id);
+            }
+        });
+        Map<Long, EvidenceSummary> evidence = new LinkedHashMap<>();
+        findEvidenceSummaries(addedEvidenceIds).forEach(item -> evidence.put(item.id(), item));
+        addedEvidenceIds.stream().filter(id -> !evidence.containsKey(id)).forEach(removedEvidenceIds::add);
+        findEvidenceSummariesOfComplaints(assignedIds).forEach(item -> evidence.put(item.id(), item));
+        evidence.values().removeIf(item -> removedComplaintIds.contains(item.complaintId()));
+        
+        return ComplaintSyncDTO.builder()
+                .reset(false)
+                .complaints(mapSummariesToDTOs(complaints))
+                .evidence(evidence.values().stream().map(ComplaintServiceImpl::mapToEvidenceDTO).toList())
+                .removedComplaintIds(new ArrayList<>(removedComplaintIds))
+                .removedEvidenceIds(new ArrayList<>(removedEvidenceIds))
+                .syncToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+    
+    /**
+     * One page of the snapshot. Complaints assigned, changed or removed while the snapshot
+     * is paged have log entries after its watermark, so the delta sync that follows the
+     * last page covers whatever the pages missed.
+     */
+    private ComplaintSyncDTO snapshotPage(Long policeOfficerId, SyncToken position, int pageSize) {
+        List<ComplaintSummary> complaints = complaintRepository.findSnapshotPage(policeOfficerId, position.afterId(),
+                Limit.of(pageSize + 1));
+        boolean hasMore = complaints.size() > pageSize;
+        List<ComplaintSummary> page = hasMore ? complaints.subList(0, pageSize) : complaints;
+        SyncToken next = hasMore
+                ? SyncToken.snapshotAfter(position.since(), page.get(page.size() - 1).id(), position.issuedAt())
+                : SyncToken.startingAt(position.since(), position.issuedAt());
+        List<Long> ids = page.stream().map(ComplaintSummary::id).toList();
+        
+        return ComplaintSyncDTO.builder()
+                .reset(position.afterId() == 0)
+                .complaints(mapSummariesToDTOs(page))
+                .evidence(findEvidenceSummariesOfComplaints(ids).stream()
+                        .map(ComplaintServiceImpl::mapToEvidenceDTO)
+                        .toList())
+                .removedComplaintIds(List.of())
+                .removedEvidenceIds(List.of())
+                .syncToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ComplaintDTO> getRecentlyUpdatedComplaintsByPoliceOfficerId(Long policeOfficerId, int limit) {
+        return mapSummariesToDTOs(complaintRepository.findRecentlyUpdatedByAssignedOfficerId(policeOfficerId,
+                Limit.of(limit)));
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<ComplaintDTO> getComplaintsByStatus(ComplaintStatus status) {
         log.info("Fetching complaints with status: {}", status);
-        List<Complaint> complaints = complaintRepository.findByStatus(status);
-        return complaints.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return mapSummariesToDTOs(complaintRepository.findSummariesByStatus(status));
     }
     
     @Override
@@ -233,13 +476,12 @@ public class ComplaintServiceImpl implements ComplaintService {
     public Page<ComplaintDTO> getComplaintsByUser(Long userId, Pageable pageable) {
         log.info("Fetching complaints for user with ID: {}, page: {}", userId, pageable);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with ID: " + userId);
+        }
         
-        Page<Complaint> complaintsPage = complaintRepository.findByUser(user, pageable);
-        List<ComplaintDTO> complaintDTOs = complaintsPage.getContent().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        Page<ComplaintSummary> complaintsPage = complaintRepository.findSummariesByUserId(userId, pageable);
+        List<ComplaintDTO> complaintDTOs = mapSummariesToDTOs(complaintsPage.getContent());
         
         return new PageImpl<>(complaintDTOs, pageable, complaintsPage.getTotalElements());
     }
@@ -255,11 +497,16 @@ public class ComplaintServiceImpl implements ComplaintService {
         PoliceOfficer officer = policeOfficerRepository.findById(officerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Police officer not found with id: " + officerId));
         
+        ComplaintStatus previousStatus = complaint.getStatus();
+        Long previousOfficerId = officerId(complaint);
         complaint.setAssignedOfficer(officer);
         complaint.setStatus(ComplaintStatus.ASSIGNED);
         complaint.setDateLastUpdated(LocalDateTime.now());
         
         Complaint updatedComplaint = complaintRepository.save(complaint);
+        complaintCounterService.recordStatusChange(updatedComplaint, previousStatus);
+        complaintEventOutbox.record(new ComplaintAssignmentChangedEvent(complaintId, previousOfficerId, officerId,
+                previousStatus, updatedComplaint.getStatus(), updatedComplaint.getDateLastUpdated()));
         log.info("Successfully assigned complaint {} to officer {}. Assigned officer ID in DB: {}", 
                 complaintId, officerId, updatedComplaint.getAssignedOfficer() != null ? updatedComplaint.getAssignedOfficer().getId() : "null");
         
@@ -274,11 +521,16 @@ public class ComplaintServiceImpl implements ComplaintService {
         Complaint complaint = complaintRepository.findById(complaintId)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint not found with id: " + complaintId));
         
+        ComplaintStatus previousStatus = complaint.getStatus();
+        Long previousOfficerId = officerId(complaint);
         complaint.setAssignedOfficer(null);
         complaint.setStatus(ComplaintStatus.SUBMITTED);
         complaint.setDateLastUpdated(LocalDateTime.now());
         
         Complaint updatedComplaint = complaintRepository.save(complaint);
+        complaintCounterService.recordStatusChange(updatedComplaint, previousStatus);
+        complaintEventOutbox.record(new ComplaintAssignmentChangedEvent(complaintId, previousOfficerId, null,
+                previousStatus, updatedComplaint.getStatus(), updatedComplaint.getDateLastUpdated()));
         return mapToDTO(updatedComplaint);
     }
     
@@ -290,10 +542,13 @@ public class ComplaintServiceImpl implements ComplaintService {
         Complaint complaint = complaintRepository.findById(complaintId)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint not found with id: " + complaintId));
         
+        ComplaintStatus previousStatus = complaint.getStatus();
         complaint.setStatus(status);
         complaint.setDateLastUpdated(LocalDateTime.now());
         
         Complaint updatedComplaint = complaintRepository.save(complaint);
+        complaintCounterService.recordStatusChange(updatedComplaint, previousStatus);
+        recordStatusChanged(updatedComplaint, previousStatus);
         return mapToDTO(updatedComplaint);
     }
     
@@ -319,6 +574,7 @@ public class ComplaintServiceImpl implements ComplaintService {
         Complaint complaint = complaintRepository.findById(complaintId)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint not found with id: " + complaintId));
         
+        ComplaintStatus previousStatus = complaint.getStatus();
         complaint.setStatus(complaintStatus);
         complaint.setDateLastUpdated(LocalDateTime.now());
         
@@ -330,19 +586,28 @@ public class ComplaintServiceImpl implements ComplaintService {
         }
         
         Complaint updatedComplaint = complaintRepository.save(complaint);
+        complaintCounterService.recordStatusChange(updatedComplaint, previousStatus);
+        recordStatusChanged(updatedComplaint, previousStatus);
         return mapToDTO(updatedComplaint);
     }
     
+    private void recordStatusChanged(Complaint complaint, ComplaintStatus previousStatus) {
+        complaintEventOutbox.record(new ComplaintStatusChangedEvent(complaint.getId(), previousStatus,
+                complaint.getStatus(), officerId(complaint), complaint.getDateLastUpdated()));
+    }
+    
+    private static Long officerId(Complaint complaint) {
+        return complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : null;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<StatusCountDTO> getComplaintCountsByStatus() {
         log.info("Getting complaint counts by status");
         
         List<StatusCountDTO> result = new ArrayList<>();
-        for (ComplaintStatus status : ComplaintStatus.values()) {
-            long count = complaintRepository.countByStatus(status);
-            result.add(new StatusCountDTO(status.name(), count));
-        }
+        complaintCounterService.getCountsByStatus()
+                .forEach((status, count) -> result.add(new StatusCountDTO(status.name(), count)));
         
         return result;
     }
@@ -352,14 +617,9 @@ public class ComplaintServiceImpl implements ComplaintService {
     public List<CrimeTypeCountDTO> getComplaintCountsByCrimeType() {
         log.info("Getting complaint counts by crime type");
         
-        List<Object[]> results = complaintRepository.countByCrimeType();
         List<CrimeTypeCountDTO> counts = new ArrayList<>();
-        
-        for (Object[] result : results) {
-            CrimeType crimeType = (CrimeType) result[0];
-            Long count = (Long) result[1];
-            counts.add(new CrimeTypeCountDTO(crimeType.name(), count));
-        }
+        complaintCounterService.getCountsByCrimeType()
+                .forEach((crimeType, count) -> counts.add(new CrimeTypeCountDTO(crimeType.name(), count)));
         
         return counts;
     }
@@ -369,14 +629,9 @@ public class ComplaintServiceImpl implements ComplaintService {
     public List<DateCountDTO> getComplaintTrends(LocalDateTime startDate, LocalDateTime endDate) {
         log.info("Getting complaint trends between {} and {}", startDate, endDate);
         
-        List<Object[]> results = complaintRepository.countByDateBetween(startDate, endDate);
         List<DateCountDTO> trends = new ArrayList<>();
-        
-        for (Object[] result : results) {
-            String date = result[0].toString();
-            Long count = (Long) result[1];
-            trends.add(new DateCountDTO(date, count));
-        }
+        complaintCounterService.getDailyCounts(startDate.toLocalDate(), endDate.toLocalDate())
+                .forEach((date, count) -> trends.add(new DateCountDTO(date.toString(), count)));
         
         return trends;
     }
@@ -400,8 +655,14 @@ public class ComplaintServiceImpl implements ComplaintService {
             }
             evidenceRepository.deleteAll(complaint.getEvidences());
         }
+        caseFileRepository.findByComplaint(complaint).ifPresent(caseFileRepository::delete);
         
         complaintRepository.delete(complaint);
+        complaintRepository.clearDuplicateLinksTo(id);
+        complaintCounterService.recordDeleted(complaint);
+        complaintDuplicateService.forget(id);
+        complaintEventOutbox.record(new ComplaintDeletedEvent(id, complaint.getStatus(), complaint.getCrimeType(),
+                officerId(complaint), LocalDateTime.now()));
     }
     
     /**
@@ -413,6 +674,7 @@ public class ComplaintServiceImpl implements ComplaintService {
      * @return the updated complaint DTO
      */
     @Override
+    @Transactional
     public ComplaintDTO updateComplaintInfo(Long complaintId, ComplaintRequest request) {
         Complaint complaint = complaintRepository.findById(complaintId)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint not found with id: " + complaintId));
@@ -432,6 +694,7 @@ public class ComplaintServiceImpl implements ComplaintService {
         }
         
         // Update the modifiable fields
+        CrimeType previousCrimeType = complaint.getCrimeType();
         if (request.getCrimeType() != null) {
             complaint.setCrimeType(request.getCrimeType());
         }
@@ -447,11 +710,94 @@ public class ComplaintServiceImpl implements ComplaintService {
         complaint.setDateLastUpdated(LocalDateTime.now());
         
         Complaint updatedComplaint = complaintRepository.save(complaint);
+        complaintCounterService.recordCrimeTypeChange(updatedComplaint, previousCrimeType);
+        complaintEventOutbox.record(new ComplaintUpdatedEvent(complaintId, previousCrimeType,
+                updatedComplaint.getCrimeType(), officerId(updatedComplaint), updatedComplaint.getDateLastUpdated()));
         log.info("Updated complaint: {} with new information", complaintId);
         
         return mapToDTO(updatedComplaint);
     }
     
+    private List<ComplaintSummary> findComplaintSummaries(List<Long> ids) {
+        return ids.isEmpty() ? List.of() : complaintRepository.findSummariesByIds(ids);
+    }
+    
+    private List<EvidenceSummary> findEvidenceSummaries(List<Long> ids) {
+        return ids.isEmpty() ? List.of() : evidenceRepository.findSummariesByIds(ids);
+    }
+    
+    /**
+     * Evidence of the given complaints, with one query per {@value #EVIDENCE_BATCH_SIZE} complaints
+     */
+    private List<EvidenceSummary> findEvidenceSummariesOfComplaints(Collection<Long> complaintIds) {
+        List<Long> ids = new ArrayList<>(complaintIds);
+        List<EvidenceSummary> evidence = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += EVIDENCE_BATCH_SIZE) {
+            evidence.addAll(evidenceRepository.findSummariesByComplaintIds(
+                    ids.subList(from, Math.min(from + EVIDENCE_BATCH_SIZE, ids.size()))));
+        }
+        return evidence;
+    }
+    
+    private static EvidenceDTO mapToEvidenceDTO(EvidenceSummary summary) {
+        return EvidenceDTO.builder()
+                .id(summary.id())
+                .complaintId(summary.complaintId())
+                .type(summary.evidenceType())
+                .fileName(summary.fileName())
+                .fileUrl(summary.fileUrl())
+                .fileType(summary.fileType())
+                .fileSize(summary.fileSize())
+                .description(summary.description())
+                .metadata(summary.metadata())
+                .uploadedAt(summary.uploadDate())
+                .uploadedById(summary.uploadedById())
+                .uploadedByName(summary.uploaderFirstName() + " " + summary.uploaderLastName())
+                .build();
+    }
+    
+    /**
+     * Maps a list of summaries to DTOs, loading the evidence file names of all of them
+     * with one query per {@value #EVIDENCE_BATCH_SIZE} complaints
+     */
+    private List<ComplaintDTO> mapSummariesToDTOs(List<ComplaintSummary> summaries) {
+        Map<Long, List<String>> fileNames = new HashMap<>();
+        for (int from = 0; from < summaries.size(); from += EVIDENCE_BATCH_SIZE) {
+            List<Long> ids = summaries.subList(from, Math.min(from + EVIDENCE_BATCH_SIZE, summaries.size())).stream()
+                    .map(ComplaintSummary::id)
+                    .collect(Collectors.toList());
+            evidenceRepository.findFileNamesByComplaintIds(ids).forEach(evidence ->
+                    fileNames.computeIfAbsent(evidence.complaintId(), id -> new ArrayList<>()).add(evidence.fileName()));
+        }
+        
+        return summaries.stream()
+                .map(summary -> mapToDTO(summary, fileNames.getOrDefault(summary.id(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+    
+    private ComplaintDTO mapToDTO(ComplaintSummary summary, List<String> evidenceFileNames) {
+        return ComplaintDTO.builder()
+                .id(summary.id())
+                .title(summary.description())  // Using description as title if title doesn't exist
+                .description(summary.description())
+                .location(summary.location())
+                .incidentDate(summary.dateFiled().toString())  // Using dateFiled as incidentDate if incidentDate doesn't exist
+                .status(summary.status().name())
+                .category(summary.crimeType())
+                .priorityScore(summary.priorityScore())
+                .duplicateOfId(summary.duplicateOfId())
+                .userId(summary.userId())
+                .userName(summary.userFirstName() + " " + summary.userLastName())
+                .userContact(summary.userEmail())
+                .assignedOfficerId(summary.assignedOfficerId())
+                .assignedOfficerName(summary.assignedOfficerId() != null ?
+                    summary.officerFirstName() + " " + summary.officerLastName() : null)
+                .evidenceFileNames(evidenceFileNames)
+                .createdAt(summary.dateFiled())
+                .updatedAt(summary.dateLastUpdated())
+                .build();
+    }
+    
     private ComplaintDTO mapToDTO(Complaint complaint) {
         return ComplaintDTO.builder()
                 .id(complaint.getId())
@@ -461,6 +807,8 @@ public class ComplaintServiceImpl implements ComplaintService {
                 .incidentDate(complaint.getDateFiled().toString())  // Using dateFiled as incidentDate if incidentDate doesn't exist
                 .status(complaint.getStatus().name())
                 .category(complaint.getCrimeType())
+                .priorityScore(complaint.getPriorityScore())
+                .duplicateOfId(complaint.getDuplicateOfId())
                 .userId(complaint.getUser() != null ? complaint.getUser().getId() : null)
                 .userName(complaint.getUser() != null ? 
                     complaint.getUser().getFirstName() + " " + complaint.getUser().getLastName() : null)
@@ -1,27 +1,53 @@
 package com.crime.reporting.crime_reporting_backend.service.impl;
 
+import com.crime.reporting.crime_reporting_backend.config.datasource.ConnectionPool;
+import com.crime.reporting.crime_reporting_backend.config.datasource.Workload;
 import com.crime.reporting.crime_reporting_backend.entity.Complaint;
 import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
 import com.crime.reporting.crime_reporting_backend.repository.ComplaintRepository;
 import com.crime.reporting.crime_reporting_backend.repository.StoredProcedureRepository;
+import com.crime.reporting.crime_reporting_backend.repository.projection.ComplaintReportRow;
+import com.crime.reporting.crime_reporting_backend.repository.procedure.OfficerPerformanceRow;
+import com.crime.reporting.crime_reporting_backend.repository.procedure.UserActivityRow;
+import com.crime.reporting.crime_reporting_backend.dto.ResolutionAnalyticsDTO;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintCounterService;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintSketchService;
 import com.crime.reporting.crime_reporting_backend.service.ReportService;
+import com.crime.reporting.crime_reporting_backend.service.fanout.FanOutExecutor;
+import com.crime.reporting.crime_reporting_backend.service.fanout.PartResult;
+import com.crime.reporting.crime_reporting_backend.service.report.ColumnSpec;
+import com.crime.reporting.crime_reporting_backend.service.report.DocumentSection;
+import com.crime.reporting.crime_reporting_backend.service.report.ParallelPdfRenderer;
+import com.crime.reporting.crime_reporting_backend.service.report.ReportFormatters;
+import com.crime.reporting.crime_reporting_backend.service.report.ReportStyles;
+import com.crime.reporting.crime_reporting_backend.service.report.ReportTemplate;
+import com.crime.reporting.crime_reporting_backend.service.report.RowSink;
 import com.lowagie.text.*;
-import com.lowagie.text.Font;
 import com.lowagie.text.pdf.*;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.awt.*;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 import java.util.Objects;
 import java.time.ZoneOffset;
@@ -29,491 +55,258 @@ import java.time.ZoneOffset;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ConnectionPool(Workload.REPORTING)
 public class ReportServiceImpl implements ReportService {
 
     private final StoredProcedureRepository storedProcedureRepository;
     private final ComplaintRepository complaintRepository;
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final ParallelPdfRenderer pdfRenderer;
+    private final FanOutExecutor fanOutExecutor;
+    private final ComplaintCounterService complaintCounterService;
+    private final ComplaintSketchService complaintSketchService;
     
-    /**
-     * Extension method for ComplaintRepository to handle the findByFilters call
-     * This method implements the filtering logic required for generating reports
-     */
-    private List<Complaint> findByFilters(LocalDateTime startDate, LocalDateTime endDate, String status, String crimeType) {
-        log.info("Finding complaints with filters: startDate={}, endDate={}, status={}, crimeType={}", 
-                startDate, endDate, status, crimeType);
-        
-        // Make a final copy of complaintStatus
-        final ComplaintStatus complaintStatus;
-        if (status != null && !status.isEmpty()) {
-            try {
-                complaintStatus = ComplaintStatus.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                log.warn("Invalid status: {}", status);
-                // Return empty list if status is invalid
-                return new ArrayList<>();
-            }
-        } else {
-            complaintStatus = null;
-        }
-        
-        List<Complaint> complaints;
-        
-        if (startDate != null && endDate != null) {
-            // Both date filters provided
-            if (complaintStatus != null) {
-                // Filter by date range and status
-                // Create final copies of variables used in the lambda
-                final LocalDateTime finalStartDate = startDate;
-                final LocalDateTime finalEndDate = endDate;
-                
-                complaints = complaintRepository.findAll().stream()
-                    .filter(c -> c.getDateFiled().isAfter(finalStartDate) && c.getDateFiled().isBefore(finalEndDate))
-                    .filter(c -> c.getStatus() == complaintStatus)
-                    .collect(Collectors.toList());
-            } else {
-                // Filter by date range only
-                complaints = complaintRepository.findByDateFiledBetween(startDate, endDate);
-            }
-        } else if (complaintStatus != null) {
-            // Filter by status only
-            complaints = complaintRepository.findByStatus(complaintStatus);
-        } else {
-            // No filters, get all complaints
-            complaints = complaintRepository.findAll();
-        }
-        
-        // Apply crime type filter if provided
-        if (crimeType != null && !crimeType.isEmpty()) {
-            // Create a final copy of the crime type for use in the lambda
-            final String finalCrimeType = crimeType;
-            complaints = complaints.stream()
-                .filter(c -> c.getCrimeType() != null && c.getCrimeType().toString().equals(finalCrimeType))
-                .collect(Collectors.toList());
-        }
-        
-        log.info("Found {} complaints matching the filter criteria", complaints.size());
-        return complaints;
-    }
+    @Value("${report.statistics.deadline-ms:5000}")
+    private long statisticsDeadlineMs;
+    
+    @Value("${report.statistics.part-timeout-ms:4000}")
+    private long statisticsPartTimeoutMs;
+    private static final DateTimeFormatter DATE_FORMATTER = ReportStyles.DATE_TIME_SECONDS;
+    
+    private static final ReportTemplate<ComplaintReportRow> COMPLAINTS_TEMPLATE = ReportTemplate.<ComplaintReportRow>builder("Crime Complaints Report")
+            .landscape()
+            .column(ColumnSpec.ofNumber("ID", 8f, c -> String.valueOf(c.id())))
+            .column(ColumnSpec.of("Date", 10f, c -> ReportFormatters.dateTime(c.dateFiled())))
+            .column(ColumnSpec.of("Crime Type", 14f, c -> ReportFormatters.text(c.crimeType())))
+            .column(ColumnSpec.of("Description", 30f, ComplaintReportRow::description))
+            .column(ColumnSpec.of("Status", 16f, c -> ReportFormatters.text(c.status())))
+            .column(ColumnSpec.of("Location", 22f, c -> c.location() != null ? c.location() : "N/A"))
+            .build();
+    
+    private static final ReportTemplate<OfficerPerformanceLine> OFFICER_PERFORMANCE_TEMPLATE =
+            ReportTemplate.<OfficerPerformanceLine>builder("Police Officers Performance Report")
+            .landscape()
+            .column(ColumnSpec.ofNumber("ID", 5f, line -> ReportFormatters.text(line.row().officerId())))
+            .column(ColumnSpec.of("Officer Name", 15f, line -> ReportFormatters.text(line.row().officerName())))
+            .column(ColumnSpec.of("Badge", 10f, line -> ReportFormatters.text(line.row().badgeNumber())))
+            .column(ColumnSpec.of("Department", 15f, line -> ReportFormatters.text(line.row().departmentName())))
+            .column(ColumnSpec.centeredNumber("Assigned", 10f, line -> String.valueOf(line.row().assignedCount())))
+            .column(ColumnSpec.centeredNumber("Resolved", 10f, line -> String.valueOf(line.row().closedCount())))
+            .column(ColumnSpec.centeredNumber("Avg. Days", 10f, line -> ReportFormatters.decimal(line.row().avgResolutionDays())))
+            .column(ColumnSpec.centeredNumber("P50 Days", 10f, line -> ReportFormatters.decimal(line.p50ResolutionDays())))
+            .column(ColumnSpec.centeredNumber("P90 Days", 10f, line -> ReportFormatters.decimal(line.p90ResolutionDays())))
+            .build();
+    
+    private static final ReportTemplate<UserActivityRow> USER_ACTIVITY_TEMPLATE =
+            ReportTemplate.<UserActivityRow>builder("User Activity Report")
+            .column(ColumnSpec.ofNumber("ID", 5f, row -> ReportFormatters.text(row.userId())))
+            .column(ColumnSpec.of("Name", 15f, row -> ReportFormatters.text(row.username())))
+            .column(ColumnSpec.of("Email", 20f, row -> ReportFormatters.text(row.email())))
+            .column(ColumnSpec.of("Role", 10f, row -> ReportFormatters.text(row.role())))
+            .column(ColumnSpec.of("Registration Date", 15f, row -> ReportFormatters.timestamp(row.registrationDate())))
+            .column(ColumnSpec.centeredNumber("Complaints", 10f, row -> String.valueOf(row.complaintsFiled())))
+            .build();
+    
+    private static final ReportTemplate<CrimeTypeShare> CRIME_TYPE_TEMPLATE = ReportTemplate.<CrimeTypeShare>builder("Crime Type Breakdown")
+            .column(ColumnSpec.of("Crime Type", 1f, CrimeTypeShare::crimeType))
+            .column(ColumnSpec.centeredNumber("Count", 1f, s -> String.valueOf(s.count())))
+            .column(ColumnSpec.centered("Percentage", 1f, s -> String.format("%.2f%%", s.percentage())))
+            .build();
     
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ByteArrayInputStream generateComplaintsReport(LocalDateTime startDate, LocalDateTime endDate, 
                                                         String status, String crimeType) {
         log.info("Generating complaints report: startDate={}, endDate={}, status={}, crimeType={}", 
                 startDate, endDate, status, crimeType);
         
-        // Get complaints data from repository based on filters
-        List<Complaint> complaints = findByFilters(startDate, endDate, status, crimeType);
-        
-        log.info("Retrieved {} complaints for report", complaints.size());
-        
-        if (complaints.isEmpty()) {
-            log.info("No complaints data available for report");
+        final ComplaintStatus complaintStatus;
+        final CrimeType complaintCrimeType;
+        try {
+            complaintStatus = status != null && !status.isEmpty() ? ComplaintStatus.valueOf(status.toUpperCase()) : null;
+            complaintCrimeType = crimeType != null && !crimeType.isEmpty() ? CrimeType.valueOf(crimeType.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid report filter: status={}, crimeType={}", status, crimeType);
             return new ByteArrayInputStream(new byte[0]);
         }
         
-        try {
-            Document document = new Document(PageSize.A4.rotate());
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            PdfWriter writer = PdfWriter.getInstance(document, out);
-            
-            document.open();
-            addReportHeader(document, "Crime Complaints Report");
-            addDateRangeInfo(document, startDate, endDate);
-            
-            if (status != null && !status.isEmpty()) {
-                document.add(new Paragraph("Status: " + status));
-            }
-            
-            if (crimeType != null && !crimeType.isEmpty()) {
-                document.add(new Paragraph("Crime Type: " + crimeType));
+        // Rows are filtered by the database and streamed into the renderer. The status counts
+        // for the trailer are gathered on this thread as rows are read; the renderer writes
+        // the trailer only after the last row has been read.
+        Map<String, Long> statusCounts = new TreeMap<>();
+        try (Stream<ComplaintReportRow> rows = complaintRepository.streamReportRows(
+                startDate != null ? startDate : ComplaintRepository.FILED_MIN,
+                endDate != null ? endDate : ComplaintRepository.FILED_MAX,
+                complaintStatus, complaintCrimeType)) {
+            Iterator<ComplaintReportRow> iterator = rows
+                    .peek(row -> statusCounts.merge(row.status().toString(), 1L, Long::sum))
+                    .iterator();
+            
+            if (!iterator.hasNext()) {
+                log.info("No complaints data available for report");
+                return new ByteArrayInputStream(new byte[0]);
             }
             
-            document.add(new Paragraph(" ")); // Add some space
-            
-            // Create table
-            PdfPTable table = new PdfPTable(6);
-            table.setWidthPercentage(100);
-            
-            // Set column widths
-            float[] columnWidths = {8f, 10f, 14f, 30f, 16f, 22f};
-            table.setWidths(columnWidths);
-            
-            // Add table headers
-            addTableHeader(table, "ID", "Date", "Crime Type", "Description", "Status", "Location");
-            
-            // Add complaint data rows
-            for (Complaint complaint : complaints) {
-                addTableRow(table, 
-                    String.valueOf(complaint.getId()),
-                    formatDateForReport(complaint.getDateFiled()), // Use getDateFiled instead of getSubmissionDate
-                    complaint.getCrimeType().toString(),
-                    complaint.getDescription(),
-                    complaint.getStatus().toString(),
-                    complaint.getLocation() != null ? complaint.getLocation() : "N/A"
-                );
-            }
-            
-            document.add(table);
-            
-            // Add summary information
-            document.add(new Paragraph(" ")); // Add some space
-            document.add(new Paragraph("Total Complaints: " + complaints.size()));
-            
-            // Add status counts if available
-            Map<String, Long> statusCounts = complaints.stream()
-                    .collect(Collectors.groupingBy(c -> c.getStatus().toString(), Collectors.counting()));
-            
-            document.add(new Paragraph("Status Summary:"));
-            for (Map.Entry<String, Long> entry : statusCounts.entrySet()) {
-                document.add(new Paragraph("  - " + entry.getKey() + ": " + entry.getValue()));
-            }
-            
-            document.close();
-            writer.close();
-            
-            byte[] pdfBytes = out.toByteArray();
-            log.info("Generated PDF report with size: {} bytes", pdfBytes.length);
+            DocumentSection preamble = document -> {
+                COMPLAINTS_TEMPLATE.writeHeader(document, startDate, endDate);
+                
+                if (status != null && !status.isEmpty()) {
+                    document.add(new Paragraph("Status: " + status));
+                }
+                
+                if (crimeType != null && !crimeType.isEmpty()) {
+                    document.add(new Paragraph("Crime Type: " + crimeType));
+                }
+                
+                document.add(new Paragraph(" ")); // Add some space
+            };
             
-            ByteArrayInputStream bis = new ByteArrayInputStream(pdfBytes);
-            bis.mark(Integer.MAX_VALUE); // Mark the beginning for reset capability
+            DocumentSection trailer = document -> {
+                long totalComplaints = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+                document.add(new Paragraph(" ")); // Add some space
+                document.add(new Paragraph("Total Complaints: " + totalComplaints));
+                
+                document.add(new Paragraph("Status Summary:"));
+                for (Map.Entry<String, Long> entry : statusCounts.entrySet()) {
+                    document.add(new Paragraph("  - " + entry.getKey() + ": " + entry.getValue()));
+                }
+            };
             
-            return bis;
+            // Large reports have their cells formatted in chunks on the report worker pool
+            byte[] pdfBytes = pdfRenderer.render(COMPLAINTS_TEMPLATE, iterator, preamble, trailer);
+            return toInputStream(pdfBytes);
         } catch (Exception e) {
             log.error("Error generating complaints report", e);
             return new ByteArrayInputStream(new byte[0]);
         }
     }
     
-    /**
-     * Add the header to a report
-     */
-    private void addReportHeader(Document document, String title) throws DocumentException {
-        Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
-        Paragraph titlePara = new Paragraph(title, titleFont);
-        titlePara.setAlignment(Element.ALIGN_CENTER);
-        document.add(titlePara);
-        document.add(new Paragraph(" ")); // Add space
+    @Override
+    public ByteArrayInputStream generateOfficersPerformanceReport(Long departmentId, LocalDateTime startDate, 
+                                                                 LocalDateTime endDate) {
+        log.info("Generating officers performance report PDF");
+        Map<Long, ResolutionAnalyticsDTO> percentiles = resolutionPercentilesByOfficer(departmentId, startDate, endDate);
+        
+        return renderStreamedReport(OFFICER_PERFORMANCE_TEMPLATE, startDate, endDate, sink ->
+                storedProcedureRepository.streamOfficerPerformanceReport(departmentId, startDate, endDate,
+                        row -> sink.accept(new OfficerPerformanceLine(row, percentiles.get(row.officerId())))));
     }
     
-    /**
-     * Add date range information to the report
-     */
-    private void addDateRangeInfo(Document document, LocalDateTime startDate, LocalDateTime endDate) throws DocumentException {
-        Font dateFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
-        StringBuilder dateRange = new StringBuilder("Report generated on: ")
-                .append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
-                .append("\n");
-        
-        if (startDate != null) {
-            dateRange.append("From: ")
-                    .append(startDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
-                    .append("\n");
-        }
-        
-        if (endDate != null) {
-            dateRange.append("To: ")
-                    .append(endDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
-                    .append("\n");
-        }
+    @Override
+    public ByteArrayInputStream generateUserActivityReport(LocalDateTime startDate, LocalDateTime endDate) {
+        log.info("Generating user activity report PDF");
         
-        Paragraph dateInfo = new Paragraph(dateRange.toString(), dateFont);
-        document.add(dateInfo);
-        document.add(new Paragraph(" ")); // Add space
+        return renderStreamedReport(USER_ACTIVITY_TEMPLATE, startDate, endDate, sink ->
+                storedProcedureRepository.streamUserActivityReport(startDate, endDate, sink::accept));
     }
     
-    /**
-     * Add table headers to the PDF table
-     */
-    private void addTableHeader(PdfPTable table, String... headers) {
-        Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, Color.WHITE);
-        
-        for (String header : headers) {
-            PdfPCell cell = new PdfPCell(new Phrase(header, headerFont));
-            cell.setBackgroundColor(new Color(66, 139, 202));
-            cell.setPadding(5);
-            cell.setHorizontalAlignment(Element.ALIGN_CENTER);
-            cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
-            table.addCell(cell);
-        }
+    @Override
+    public void writeOfficersPerformanceSpreadsheet(Long departmentId, LocalDateTime startDate,
+                                                    LocalDateTime endDate, OutputStream out) throws IOException {
+        log.info("Streaming officers performance report XLSX");
+        Map<Long, ResolutionAnalyticsDTO> percentiles = resolutionPercentilesByOfficer(departmentId, startDate, endDate);
+        writeSpreadsheet(OFFICER_PERFORMANCE_TEMPLATE, out, sink ->
+                storedProcedureRepository.streamOfficerPerformanceReport(departmentId, startDate, endDate,
+                        row -> sink.accept(new OfficerPerformanceLine(row, percentiles.get(row.officerId())))));
     }
     
-    /**
-     * Add a row of data to the PDF table
-     */
-    private void addTableRow(PdfPTable table, String... values) {
-        Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
-        
-        for (String value : values) {
-            PdfPCell cell = new PdfPCell(new Phrase(value != null ? value : "", cellFont));
-            cell.setPadding(5);
-            cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
-            table.addCell(cell);
-        }
+    @Override
+    public void writeUserActivitySpreadsheet(LocalDateTime startDate, LocalDateTime endDate,
+                                             OutputStream out) throws IOException {
+        log.info("Streaming user activity report XLSX");
+        writeSpreadsheet(USER_ACTIVITY_TEMPLATE, out, sink ->
+                storedProcedureRepository.streamUserActivityReport(startDate, endDate, sink::accept));
+    }
+    
+    private Map<Long, ResolutionAnalyticsDTO> resolutionPercentilesByOfficer(Long departmentId,
+                                                                          LocalDateTime startDate, LocalDateTime endDate) {
+        return complaintSketchService.summarizeByOfficer(
+                startDate != null ? startDate.toLocalDate() : null,
+                endDate != null ? endDate.toLocalDate() : null,
+                departmentId);
     }
     
     /**
-     * Format a date for the report
+     * Write a single-sheet workbook whose rows are pushed by the source straight from the
+     * procedure cursor. Only the workbook's row window is held in memory; the rest is
+     * spilled to a temporary file that is removed once the workbook is written.
      */
-    private String formatDateForReport(LocalDateTime date) {
-        if (date == null) {
-            return "";
+    private <T> void writeSpreadsheet(ReportTemplate<T> template, OutputStream out,
+                                      Consumer<RowSink<T>> source) throws IOException {
+        SXSSFWorkbook workbook = ReportTemplate.newWorkbook();
+        try {
+            try (RowSink<T> sink = template.openSheet(workbook)) {
+                source.accept(sink);
+                log.info("Wrote {} rows to {} spreadsheet", sink.getRowCount(), template.getTitle());
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
-        return date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
     }
     
-    @Override
-    @Transactional
-    public ByteArrayInputStream generateOfficersPerformanceReport(Long departmentId, LocalDateTime startDate, 
-                                                                 LocalDateTime endDate) {
-        log.info("Generating officers performance report PDF");
-        Map<String, Object> reportData = storedProcedureRepository.getOfficerPerformanceReport(
-                departmentId, startDate, endDate);
-        
+    /**
+     * Render a single-table report whose rows are pushed by the source straight from the
+     * procedure cursor into the table, which flushes them to the document in batches
+     */
+    private <T> ByteArrayInputStream renderStreamedReport(ReportTemplate<T> template,
+                                                          LocalDateTime startDate, LocalDateTime endDate,
+                                                          Consumer<RowSink<T>> source) {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        Document document = new Document(PageSize.A4.rotate());
+        Document document = template.newDocument();
         
         try {
             PdfWriter.getInstance(document, out);
             document.open();
+            template.writeHeader(document, startDate, endDate);
             
-            // Add title
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
-            Paragraph title = new Paragraph("Police Officers Performance Report", titleFont);
-            title.setAlignment(Element.ALIGN_CENTER);
-            document.add(title);
-            
-            // Add report info
-            document.add(Chunk.NEWLINE);
-            Font infoFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
-            
-            StringBuilder reportInfoText = new StringBuilder("Report Date: ")
-                    .append(LocalDateTime.now().format(DATE_FORMATTER))
-                    .append("\n");
-            
-            if (startDate != null) {
-                reportInfoText.append("From: ").append(startDate.format(DATE_FORMATTER)).append("\n");
-            }
-            if (endDate != null) {
-                reportInfoText.append("To: ").append(endDate.format(DATE_FORMATTER)).append("\n");
-            }
-            
-            Paragraph reportInfo = new Paragraph(reportInfoText.toString(), infoFont);
-            document.add(reportInfo);
-            document.add(Chunk.NEWLINE);
-            
-            // Create table
-            PdfPTable table = new PdfPTable(7);
-            table.setWidthPercentage(100f);
-            
-            // Define column widths (percentage of total width)
-            float[] columnWidths = {5f, 15f, 10f, 15f, 10f, 10f, 10f};
-            table.setWidths(columnWidths);
-            
-            // Create table header
-            Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, Color.WHITE);
-            PdfPCell headerCell = new PdfPCell();
-            headerCell.setBackgroundColor(new Color(66, 139, 202));
-            headerCell.setPadding(5);
-            headerCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-            
-            String[] headers = {"ID", "Officer Name", "Badge", "Department", "Assigned", "Resolved", "Avg. Days"};
-            for (String header : headers) {
-                headerCell.setPhrase(new Phrase(header, headerFont));
-                table.addCell(headerCell);
-            }
-            
-            // Add data to table
-            Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
-            
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> results = (List<Map<String, Object>>) reportData.get("results");
-            if (results != null) {
-                for (Map<String, Object> row : results) {
-                    PdfPCell cell = new PdfPCell();
-                    cell.setPadding(5);
-                    
-                    // ID
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("officer_id")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Officer Name
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("officer_name")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Badge
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("badge_number")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Department
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("department_name")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Assigned
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("assigned_complaints")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Resolved
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("resolved_complaints")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Avg. Days
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("avg_resolution_days")), cellFont));
-                    table.addCell(cell);
-                }
+            try (RowSink<T> sink = template.openTable(document)) {
+                source.accept(sink);
             }
             
-            document.add(table);
             document.close();
             
-        } catch (DocumentException e) {
-            log.error("Error generating officers performance report PDF", e);
+        } catch (DocumentException | ExceptionConverter e) {
+            log.error("Error generating {} PDF", template.getTitle(), e);
         }
         
         return new ByteArrayInputStream(out.toByteArray());
     }
     
-    @Override
-    @Transactional
-    public ByteArrayInputStream generateUserActivityReport(LocalDateTime startDate, LocalDateTime endDate) {
-        log.info("Generating user activity report PDF");
-        Map<String, Object> reportData = storedProcedureRepository.getUserActivityReport(startDate, endDate);
-        
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        Document document = new Document(PageSize.A4);
-        
-        try {
-            PdfWriter.getInstance(document, out);
-            document.open();
-            
-            // Add title
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
-            Paragraph title = new Paragraph("User Activity Report", titleFont);
-            title.setAlignment(Element.ALIGN_CENTER);
-            document.add(title);
-            
-            // Add report info
-            document.add(Chunk.NEWLINE);
-            Font infoFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
-            
-            StringBuilder reportInfoText = new StringBuilder("Report Date: ")
-                    .append(LocalDateTime.now().format(DATE_FORMATTER))
-                    .append("\n");
-            
-            if (startDate != null) {
-                reportInfoText.append("From: ").append(startDate.format(DATE_FORMATTER)).append("\n");
-            }
-            if (endDate != null) {
-                reportInfoText.append("To: ").append(endDate.format(DATE_FORMATTER)).append("\n");
-            }
-            
-            Paragraph reportInfo = new Paragraph(reportInfoText.toString(), infoFont);
-            document.add(reportInfo);
-            document.add(Chunk.NEWLINE);
-            
-            // Create table
-            PdfPTable table = new PdfPTable(6);
-            table.setWidthPercentage(100f);
-            
-            // Define column widths (percentage of total width)
-            float[] columnWidths = {5f, 15f, 20f, 10f, 15f, 10f};
-            table.setWidths(columnWidths);
-            
-            // Create table header
-            Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, Color.WHITE);
-            PdfPCell headerCell = new PdfPCell();
-            headerCell.setBackgroundColor(new Color(66, 139, 202));
-            headerCell.setPadding(5);
-            headerCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-            
-            String[] headers = {"ID", "Name", "Email", "Role", "Registration Date", "Complaints"};
-            for (String header : headers) {
-                headerCell.setPhrase(new Phrase(header, headerFont));
-                table.addCell(headerCell);
-            }
-            
-            // Add data to table
-            Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
-            
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> results = (List<Map<String, Object>>) reportData.get("results");
-            if (results != null) {
-                for (Map<String, Object> row : results) {
-                    PdfPCell cell = new PdfPCell();
-                    cell.setPadding(5);
-                    
-                    // ID
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("user_id")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Name
-                    String name = row.get("first_name") + " " + row.get("last_name");
-                    cell.setPhrase(new Phrase(name, cellFont));
-                    table.addCell(cell);
-                    
-                    // Email
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("email")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Role
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("role")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Registration Date
-                    cell.setPhrase(new Phrase(formatDate(row.get("registration_date")), cellFont));
-                    table.addCell(cell);
-                    
-                    // Complaints
-                    cell.setPhrase(new Phrase(String.valueOf(row.get("complaints_filed")), cellFont));
-                    table.addCell(cell);
-                }
-            }
-            
-            document.add(table);
-            document.close();
-            
-        } catch (DocumentException e) {
-            log.error("Error generating user activity report PDF", e);
-        }
+    private ByteArrayInputStream toInputStream(byte[] pdfBytes) {
+        log.info("Generated PDF report with size: {} bytes", pdfBytes.length);
         
-        return new ByteArrayInputStream(out.toByteArray());
+        ByteArrayInputStream bis = new ByteArrayInputStream(pdfBytes);
+        bis.mark(Integer.MAX_VALUE); // Mark the beginning for reset capability
+        return bis;
     }
     
     @Override
-    @Transactional(Transactional.TxType.SUPPORTS)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Map<String, Object> getReportStatistics(LocalDateTime startDate, LocalDateTime endDate) {
         log.info("Fetching report statistics");
-        Map<String, Object> statistics = new HashMap<>();
-        
-        // Get statistics by date range
-        Map<String, Object> dateRangeStats = storedProcedureRepository.getComplaintStatsByDateRange(
-                startDate != null ? startDate : LocalDateTime.now().minusMonths(1), 
-                endDate != null ? endDate : LocalDateTime.now());
-        statistics.put("byDateRange", dateRangeStats);
+        LocalDateTime from = startDate != null ? startDate : LocalDateTime.now().minusMonths(1);
+        LocalDateTime to = endDate != null ? endDate : LocalDateTime.now();
+        
+        // Both parts are independent, so run them side by side instead of back to back.
+        // They read the daily counter tables, which have the same result shape as the procedures.
+        Map<String, PartResult> parts = fanOutExecutor.begin(Duration.ofMillis(statisticsDeadlineMs))
+                .part("byDateRange", Duration.ofMillis(statisticsPartTimeoutMs),
+                        () -> complaintCounterService.getDateRangeStats(from.toLocalDate(), to.toLocalDate()))
+                .part("byCrimeType", Duration.ofMillis(statisticsPartTimeoutMs),
+                        complaintCounterService::getCrimeTypeStats)
+                .join();
         
-        // Get statistics by crime type
-        Map<String, Object> crimeTypeStats = storedProcedureRepository.getComplaintStatsByCrimeType();
-        statistics.put("byCrimeType", crimeTypeStats);
+        Map<String, Object> statistics = new HashMap<>();
+        parts.forEach((name, part) -> statistics.put(name, part.value()));
+        statistics.put("parts", parts);
+        statistics.put("complete", parts.values().stream().allMatch(PartResult::isOk));
         
         return statistics;
     }
     
-    private String formatDate(Object date) {
-        if (date == null) {
-            return "";
-        }
-        
-        if (date instanceof java.sql.Timestamp) {
-            return DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
-                    .format(((java.sql.Timestamp) date).toLocalDateTime());
-        }
-        
-        return date.toString();
-    }
-    
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ByteArrayInputStream generateSystemOverviewReport(LocalDateTime startDate, LocalDateTime endDate) {
         log.info("Generating comprehensive system overview report");
         
@@ -577,6 +370,12 @@ public class ReportServiceImpl implements ReportService {
             .orElse(0.0);
         overviewStats.put("avg_resolution_days", avgResolutionDays);
         
+        // Percentiles and distinct complainants come from the merged daily sketches
+        ResolutionAnalyticsDTO resolution = complaintSketchService.summarize(
+                startDate != null ? startDate.toLocalDate() : null,
+                endDate != null ? endDate.toLocalDate() : null,
+                null, null);
+        
         // Get officer count from repository
         long officerCount = 0;
         try {
@@ -638,15 +437,11 @@ public class ReportServiceImpl implements ReportService {
             PdfWriter writer = PdfWriter.getInstance(document, out);
             document.open();
             
-            // Add title
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 20);
-            Paragraph title = new Paragraph("System Overview Report", titleFont);
+            // Add title and report info
+            Paragraph title = new Paragraph("System Overview Report", ReportStyles.TITLE_FONT);
             title.setAlignment(Element.ALIGN_CENTER);
             document.add(title);
-            
-            // Add report info
             document.add(Chunk.NEWLINE);
-            Font infoFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
             
             StringBuilder reportInfoText = new StringBuilder("Report Generated: ")
                     .append(LocalDateTime.now().format(DATE_FORMATTER))
@@ -659,86 +454,50 @@ public class ReportServiceImpl implements ReportService {
                 reportInfoText.append("Period End: ").append(endDate.format(DATE_FORMATTER)).append("\n");
             }
             
-            Paragraph reportInfo = new Paragraph(reportInfoText.toString(), infoFont);
-            document.add(reportInfo);
+            document.add(new Paragraph(reportInfoText.toString(), ReportStyles.INFO_FONT));
             document.add(Chunk.NEWLINE);
             
             // Add table of contents
-            Font tocFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14);
-            Paragraph tocTitle = new Paragraph("Table of Contents", tocFont);
-            document.add(tocTitle);
+            document.add(new Paragraph("Table of Contents", ReportStyles.SUBTITLE_FONT));
             document.add(Chunk.NEWLINE);
-            
-            Font tocItemFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
-            document.add(new Paragraph("1. System Summary", tocItemFont));
-            document.add(new Paragraph("2. Complaint Statistics", tocItemFont));
+            document.add(new Paragraph("1. System Summary", ReportStyles.INFO_FONT));
+            document.add(new Paragraph("2. Complaint Statistics", ReportStyles.INFO_FONT));
             document.add(Chunk.NEWLINE);
             
             // 1. System Summary
             document.newPage();
-            Font sectionFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
-            Paragraph sectionTitle = new Paragraph("1. System Summary", sectionFont);
-            document.add(sectionTitle);
+            document.add(new Paragraph("1. System Summary", ReportStyles.SECTION_FONT));
             document.add(Chunk.NEWLINE);
             
-            // Create summary table
             PdfPTable summaryTable = new PdfPTable(2);
             summaryTable.setWidthPercentage(100f);
             
-            // Add summary data
-            Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, Color.WHITE);
-            PdfPCell headerCell = new PdfPCell();
-            headerCell.setBackgroundColor(new Color(66, 139, 202));
-            headerCell.setPadding(5);
+            PdfPCell headerCell = ReportStyles.headerCell();
             headerCell.setColspan(2);
-            headerCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-            headerCell.setPhrase(new Phrase("System Overview", headerFont));
+            headerCell.setPhrase(new Phrase("System Overview", ReportStyles.HEADER_FONT));
             summaryTable.addCell(headerCell);
             
-            // Extract summary data from statistics and overviewStats
-            addSummaryRow(summaryTable, "Total Complaints", 
-                    overviewStats.get("total_complaints") != null ? overviewStats.get("total_complaints").toString() : "0");
-            addSummaryRow(summaryTable, "Open Complaints", 
-                    overviewStats.get("open_complaints") != null ? overviewStats.get("open_complaints").toString() : "0");
-            addSummaryRow(summaryTable, "Closed Complaints", 
-                    overviewStats.get("closed_complaints") != null ? overviewStats.get("closed_complaints").toString() : "0");
-            
-            // Officer count
-            addSummaryRow(summaryTable, "Total Officers", 
-                    overviewStats.get("total_officers") != null ? overviewStats.get("total_officers").toString() : "0");
-            
-            // Department count
-            addSummaryRow(summaryTable, "Total Departments", 
-                    overviewStats.get("total_departments") != null ? overviewStats.get("total_departments").toString() : "0");
-            
-            // User counts
-            addSummaryRow(summaryTable, "Total Users", 
-                    overviewStats.get("total_users") != null ? overviewStats.get("total_users").toString() : "0");
-            addSummaryRow(summaryTable, "New Users (This Period)", 
-                    overviewStats.get("new_users_period") != null ? overviewStats.get("new_users_period").toString() : "0");
-            
-            // High priority complaints
-            addSummaryRow(summaryTable, "High Priority Complaints", 
-                    overviewStats.get("high_priority_complaints") != null ? overviewStats.get("high_priority_complaints").toString() : "0");
-            
-            // Medium priority complaints
-            addSummaryRow(summaryTable, "Medium Priority Complaints", 
-                    overviewStats.get("medium_priority_complaints") != null ? overviewStats.get("medium_priority_complaints").toString() : "0");
-            
-            // Low priority complaints
-            addSummaryRow(summaryTable, "Low Priority Complaints", 
-                    overviewStats.get("low_priority_complaints") != null ? overviewStats.get("low_priority_complaints").toString() : "0");
-            
-            // Avg resolution time
-            String avgResolution = String.format("%.2f", avgResolutionDays);
-            addSummaryRow(summaryTable, "Avg. Resolution Time (days)", avgResolution);
+            addSummaryRow(summaryTable, "Total Complaints", overviewStats.get("total_complaints"));
+            addSummaryRow(summaryTable, "Open Complaints", overviewStats.get("open_complaints"));
+            addSummaryRow(summaryTable, "Closed Complaints", overviewStats.get("closed_complaints"));
+            addSummaryRow(summaryTable, "Total Officers", overviewStats.get("total_officers"));
+            addSummaryRow(summaryTable, "Total Departments", overviewStats.get("total_departments"));
+            addSummaryRow(summaryTable, "Total Users", overviewStats.get("total_users"));
+            addSummaryRow(summaryTable, "New Users (This Period)", overviewStats.get("new_users_period"));
+            addSummaryRow(summaryTable, "High Priority Complaints", overviewStats.get("high_priority_complaints"));
+            addSummaryRow(summaryTable, "Medium Priority Complaints", overviewStats.get("medium_priority_complaints"));
+            addSummaryRow(summaryTable, "Low Priority Complaints", overviewStats.get("low_priority_complaints"));
+            addSummaryRow(summaryTable, "Avg. Resolution Time (days)", String.format("%.2f", avgResolutionDays));
+            addSummaryRow(summaryTable, "Median Resolution Time (days)", ReportFormatters.decimal(resolution.getP50ResolutionDays()));
+            addSummaryRow(summaryTable, "P90 Resolution Time (days)", ReportFormatters.decimal(resolution.getP90ResolutionDays()));
+            addSummaryRow(summaryTable, "P99 Resolution Time (days)", ReportFormatters.decimal(resolution.getP99ResolutionDays()));
+            addSummaryRow(summaryTable, "Distinct Complainants (This Period)", resolution.getDistinctComplainants());
             
             document.add(summaryTable);
             
             // 2. Complaint Statistics
             document.newPage();
-            Paragraph complaintStatTitle = new Paragraph("2. Complaint Statistics", sectionFont);
-            document.add(complaintStatTitle);
+            document.add(new Paragraph("2. Complaint Statistics", ReportStyles.SECTION_FONT));
             document.add(Chunk.NEWLINE);
             
             // Generate crime type statistics here
@@ -750,49 +509,16 @@ public class ReportServiceImpl implements ReportService {
                 ));
             
             if (!crimeTypeCounts.isEmpty()) {
-                PdfPTable crimeTypeTable = new PdfPTable(3);
-                crimeTypeTable.setWidthPercentage(100f);
-                
-                // Add header
-                PdfPCell crimeHeaderCell = new PdfPCell();
-                crimeHeaderCell.setBackgroundColor(new Color(66, 139, 202));
-                crimeHeaderCell.setPadding(5);
-                crimeHeaderCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-                
-                crimeHeaderCell.setPhrase(new Phrase("Crime Type", headerFont));
-                crimeTypeTable.addCell(crimeHeaderCell);
-                crimeHeaderCell.setPhrase(new Phrase("Count", headerFont));
-                crimeTypeTable.addCell(crimeHeaderCell);
-                crimeHeaderCell.setPhrase(new Phrase("Percentage", headerFont));
-                crimeTypeTable.addCell(crimeHeaderCell);
-                
-                // Add data rows
-                Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
-                PdfPCell cell = new PdfPCell();
-                cell.setPadding(5);
-                
                 long totalCrimes = crimeTypeCounts.values().stream().mapToLong(Long::longValue).sum();
                 
-                for (Map.Entry<String, Long> entry : crimeTypeCounts.entrySet()) {
-                    // Crime type
-                    cell.setPhrase(new Phrase(entry.getKey(), cellFont));
-                    cell.setHorizontalAlignment(Element.ALIGN_LEFT);
-                    crimeTypeTable.addCell(cell);
-                    
-                    // Count
-                    cell.setPhrase(new Phrase(entry.getValue().toString(), cellFont));
-                    cell.setHorizontalAlignment(Element.ALIGN_CENTER);
-                    crimeTypeTable.addCell(cell);
-                    
-                    // Percentage
-                    double percentage = totalCrimes > 0 ? (entry.getValue() * 100.0 / totalCrimes) : 0;
-                    cell.setPhrase(new Phrase(String.format("%.2f%%", percentage), cellFont));
-                    crimeTypeTable.addCell(cell);
+                try (RowSink<CrimeTypeShare> sink = CRIME_TYPE_TEMPLATE.openTable(document)) {
+                    for (Map.Entry<String, Long> entry : crimeTypeCounts.entrySet()) {
+                        double percentage = totalCrimes > 0 ? (entry.getValue() * 100.0 / totalCrimes) : 0;
+                        sink.accept(new CrimeTypeShare(entry.getKey(), entry.getValue(), percentage));
+                    }
                 }
-                
-                document.add(crimeTypeTable);
             } else {
-                document.add(new Paragraph("No crime type statistics available for the selected period.", infoFont));
+                document.add(new Paragraph("No crime type statistics available for the selected period.", ReportStyles.INFO_FONT));
             }
             
             // Close the document properly
@@ -819,17 +545,33 @@ public class ReportServiceImpl implements ReportService {
         }
     }
     
-    private void addSummaryRow(PdfPTable table, String label, String value) {
-        Font labelFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11);
-        Font valueFont = FontFactory.getFont(FontFactory.HELVETICA, 11);
-        
-        PdfPCell labelCell = new PdfPCell(new Phrase(label, labelFont));
-        labelCell.setPadding(5);
-        labelCell.setBackgroundColor(new Color(240, 240, 240));
+    private void addSummaryRow(PdfPTable table, String label, Object value) {
+        PdfPCell labelCell = new PdfPCell(new Phrase(label, ReportStyles.LABEL_FONT));
+        labelCell.setPadding(ReportStyles.CELL_PADDING);
+        labelCell.setBackgroundColor(ReportStyles.LABEL_BACKGROUND);
         table.addCell(labelCell);
         
-        PdfPCell valueCell = new PdfPCell(new Phrase(value, valueFont));
-        valueCell.setPadding(5);
+        PdfPCell valueCell = new PdfPCell(new Phrase(value != null ? value.toString() : "0", ReportStyles.VALUE_FONT));
+        valueCell.setPadding(ReportStyles.CELL_PADDING);
         table.addCell(valueCell);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Row of the crime type breakdown in the system overview report
+     */
+    private record CrimeTypeShare(String crimeType, long count, double percentage) {}
+    
+    /**
+     * Row of the officer performance report: the procedure row plus the officer's resolution percentiles
+     */
+    private record OfficerPerformanceLine(OfficerPerformanceRow row, ResolutionAnalyticsDTO resolution) {
+        
+        Double p50ResolutionDays() {
+            return resolution != null ? resolution.getP50ResolutionDays() : null;
+        }
+        
+        Double p90ResolutionDays() {
+            return resolution != null ? resolution.getP90ResolutionDays() : null;
+        }
+    }
+}
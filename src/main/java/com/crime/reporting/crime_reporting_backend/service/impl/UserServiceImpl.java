@@ -4,7 +4,9 @@ import com.crime.reporting.crime_reporting_backend.dto.UserResponse;
 import com.crime.reporting.crime_reporting_backend.dto.UpdateUserProfileRequest;
 import com.crime.reporting.crime_reporting_backend.entity.User;
 import com.crime.reporting.crime_reporting_backend.exception.ResourceNotFoundException;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintRepository;
 import com.crime.reporting.crime_reporting_backend.repository.UserRepository;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintService;
 import com.crime.reporting.crime_reporting_backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,8 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintService complaintService;
 
     @Override
     @Transactional
@@ -74,6 +78,13 @@ public class UserServiceImpl implements UserService {
         if (!userRepository.existsById(userId)) {
             throw new ResourceNotFoundException("User not found with id: " + userId);
         }
+        // The complaints table has no foreign keys any more (V4.9), so the user's complaints
+        // are deleted one by one through the complaint service, which removes their evidence
+        // and duplicate links and updates the counters, the sync log and the outbox
+        for (Long complaintId : complaintRepository.findIdsByUserId(userId)) {
+            complaintService.deleteComplaint(complaintId);
+        }
+        userRepository.flush();
         userRepository.deleteById(userId);
         log.info("Deleted user with id: {}", userId);
     }
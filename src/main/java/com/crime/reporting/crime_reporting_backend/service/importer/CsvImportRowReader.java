@@ -0,0 +1,147 @@
+package com.crime.reporting.crime_reporting_backend.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader for complaint imports. The first record is a header naming the
+ * columns, in any order and case, with or without underscores: user_id and/or
+ * user_email, crime_type, description, and optionally location, status and date_filed.
+ * Quoted fields may contain commas, doubled quotes and line breaks.
+ */
+public class CsvImportRowReader implements ImportRowReader {
+
+    private static final int NO_PUSHBACK = Integer.MIN_VALUE;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line = 1;
+    private int pushback = NO_PUSHBACK;
+
+    public CsvImportRowReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV input is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(normalize(header.get(i)), i);
+        }
+        if (!columns.containsKey("crimetype") || !columns.containsKey("description")
+                || (!columns.containsKey("userid") && !columns.containsKey("useremail"))) {
+            throw new IllegalArgumentException(
+                    "CSV header must name crime_type, description and user_id or user_email columns");
+        }
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (true) {
+            long startLine = line;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            return new ImportRow(startLine,
+                    field(fields, "userid", true),
+                    field(fields, "useremail", true),
+                    field(fields, "crimetype", true),
+                    field(fields, "description", false),
+                    field(fields, "location", true),
+                    field(fields, "status", true),
+                    field(fields, "datefiled", true),
+                    null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String field(List<String> fields, String column, boolean trim) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = trim ? fields.get(index).trim() : fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean readAny = false;
+        int c;
+        while ((c = read()) != -1) {
+            readAny = true;
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(next);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (!readAny) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (pushback != NO_PUSHBACK) {
+            int c = pushback;
+            pushback = NO_PUSHBACK;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+
+    private static String normalize(String column) {
+        return column.replace("﻿", "").replace("_", "").replace("-", "").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,21 @@
+package com.crime.reporting.crime_reporting_backend.service.importer;
+
+/**
+ * One raw input row of a complaint import, as text. Values are validated and converted
+ * by the import service; a row that could not even be parsed carries a parseError.
+ */
+public record ImportRow(
+        long line,
+        String userId,
+        String userEmail,
+        String crimeType,
+        String description,
+        String location,
+        String status,
+        String dateFiled,
+        String parseError) {
+
+    static ImportRow malformed(long line, String parseError) {
+        return new ImportRow(line, null, null, null, null, null, null, null, parseError);
+    }
+}
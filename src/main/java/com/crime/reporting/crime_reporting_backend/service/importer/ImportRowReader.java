@@ -0,0 +1,16 @@
+package com.crime.reporting.crime_reporting_backend.service.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads import rows one at a time from a streamed request body, so the input is never
+ * held in memory as a whole
+ */
+public interface ImportRowReader extends Closeable {
+
+    /**
+     * Reads the next row, or returns null at the end of the input
+     */
+    ImportRow next() throws IOException;
+}
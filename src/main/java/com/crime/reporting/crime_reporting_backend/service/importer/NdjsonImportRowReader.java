@@ -0,0 +1,72 @@
+package com.crime.reporting.crime_reporting_backend.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Newline-delimited JSON reader for complaint imports: one object per line with the
+ * fields userId and/or userEmail, crimeType, description, and optionally location,
+ * status and dateFiled. A malformed line is reported as a row error rather than ending
+ * the import.
+ */
+public class NdjsonImportRowReader implements ImportRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    public NdjsonImportRowReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                if (!node.isObject()) {
+                    return ImportRow.malformed(line, "Expected a JSON object");
+                }
+                return new ImportRow(line,
+                        text(node, "userId"),
+                        text(node, "userEmail"),
+                        text(node, "crimeType"),
+                        text(node, "description"),
+                        text(node, "location"),
+                        text(node, "status"),
+                        text(node, "dateFiled"),
+                        null);
+            } catch (JsonProcessingException e) {
+                return ImportRow.malformed(line, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        String text = value.asText();
+        return text.isEmpty() ? null : text;
+    }
+}
@@ -0,0 +1,39 @@
+package com.crime.reporting.crime_reporting_backend.service.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the complaint listing order (date filed, then id, both descending): the
+ * last row of the previous page. Clients only see the encoded form, an opaque URL-safe
+ * token, so the key can change without breaking them beyond invalidating old cursors.
+ */
+public record ComplaintCursor(LocalDateTime dateFiled, long id) {
+
+    private static final String VERSION = "c1";
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + dateFiled + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor from a previous page
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static ComplaintCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ComplaintCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
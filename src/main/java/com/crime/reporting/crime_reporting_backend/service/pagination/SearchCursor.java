@@ -0,0 +1,37 @@
+package com.crime.reporting.crime_reporting_backend.service.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a ranked search result (rank, then id, both descending): the last hit of
+ * the previous page. The rank is kept at the database's float precision, so the same
+ * query yields the same value on the next page.
+ */
+public record SearchCursor(float rank, long id) {
+
+    private static final String VERSION = "s1";
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor from a previous page
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new SearchCursor(Float.parseFloat(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.crime.reporting.crime_reporting_backend.service.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in an officer's sync. While a full snapshot is paged, since is the watermark
+ * taken before its first page and afterId the last complaint id already returned. After
+ * that, a sync returns the changes of transactions in [since, until) of the change log;
+ * until is 0 when the window has not been fixed yet, and afterId is the last log row
+ * already returned when a window spans several pages. issuedAt is when since was taken,
+ * so tokens older than the log's retention can be refused.
+ */
+public record SyncToken(boolean snapshot, long since, long until, long afterId, LocalDateTime issuedAt) {
+
+    private static final String VERSION = "s1";
+    private static final String SNAPSHOT_VERSION = "r1";
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Token for a fresh window starting at the given watermark
+     */
+    public static SyncToken startingAt(long watermark, LocalDateTime issuedAt) {
+        return new SyncToken(false, watermark, 0, 0, issuedAt);
+    }
+
+    /**
+     * Token for the snapshot page after the given complaint, of a snapshot started at the
+     * given watermark
+     */
+    public static SyncToken snapshotAfter(long watermark, long afterId, LocalDateTime issuedAt) {
+        return new SyncToken(true, watermark, 0, afterId, issuedAt);
+    }
+
+    /**
+     * Token for the next page of this window, fixed at until, after the given log row
+     */
+    public SyncToken windowAfter(long until, long afterId) {
+        return new SyncToken(false, since, until, afterId, issuedAt);
+    }
+
+    public boolean isWindowOpen() {
+        return until == 0;
+    }
+
+    public String encode() {
+        String raw = snapshot
+                ? SNAPSHOT_VERSION + SEPARATOR + since + SEPARATOR + afterId + SEPARATOR + issuedAt
+                : VERSION + SEPARATOR + since + SEPARATOR + until + SEPARATOR + afterId + SEPARATOR + issuedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token from a previous sync
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length == 4 && SNAPSHOT_VERSION.equals(parts[0])) {
+                return snapshotAfter(Long.parseLong(parts[1]), Long.parseLong(parts[2]), LocalDateTime.parse(parts[3]));
+            }
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            return new SyncToken(false, Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]),
+                    LocalDateTime.parse(parts[4]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sync token", e);
+        }
+    }
+}
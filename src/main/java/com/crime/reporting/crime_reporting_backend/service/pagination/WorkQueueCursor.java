@@ -0,0 +1,40 @@
+package com.crime.reporting.crime_reporting_backend.service.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in an officer's work queue (priority descending, then date filed and id
+ * ascending): the last complaint of the previous page. Complaints without a score rank as
+ * priority 0, matching the ordering of the work queue index.
+ */
+public record WorkQueueCursor(int priorityScore, LocalDateTime dateFiled, long id) {
+
+    private static final String VERSION = "q1";
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + priorityScore + SEPARATOR + dateFiled + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor from a previous page
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static WorkQueueCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new WorkQueueCursor(Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Element;
+
+import java.util.function.Function;
+
+/**
+ * Declarative description of one report column: its header, relative width,
+ * horizontal alignment, whether it holds numbers, and the formatter that turns a
+ * row into cell text.
+ *
+ * @param <T> the row type rendered by the report
+ */
+public record ColumnSpec<T>(String header, float width, int alignment, boolean numeric,
+                            Function<? super T, String> formatter) {
+
+    public static <T> ColumnSpec<T> of(String header, float width, Function<? super T, String> formatter) {
+        return new ColumnSpec<>(header, width, Element.ALIGN_LEFT, false, formatter);
+    }
+
+    public static <T> ColumnSpec<T> centered(String header, float width, Function<? super T, String> formatter) {
+        return new ColumnSpec<>(header, width, Element.ALIGN_CENTER, false, formatter);
+    }
+
+    /**
+     * Left-aligned column of numbers, written as numeric cells in spreadsheets
+     */
+    public static <T> ColumnSpec<T> ofNumber(String header, float width, Function<? super T, String> formatter) {
+        return new ColumnSpec<>(header, width, Element.ALIGN_LEFT, true, formatter);
+    }
+
+    /**
+     * Centered column of numbers, written as numeric cells in spreadsheets
+     */
+    public static <T> ColumnSpec<T> centeredNumber(String header, float width, Function<? super T, String> formatter) {
+        return new ColumnSpec<>(header, width, Element.ALIGN_CENTER, true, formatter);
+    }
+
+    /**
+     * Formats the cell text for the given row, never returning null
+     */
+    public String format(T row) {
+        String value = formatter.apply(row);
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,15 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+
+/**
+ * Free-form content written before or after a report table
+ */
+@FunctionalInterface
+public interface DocumentSection {
+
+    DocumentSection EMPTY = document -> { };
+
+    void write(Document document) throws DocumentException;
+}
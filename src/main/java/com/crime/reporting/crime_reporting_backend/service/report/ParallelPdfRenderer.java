@@ -0,0 +1,187 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders tabular reports into one document, either in one pass or, for large row
+ * counts, with the rows formatted into table cells on a worker pool. Page layout stays
+ * on the calling thread: prepared chunks are added to the single table in order as they
+ * complete, so both modes produce the same pages, with no extra page breaks or repeated
+ * headers at chunk boundaries.
+ * <p>
+ * Rows are pulled from an iterator chunk by chunk. A chunk holds a permit from the time
+ * it is read until its cells have been added to the table, so only a few chunks of rows
+ * and cells are in memory at a time.
+ */
+@Component
+@Slf4j
+public class ParallelPdfRenderer {
+
+    private final ExecutorService executor;
+    private final int poolSize;
+    private final int chunkSize;
+    private final int parallelThreshold;
+
+    public ParallelPdfRenderer(
+            @Value("${report.parallel.threads:0}") int threads,
+            @Value("${report.parallel.chunk-size:20000}") int chunkSize,
+            @Value("${report.parallel.threshold:50000}") int parallelThreshold) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "report-render-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poolSize = poolSize;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelThreshold = parallelThreshold;
+        log.info("Report renderer initialised with {} threads, chunk size {}, parallel threshold {} rows",
+                poolSize, this.chunkSize, parallelThreshold);
+    }
+
+    /**
+     * Renders the report, switching to parallel cell formatting once the row count
+     * reaches the configured threshold. The trailer is written after the last row has
+     * been taken from the iterator, so it may use totals gathered while iterating.
+     */
+    public <T> byte[] render(ReportTemplate<T> template, Iterator<T> rows,
+                             DocumentSection preamble, DocumentSection trailer) throws DocumentException {
+        int singlePassLimit = Math.max(parallelThreshold, chunkSize + 1);
+        List<T> head = take(rows, singlePassLimit);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = template.newDocument();
+        PdfWriter.getInstance(document, out);
+        document.open();
+        preamble.write(document);
+        try (PdfTableSink<T> sink = template.openPdfTable(document)) {
+            if (!rows.hasNext()) {
+                head.forEach(sink::accept);
+            } else {
+                renderParallel(template, new ChainedIterator<>(head.iterator(), rows), sink);
+            }
+        }
+        trailer.write(document);
+        document.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * Formats the rows in chunks on the worker pool and adds each chunk to the table once
+     * it and every chunk before it are done. Reading waits, adding finished chunks, while
+     * twice the pool size of chunks are being formatted or waiting to be added.
+     */
+    private <T> void renderParallel(ReportTemplate<T> template, Iterator<T> rows, PdfTableSink<T> sink) {
+        Semaphore inFlight = new Semaphore(poolSize * 2);
+        Deque<Future<List<PdfPCell[]>>> pending = new ArrayDeque<>();
+        long rowCount = 0;
+        int chunks = 0;
+
+        try {
+            while (rows.hasNext()) {
+                List<T> chunk = take(rows, chunkSize);
+                rowCount += chunk.size();
+                chunks++;
+                while (!inFlight.tryAcquire()) {
+                    addNext(pending, sink, inFlight);
+                }
+                pending.add(executor.submit(() -> prepare(sink, chunk)));
+                while (!pending.isEmpty() && pending.peek().isDone()) {
+                    addNext(pending, sink, inFlight);
+                }
+            }
+            while (!pending.isEmpty()) {
+                addNext(pending, sink, inFlight);
+            }
+            log.info("Rendered '{}' with {} rows in {} parallel chunks", template.getTitle(), rowCount, chunks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Interrupted while rendering " + template.getTitle(), e);
+        } catch (ExecutionException e) {
+            pending.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Error rendering " + template.getTitle(), e.getCause());
+        }
+    }
+
+    private static <T> List<PdfPCell[]> prepare(PdfTableSink<T> sink, List<T> chunk) {
+        List<PdfPCell[]> cells = new ArrayList<>(chunk.size());
+        for (T row : chunk) {
+            cells.add(sink.prepare(row));
+        }
+        return cells;
+    }
+
+    /**
+     * Waits for the oldest chunk, adds its rows to the table and frees its permit
+     */
+    private static <T> void addNext(Deque<Future<List<PdfPCell[]>>> pending, PdfTableSink<T> sink, Semaphore inFlight)
+            throws InterruptedException, ExecutionException {
+        List<PdfPCell[]> cells = pending.peek().get();
+        pending.poll();
+        cells.forEach(sink::acceptPrepared);
+        inFlight.release();
+    }
+
+    private static <T> List<T> take(Iterator<T> rows, int limit) {
+        List<T> taken = new ArrayList<>(Math.min(limit, 1024));
+        while (taken.size() < limit && rows.hasNext()) {
+            taken.add(rows.next());
+        }
+        return taken;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The rows read ahead to pick the mode, followed by the rest of the source
+     */
+    private static final class ChainedIterator<T> implements Iterator<T> {
+
+        private Iterator<T> first;
+        private final Iterator<T> second;
+
+        ChainedIterator(Iterator<T> first, Iterator<T> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (first != null && !first.hasNext()) {
+                // Drop the read-ahead list so its rows can be collected once rendered
+                first = null;
+            }
+            return first != null || second.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return hasNext() && first != null ? first.next() : second.next();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.ExceptionConverter;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+
+import java.util.List;
+
+/**
+ * Row sink writing into a PdfPTable that is added to the document in chunks.
+ * The table is marked incomplete so iText lays out and releases the flushed rows,
+ * which keeps memory bounded by the flush size rather than the row count.
+ * <p>
+ * Turning a row into cells ({@link #prepare}) is separate from adding them
+ * ({@link #acceptPrepared}), so rows can be prepared on other threads while the
+ * table and the document are only touched by the writing thread.
+ */
+class PdfTableSink<T> implements RowSink<T> {
+
+    private final Document document;
+    private final PdfPTable table;
+    private final List<ColumnSpec<T>> columns;
+    private final int flushEvery;
+    private final PdfPCell bodyCell;
+    private long rowCount;
+    private int pendingRows;
+    private boolean closed;
+
+    PdfTableSink(Document document, List<ColumnSpec<T>> columns, float[] widths, int flushEvery) {
+        this.document = document;
+        this.columns = columns;
+        this.flushEvery = flushEvery;
+        this.table = new PdfPTable(columns.size());
+        try {
+            table.setWidthPercentage(100f);
+            table.setWidths(widths);
+        } catch (DocumentException e) {
+            throw new ExceptionConverter(e);
+        }
+        table.setComplete(false);
+        table.setHeaderRows(1);
+
+        PdfPCell headerCell = ReportStyles.headerCell();
+        for (ColumnSpec<T> column : columns) {
+            headerCell.setPhrase(new Phrase(column.header(), ReportStyles.HEADER_FONT));
+            table.addCell(headerCell);
+        }
+        ReportStyles.applyBodyCellStyle(table.getDefaultCell());
+        this.bodyCell = new PdfPCell(table.getDefaultCell());
+    }
+
+    @Override
+    public void accept(T row) {
+        acceptPrepared(prepare(row));
+    }
+
+    /**
+     * Formats the row into its cells without touching the table; safe to call from any
+     * thread while the sink is in use
+     */
+    PdfPCell[] prepare(T row) {
+        PdfPCell[] cells = new PdfPCell[columns.size()];
+        for (int i = 0; i < cells.length; i++) {
+            ColumnSpec<T> column = columns.get(i);
+            PdfPCell cell = new PdfPCell(bodyCell);
+            cell.setHorizontalAlignment(column.alignment());
+            cell.setPhrase(new Phrase(column.format(row), ReportStyles.CELL_FONT));
+            cells[i] = cell;
+        }
+        return cells;
+    }
+
+    /**
+     * Adds a row prepared by {@link #prepare}; rows are laid out in the order they are added
+     */
+    void acceptPrepared(PdfPCell[] cells) {
+        for (PdfPCell cell : cells) {
+            table.addCell(cell);
+        }
+        rowCount++;
+        if (++pendingRows >= flushEvery) {
+            flush();
+        }
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        table.setComplete(true);
+        flush();
+    }
+
+    private void flush() {
+        try {
+            document.add(table);
+        } catch (DocumentException e) {
+            throw new ExceptionConverter(e);
+        }
+        pendingRows = 0;
+    }
+}
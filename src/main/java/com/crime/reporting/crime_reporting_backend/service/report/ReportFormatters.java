@@ -0,0 +1,44 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Reusable cell formatters for report columns
+ */
+public final class ReportFormatters {
+
+    private ReportFormatters() {
+    }
+
+    public static String text(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    public static String dateTime(LocalDateTime value) {
+        return value != null ? value.format(ReportStyles.DATE_TIME) : "";
+    }
+
+    /**
+     * Formats JDBC date values (Timestamp or LocalDateTime) returned by stored procedures
+     */
+    public static String timestamp(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Timestamp ts) {
+            return ts.toLocalDateTime().format(ReportStyles.DATE_TIME_SECONDS);
+        }
+        if (value instanceof LocalDateTime ldt) {
+            return ldt.format(ReportStyles.DATE_TIME_SECONDS);
+        }
+        return value.toString();
+    }
+
+    public static String decimal(Object value) {
+        if (value instanceof Number number) {
+            return String.format("%.2f", number.doubleValue());
+        }
+        return text(value);
+    }
+}
@@ -0,0 +1,59 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfPCell;
+
+import java.awt.Color;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Fonts, colours and formatters shared by every PDF report.
+ * Everything here is built once at class load; the report code only ever reads these
+ * instances, so they are safe to share between concurrent report renders.
+ */
+public final class ReportStyles {
+
+    public static final Color HEADER_BACKGROUND = new Color(66, 139, 202);
+    public static final Color LABEL_BACKGROUND = new Color(240, 240, 240);
+
+    public static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
+    public static final Font SECTION_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
+    public static final Font SUBTITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14);
+    public static final Font INFO_FONT = FontFactory.getFont(FontFactory.HELVETICA, 12);
+    public static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, Color.WHITE);
+    public static final Font CELL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10);
+    public static final Font LABEL_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11);
+    public static final Font VALUE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 11);
+
+    public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    public static final DateTimeFormatter DATE_TIME_SECONDS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    public static final float CELL_PADDING = 5f;
+
+    private ReportStyles() {
+    }
+
+    /**
+     * Creates a header cell template; callers set the phrase per column
+     */
+    public static PdfPCell headerCell() {
+        PdfPCell cell = new PdfPCell();
+        cell.setBackgroundColor(HEADER_BACKGROUND);
+        cell.setPadding(CELL_PADDING);
+        cell.setHorizontalAlignment(Element.ALIGN_CENTER);
+        cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+        return cell;
+    }
+
+    /**
+     * Applies the body cell style to a table's default cell so rows can be added as plain phrases
+     */
+    public static void applyBodyCellStyle(PdfPCell defaultCell) {
+        defaultCell.setPadding(CELL_PADDING);
+        defaultCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+        defaultCell.setBorder(Rectangle.BOX);
+    }
+}
@@ -0,0 +1,150 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Rectangle;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precompiled layout for a tabular PDF or spreadsheet report. A template is built once (usually as a
+ * constant) and then reused for every render: the column specs, widths and styles are
+ * shared, and each render only allocates the phrases for its own rows.
+ *
+ * @param <T> the row type rendered by the report
+ */
+public final class ReportTemplate<T> {
+
+    /** Rows buffered in the table before they are laid out and released */
+    public static final int DEFAULT_FLUSH_EVERY = 200;
+
+    /** Rows kept in memory by a streaming spreadsheet before older rows are spilled to disk */
+    public static final int SPREADSHEET_ROW_WINDOW = 100;
+
+    private final String title;
+    private final Rectangle pageSize;
+    private final List<ColumnSpec<T>> columns;
+    private final float[] widths;
+    private final int flushEvery;
+
+    private ReportTemplate(Builder<T> builder) {
+        this.title = builder.title;
+        this.pageSize = builder.pageSize;
+        this.columns = List.copyOf(builder.columns);
+        this.flushEvery = builder.flushEvery;
+        this.widths = new float[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            widths[i] = columns.get(i).width();
+        }
+    }
+
+    public static <T> Builder<T> builder(String title) {
+        return new Builder<>(title);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<ColumnSpec<T>> getColumns() {
+        return columns;
+    }
+
+    public Document newDocument() {
+        return new Document(pageSize);
+    }
+
+    /**
+     * Writes the report title and the standard generated-on / date range block
+     */
+    public void writeHeader(Document document, LocalDateTime startDate, LocalDateTime endDate) throws DocumentException {
+        Paragraph titlePara = new Paragraph(title, ReportStyles.TITLE_FONT);
+        titlePara.setAlignment(Element.ALIGN_CENTER);
+        document.add(titlePara);
+        document.add(Chunk.NEWLINE);
+
+        StringBuilder info = new StringBuilder("Report generated on: ")
+                .append(LocalDateTime.now().format(ReportStyles.DATE_TIME))
+                .append("\n");
+        if (startDate != null) {
+            info.append("From: ").append(startDate.format(ReportStyles.DATE_TIME)).append("\n");
+        }
+        if (endDate != null) {
+            info.append("To: ").append(endDate.format(ReportStyles.DATE_TIME)).append("\n");
+        }
+        document.add(new Paragraph(info.toString(), ReportStyles.INFO_FONT));
+        document.add(Chunk.NEWLINE);
+    }
+
+    /**
+     * Opens a streaming table for this template on the given document.
+     * The returned sink must be closed to write the final rows.
+     */
+    public RowSink<T> openTable(Document document) {
+        return openPdfTable(document);
+    }
+
+    PdfTableSink<T> openPdfTable(Document document) {
+        return new PdfTableSink<>(document, columns, widths, flushEvery);
+    }
+
+    /**
+     * Creates a streaming workbook with a bounded row window for spreadsheet output
+     */
+    public static SXSSFWorkbook newWorkbook() {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(SPREADSHEET_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
+
+    /**
+     * Opens a sheet on the workbook laid out with this template's columns
+     */
+    public RowSink<T> openSheet(SXSSFWorkbook workbook) {
+        String sheetName = title.length() > 31 ? title.substring(0, 31) : title;
+        return new XlsxTableSink<>(workbook, sheetName, columns);
+    }
+
+    public static final class Builder<T> {
+        private final String title;
+        private final List<ColumnSpec<T>> columns = new ArrayList<>();
+        private Rectangle pageSize = PageSize.A4;
+        private int flushEvery = DEFAULT_FLUSH_EVERY;
+
+        private Builder(String title) {
+            this.title = title;
+        }
+
+        public Builder<T> landscape() {
+            this.pageSize = PageSize.A4.rotate();
+            return this;
+        }
+
+        public Builder<T> column(ColumnSpec<T> column) {
+            this.columns.add(column);
+            return this;
+        }
+
+        public Builder<T> flushEvery(int flushEvery) {
+            if (flushEvery < 1) {
+                throw new IllegalArgumentException("flushEvery must be positive");
+            }
+            this.flushEvery = flushEvery;
+            return this;
+        }
+
+        public ReportTemplate<T> build() {
+            if (columns.isEmpty()) {
+                throw new IllegalStateException("Report template '" + title + "' has no columns");
+            }
+            return new ReportTemplate<>(this);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+/**
+ * Streaming destination for report rows. Rows are written as they arrive and
+ * flushed in batches, so callers never need to hold the whole result in memory.
+ *
+ * @param <T> the row type
+ */
+public interface RowSink<T> extends AutoCloseable {
+
+    void accept(T row);
+
+    long getRowCount();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,89 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.util.List;
+
+/**
+ * Row sink writing into a streaming XLSX sheet. SXSSF keeps only the workbook's row
+ * window in memory and spills older rows to a temporary file, so sheet size does not
+ * depend on heap size. Cells of numeric columns are written as numbers so they can be
+ * summed; every other column stays text, so codes such as badge numbers keep their
+ * leading zeros.
+ */
+class XlsxTableSink<T> implements RowSink<T> {
+
+    private final SXSSFSheet sheet;
+    private final List<ColumnSpec<T>> columns;
+    private int nextRow;
+
+    XlsxTableSink(SXSSFWorkbook workbook, String sheetName, List<ColumnSpec<T>> columns) {
+        this.sheet = workbook.createSheet(sheetName);
+        this.columns = columns;
+
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerFont.setColor(IndexedColors.WHITE.getIndex());
+        CellStyle headerStyle = workbook.createCellStyle();
+        headerStyle.setFont(headerFont);
+        headerStyle.setFillForegroundColor(IndexedColors.ROYAL_BLUE.getIndex());
+        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+        Row header = sheet.createRow(nextRow++);
+        for (int i = 0; i < columns.size(); i++) {
+            Cell cell = header.createCell(i);
+            cell.setCellValue(columns.get(i).header());
+            cell.setCellStyle(headerStyle);
+            sheet.setColumnWidth(i, Math.min(255, Math.round(columns.get(i).width() * 1.5f) + 4) * 256);
+        }
+        sheet.createFreezePane(0, 1);
+    }
+
+    @Override
+    public void accept(T row) {
+        Row sheetRow = sheet.createRow(nextRow++);
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnSpec<T> column = columns.get(i);
+            String value = column.format(row);
+            Cell cell = sheetRow.createCell(i);
+            Double number = column.numeric() ? parseNumber(value) : null;
+            if (number != null) {
+                cell.setCellValue(number);
+            } else {
+                cell.setCellValue(value);
+            }
+        }
+    }
+
+    @Override
+    public long getRowCount() {
+        return nextRow - 1L;
+    }
+
+    @Override
+    public void close() {
+        // Rows are flushed by the workbook's row window; nothing to finish per sheet
+    }
+
+    /**
+     * Parses a numeric column's cell text, or returns null for blanks and placeholders
+     * such as "N/A", which are kept as text
+     */
+    private static Double parseNumber(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
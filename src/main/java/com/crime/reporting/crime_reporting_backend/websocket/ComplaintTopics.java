@@ -0,0 +1,84 @@
+package com.crime.reporting.crime_reporting_backend.websocket;
+
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintUpdateMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Names of the complaint update topics:
+ * <ul>
+ *   <li>{prefix}/admin/complaints - every change, for administrators</li>
+ *   <li>{prefix}/officers/{officerId}/complaints - complaints assigned to, or taken from, the officer</li>
+ *   <li>{prefix}/departments/{departmentId}/complaints - the same for all officers of a department</li>
+ * </ul>
+ */
+@Component
+public class ComplaintTopics {
+
+    private final String prefix;
+    private final Pattern officerTopic;
+    private final Pattern departmentTopic;
+
+    public ComplaintTopics(@Value("${websocket.topic-prefix:/topic}") String prefix) {
+        this.prefix = prefix;
+        this.officerTopic = Pattern.compile(Pattern.quote(prefix) + "/officers/(\\d+)/complaints");
+        this.departmentTopic = Pattern.compile(Pattern.quote(prefix) + "/departments/(\\d+)/complaints");
+    }
+
+    public String admin() {
+        return prefix + "/admin/complaints";
+    }
+
+    public String officer(long officerId) {
+        return prefix + "/officers/" + officerId + "/complaints";
+    }
+
+    public String department(long departmentId) {
+        return prefix + "/departments/" + departmentId + "/complaints";
+    }
+
+    /**
+     * Every topic an update should be sent to
+     */
+    public Set<String> topicsFor(ComplaintUpdateMessage update) {
+        Set<String> topics = new LinkedHashSet<>();
+        topics.add(admin());
+        if (update.getOfficerId() != null) {
+            topics.add(officer(update.getOfficerId()));
+        }
+        if (update.getPreviousOfficerId() != null) {
+            topics.add(officer(update.getPreviousOfficerId()));
+        }
+        if (update.getDepartmentId() != null) {
+            topics.add(department(update.getDepartmentId()));
+        }
+        if (update.getPreviousDepartmentId() != null) {
+            topics.add(department(update.getPreviousDepartmentId()));
+        }
+        return topics;
+    }
+
+    /**
+     * The officer id of an officer topic, or null if the destination is not one
+     */
+    Long officerIdOf(String destination) {
+        return idOf(officerTopic, destination);
+    }
+
+    /**
+     * The department id of a department topic, or null if the destination is not one
+     */
+    Long departmentIdOf(String destination) {
+        return idOf(departmentTopic, destination);
+    }
+
+    private static Long idOf(Pattern pattern, String destination) {
+        Matcher matcher = pattern.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
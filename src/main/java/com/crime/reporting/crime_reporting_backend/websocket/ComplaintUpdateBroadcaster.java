@@ -0,0 +1,77 @@
+package com.crime.reporting.crime_reporting_backend.websocket;
+
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintUpdateBatch;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintUpdateMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends complaint updates to this instance's WebSocket subscribers, coalesced: updates
+ * are collected per topic and flushed on a short interval, keeping only the latest update
+ * of each complaint. A topic that collects more updates than fit in one batch gets a
+ * resync marker instead, so a burst never floods clients.
+ */
+@Component
+@Slf4j
+public class ComplaintUpdateBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ComplaintTopics topics;
+    private final Object lock = new Object();
+
+    @Value("${websocket.coalesce.max-batch-size:200}")
+    private int maxBatchSize;
+
+    private Map<String, Map<Long, ComplaintUpdateMessage>> pending = new HashMap<>();
+
+    public ComplaintUpdateBroadcaster(SimpMessagingTemplate messagingTemplate, ComplaintTopics topics) {
+        this.messagingTemplate = messagingTemplate;
+        this.topics = topics;
+    }
+
+    public void enqueue(ComplaintUpdateMessage update) {
+        synchronized (lock) {
+            for (String topic : topics.topicsFor(update)) {
+                Map<Long, ComplaintUpdateMessage> updates = pending.computeIfAbsent(topic, t -> new LinkedHashMap<>());
+                // Re-inserted so the batch stays in order of each complaint's latest change
+                updates.remove(update.getComplaintId());
+                updates.put(update.getComplaintId(), update);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.coalesce.window-ms:250}")
+    public void flush() {
+        Map<String, Map<Long, ComplaintUpdateMessage>> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        batch.forEach((topic, updates) -> {
+            try {
+                messagingTemplate.convertAndSend(topic, toBatch(updates));
+            } catch (Exception e) {
+                log.warn("Could not send complaint updates to {}: {}", topic, e.getMessage());
+            }
+        });
+    }
+
+    private ComplaintUpdateBatch toBatch(Map<Long, ComplaintUpdateMessage> updates) {
+        if (updates.size() > maxBatchSize) {
+            return ComplaintUpdateBatch.builder().updates(List.of()).resync(true).build();
+        }
+        return ComplaintUpdateBatch.builder().updates(new ArrayList<>(updates.values())).resync(false).build();
+    }
+}
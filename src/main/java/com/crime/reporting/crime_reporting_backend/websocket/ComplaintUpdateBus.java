@@ -0,0 +1,126 @@
+package com.crime.reporting.crime_reporting_backend.websocket;
+
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintUpdateMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Carries complaint updates to every application instance through Postgres
+ * LISTEN/NOTIFY. Whichever instance delivers an outbox event publishes the update with
+ * NOTIFY; each instance, including that one, receives it on a dedicated LISTEN
+ * connection and hands it to its local broadcaster.
+ * <p>
+ * The LISTEN connection is opened outside the pools since it is held for the life of the
+ * application. Notifications sent while it is reconnecting are lost; clients recover by
+ * reloading when they reconnect, as they do after a resync marker.
+ */
+@Component
+@Slf4j
+public class ComplaintUpdateBus {
+
+    static final String CHANNEL = "complaint_updates";
+
+    private static final int POLL_TIMEOUT_MS = 5000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ComplaintUpdateBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public ComplaintUpdateBus(DataSource dataSource,
+                              DataSourceProperties dataSourceProperties,
+                              ComplaintUpdateBroadcaster broadcaster,
+                              ObjectMapper objectMapper) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.dataSourceProperties = dataSourceProperties;
+        this.broadcaster = broadcaster;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Sends the update to all instances; returns once Postgres has accepted it
+     */
+    public void publish(ComplaintUpdateMessage update) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(update);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise complaint update", e);
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform().daemon().name("complaint-updates-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for complaint updates on channel {}", CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Complaint update listener disconnected, reconnecting in {} ms: {}",
+                        RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            broadcaster.enqueue(objectMapper.readValue(payload, ComplaintUpdateMessage.class));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed complaint update notification: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.crime.reporting.crime_reporting_backend.websocket;
+
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintUpdateMessage;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintAssignmentChangedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintCreatedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintDeletedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintEventType;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintStatusChangedEvent;
+import com.crime.reporting.crime_reporting_backend.event.ComplaintUpdatedEvent;
+import com.crime.reporting.crime_reporting_backend.repository.PoliceOfficerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns delivered complaint events into dashboard updates and publishes them to all
+ * instances. Runs on the outbox dispatcher's threads, after the change has committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class ComplaintUpdateRelay {
+
+    private final ComplaintUpdateBus bus;
+    private final PoliceOfficerRepository policeOfficerRepository;
+
+    @EventListener
+    public void on(ComplaintEvent event) {
+        ComplaintUpdateMessage.ComplaintUpdateMessageBuilder update = ComplaintUpdateMessage.builder()
+                .type(ComplaintEventType.of(event))
+                .complaintId(event.complaintId())
+                .occurredAt(event.occurredAt());
+
+        switch (event) {
+            case ComplaintCreatedEvent created -> update
+                    .status(created.status())
+                    .crimeType(created.crimeType());
+            case ComplaintAssignmentChangedEvent assigned -> update
+                    .status(assigned.status())
+                    .previousStatus(assigned.previousStatus())
+                    .officerId(assigned.officerId())
+                    .departmentId(departmentOf(assigned.officerId()))
+                    .previousOfficerId(assigned.previousOfficerId())
+                    .previousDepartmentId(departmentOf(assigned.previousOfficerId()));
+            case ComplaintStatusChangedEvent changed -> update
+                    .status(changed.status())
+                    .previousStatus(changed.previousStatus())
+                    .officerId(changed.officerId())
+                    .departmentId(departmentOf(changed.officerId()));
+            case ComplaintUpdatedEvent updated -> update
+                    .crimeType(updated.crimeType())
+                    .officerId(updated.officerId())
+                    .departmentId(departmentOf(updated.officerId()));
+            case ComplaintDeletedEvent deleted -> update
+                    .status(deleted.status())
+                    .crimeType(deleted.crimeType())
+                    .officerId(deleted.officerId())
+                    .departmentId(departmentOf(deleted.officerId()));
+        }
+        bus.publish(update.build());
+    }
+
+    private Long departmentOf(Long officerId) {
+        return officerId != null ? policeOfficerRepository.findDepartmentIdById(officerId).orElse(null) : null;
+    }
+}
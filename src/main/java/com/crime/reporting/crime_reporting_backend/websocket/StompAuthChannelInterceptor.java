@@ -0,0 +1,116 @@
+package com.crime.reporting.crime_reporting_backend.websocket;
+
+import com.crime.reporting.crime_reporting_backend.entity.PoliceOfficer;
+import com.crime.reporting.crime_reporting_backend.entity.Role;
+import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.repository.PoliceOfficerRepository;
+import com.crime.reporting.crime_reporting_backend.security.JwtService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Authenticates STOMP sessions and authorises their subscriptions. The WebSocket
+ * handshake itself is open, since browsers cannot set headers on it; the JWT is sent as
+ * the Authorization header of the STOMP CONNECT frame instead and checked the same way
+ * as for HTTP requests.
+ * <p>
+ * Administrators may subscribe to any complaint topic, officers only to their own and
+ * their department's. Clients cannot send messages.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final PoliceOfficerRepository policeOfficerRepository;
+    private final ComplaintTopics topics;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(accessor.getUser(), accessor.getDestination());
+        } else if (command == StompCommand.SEND) {
+            throw new AccessDeniedException("Sending messages is not supported");
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BadCredentialsException("Missing bearer token");
+        }
+        String jwt = authorization.substring(BEARER_PREFIX.length());
+        try {
+            String username = jwtService.extractUsername(jwt);
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (!jwtService.isTokenValid(jwt, userDetails)) {
+                throw new BadCredentialsException("Invalid token");
+            }
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (BadCredentialsException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Rejected WebSocket connection: {}", e.getMessage());
+            throw new BadCredentialsException("Invalid token");
+        }
+    }
+
+    private void authorizeSubscription(Principal principal, String destination) {
+        if (!(principal instanceof UsernamePasswordAuthenticationToken authentication)
+                || !(authentication.getPrincipal() instanceof User user)) {
+            throw new AccessDeniedException("Not authenticated");
+        }
+        if (destination == null) {
+            throw new AccessDeniedException("Missing destination");
+        }
+        if (user.getRole() == Role.ADMIN && isComplaintTopic(destination)) {
+            return;
+        }
+
+        Long officerId = topics.officerIdOf(destination);
+        Long departmentId = topics.departmentIdOf(destination);
+        if (user.getRole() == Role.POLICE_OFFICER && (officerId != null || departmentId != null)) {
+            Optional<PoliceOfficer> officer = policeOfficerRepository.findByUser(user);
+            if (officer.isPresent()
+                    && (Objects.equals(officer.get().getId(), officerId)
+                        || Objects.equals(officer.get().getDepartmentId(), departmentId))) {
+                return;
+            }
+        }
+        log.warn("User {} denied subscription to {}", user.getUsername(), destination);
+        throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+    }
+
+    private boolean isComplaintTopic(String destination) {
+        return destination.equals(topics.admin())
+                || topics.officerIdOf(destination) != null
+                || topics.departmentIdOf(destination) != null;
+    }
+}
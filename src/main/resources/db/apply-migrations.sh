@@ -19,6 +19,17 @@ MIGRATION_FILES=(
     "V3.0__add_missing_procedures.sql"
     "V3.1__fix_officer_performance_report.sql"
     "V3.2__fix_all_stored_procedures.sql"
+    "V4.0__create_report_schedules.sql"
+    "V4.1__create_complaint_daily_counts.sql"
+    "V4.2__create_complaint_sketches.sql"
+    "V4.3__add_complaint_keyset_indexes.sql"
+    "V4.4__add_complaint_search_vector.sql"
+    "V4.5__pooled_id_sequences.sql"
+    "V4.6__create_complaint_outbox.sql"
+    "V4.7__add_officer_work_queue_index.sql"
+    "V4.8__add_complaint_duplicate_link.sql"
+    "V4.9__partition_complaints_by_month.sql"
+    "V5.0__create_complaint_sync_log.sql"
 )
 
 # Loop through and apply each migration file
@@ -0,0 +1,42 @@
+-- Scheduled pre-generation of standard reports
+
+CREATE TABLE IF NOT EXISTS report_schedules (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    report_type VARCHAR(50) NOT NULL,
+    period VARCHAR(50) NOT NULL,
+    cron_expression VARCHAR(100) NOT NULL,
+    department_id BIGINT,
+    status VARCHAR(50),
+    crime_type VARCHAR(50),
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    next_run_at TIMESTAMP,
+    last_run_at TIMESTAMP,
+    locked_by VARCHAR(255),
+    locked_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_schedules_due
+    ON report_schedules (next_run_at)
+    WHERE enabled;
+
+CREATE TABLE IF NOT EXISTS report_artifacts (
+    id BIGSERIAL PRIMARY KEY,
+    report_type VARCHAR(50) NOT NULL,
+    parameter_key VARCHAR(255) NOT NULL,
+    period_start TIMESTAMP NOT NULL,
+    period_end TIMESTAMP NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    schedule_id BIGINT,
+    generated_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_report_artifacts_key UNIQUE (report_type, parameter_key, period_start, period_end)
+);
+
+-- Monday 02:00: last week's officer performance report for all departments
+INSERT INTO report_schedules (name, report_type, period, cron_expression, next_run_at)
+SELECT 'Weekly officer performance', 'OFFICER_PERFORMANCE', 'PREVIOUS_WEEK', '0 0 2 * * MON',
+       date_trunc('week', NOW()) + INTERVAL '7 days 2 hours'
+WHERE NOT EXISTS (SELECT 1 FROM report_schedules WHERE name = 'Weekly officer performance');
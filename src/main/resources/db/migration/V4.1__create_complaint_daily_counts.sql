@@ -0,0 +1,18 @@
+-- Per-day complaint counters maintained by the application alongside complaint writes.
+-- Each key is striped over several slots so concurrent writers rarely touch the same row.
+
+CREATE TABLE IF NOT EXISTS complaint_daily_counts (
+    count_date DATE NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    crime_type VARCHAR(50) NOT NULL,
+    slot INTEGER NOT NULL,
+    complaint_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (count_date, status, crime_type, slot)
+);
+
+-- Initial fill from existing complaints; the nightly reconciliation job rebuilds it the same way
+INSERT INTO complaint_daily_counts (count_date, status, crime_type, slot, complaint_count)
+SELECT CAST(date_filed AS DATE), status, crime_type, 0, COUNT(*)
+FROM complaints
+GROUP BY CAST(date_filed AS DATE), status, crime_type
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,21 @@
+-- Mergeable per-day, per-officer analytics sketches. department_id / officer_id are 0 for
+-- unassigned complaints. The application fills the table on startup when it is empty.
+
+CREATE TABLE IF NOT EXISTS complaint_sketches (
+    sketch_date DATE NOT NULL,
+    department_id BIGINT NOT NULL,
+    officer_id BIGINT NOT NULL,
+    complaint_count BIGINT NOT NULL,
+    resolved_count BIGINT NOT NULL,
+    resolution_digest BYTEA,
+    complainant_hll BYTEA NOT NULL,
+    refreshed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (sketch_date, department_id, officer_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_complaint_sketches_department
+    ON complaint_sketches (department_id, sketch_date);
+
+-- Lets the sketch refresh find recently changed filing days without a full scan
+CREATE INDEX IF NOT EXISTS idx_complaints_date_last_updated
+    ON complaints (date_last_updated);
@@ -0,0 +1,14 @@
+-- Keyset pagination of complaint listings orders by (date_filed, id) descending.
+-- These indexes serve the unfiltered listing and the most common filters in that order.
+
+CREATE INDEX IF NOT EXISTS idx_complaints_date_filed_id
+    ON complaints (date_filed DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_status_date_filed_id
+    ON complaints (status, date_filed DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_officer_date_filed_id
+    ON complaints (assigned_officer_id, date_filed DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_user_date_filed_id
+    ON complaints (user_id, date_filed DESC, id DESC);
@@ -0,0 +1,16 @@
+-- Full-text search over complaint descriptions and locations.
+-- Descriptions are indexed with the English and French stemmers plus unstemmed ('simple')
+-- words, which is what matches Kinyarwanda text since Postgres has no Kinyarwanda
+-- configuration. Weights rank description matches above location matches.
+-- The column is generated by Postgres and not mapped by the Complaint entity.
+
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(description, '')), 'A') ||
+        setweight(to_tsvector('french', coalesce(description, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(location, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_complaints_search_vector
+    ON complaints USING GIN (search_vector);
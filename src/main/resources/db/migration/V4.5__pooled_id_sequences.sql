@@ -0,0 +1,43 @@
+-- Entity ids move from IDENTITY to pooled sequences (allocation size 50) so Hibernate
+-- can batch inserts. Each table's id sequence is named <table>_id_seq, the name
+-- Postgres already gives identity and serial sequences. The sequence is set to
+-- increment by 50 and restarted past the current maximum id; Hibernate hands out the 50
+-- ids below each value it draws.
+--
+-- The column default stays (or is added for tables Hibernate created without one), so
+-- plain SQL inserts that omit the id still work; each of them uses up one 50-id block.
+
+DO $$
+DECLARE
+    tbl TEXT;
+    seq TEXT;
+    identity_kind CHAR;
+    next_id BIGINT;
+BEGIN
+    FOREACH tbl IN ARRAY ARRAY[
+            'users', 'departments', 'police_officers', 'complaints', 'evidences', 'case_files',
+            'case_notes', 'witness_statements', 'report_schedules', 'report_artifacts'] LOOP
+        IF to_regclass(tbl) IS NULL THEN
+            CONTINUE;
+        END IF;
+
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) + 50 FROM %I', tbl) INTO next_id;
+
+        SELECT a.attidentity INTO identity_kind
+        FROM pg_attribute a
+        WHERE a.attrelid = to_regclass(tbl) AND a.attname = 'id';
+
+        seq := pg_get_serial_sequence(tbl, 'id');
+
+        IF identity_kind IN ('a', 'd') THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET INCREMENT BY 50 RESTART WITH %s', tbl, next_id);
+        ELSIF seq IS NOT NULL THEN
+            EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50 RESTART WITH %s', seq, next_id);
+        ELSE
+            seq := tbl || '_id_seq';
+            EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I', seq);
+            EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50 RESTART WITH %s OWNED BY %I.id', seq, next_id, tbl);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', tbl, seq);
+        END IF;
+    END LOOP;
+END $$;
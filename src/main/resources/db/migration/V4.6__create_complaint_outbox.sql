@@ -0,0 +1,30 @@
+-- Transactional outbox for complaint lifecycle events. Rows are written in the
+-- transaction that changes the complaint and delivered to listeners afterwards, in id
+-- order per complaint, with retries.
+
+CREATE TABLE IF NOT EXISTS complaint_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    complaint_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP,
+    published_at TIMESTAMP,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP,
+    claimed_until TIMESTAMP,
+    dead_at TIMESTAMP,
+    last_error TEXT
+);
+
+-- Pending events in delivery order, and per complaint for the ordering check
+CREATE INDEX IF NOT EXISTS idx_complaint_outbox_pending
+    ON complaint_outbox (id)
+    WHERE published_at IS NULL AND dead_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_complaint_outbox_pending_complaint
+    ON complaint_outbox (complaint_id, id)
+    WHERE published_at IS NULL AND dead_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_complaint_outbox_published_at
+    ON complaint_outbox (published_at)
+    WHERE published_at IS NOT NULL;
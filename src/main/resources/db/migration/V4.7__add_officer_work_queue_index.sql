@@ -0,0 +1,9 @@
+-- An officer's work queue lists their open complaints by priority (unscored as 0), then
+-- oldest first, with keyset continuation on (priority, date_filed, id). Restricting the
+-- index to open statuses keeps resolved and closed history out of it, so the top of the
+-- queue is a short range scan for any officer. The status list must match
+-- ComplaintRepository.findWorkQueuePage.
+
+CREATE INDEX IF NOT EXISTS idx_complaints_officer_work_queue
+    ON complaints (assigned_officer_id, (COALESCE(priority_score, 0)) DESC, date_filed, id)
+    WHERE status IN ('SUBMITTED', 'UNDER_REVIEW', 'ASSIGNED', 'INVESTIGATING', 'PENDING_EVIDENCE');
@@ -0,0 +1,19 @@
+-- Probable duplicates found at submission point at the earliest complaint of their group.
+-- Deleting that complaint clears the link rather than blocking the delete. Once complaints
+-- is partitioned (V4.9) id alone is no longer unique and the link is not enforced.
+
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS duplicate_of_id BIGINT;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_complaints_duplicate_of')
+            AND (SELECT relkind FROM pg_class WHERE oid = to_regclass('complaints')) <> 'p' THEN
+        ALTER TABLE complaints
+            ADD CONSTRAINT fk_complaints_duplicate_of
+            FOREIGN KEY (duplicate_of_id) REFERENCES complaints (id) ON DELETE SET NULL;
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_complaints_duplicate_of
+    ON complaints (duplicate_of_id)
+    WHERE duplicate_of_id IS NOT NULL;
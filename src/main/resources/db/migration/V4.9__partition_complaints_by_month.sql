@@ -0,0 +1,164 @@
+-- Complaints are range partitioned by month of date_filed, so queries bounded by filing
+-- date only read the months they cover. Each month is split again on the archived flag:
+-- open and recently closed complaints live in the month's _hot partition, and
+-- ComplaintArchiveService moves old resolved, closed and rejected complaints into its
+-- _cold partition, which is packed full and compresses large values early. Rows outside
+-- every month partition land in complaints_default; the importer creates the months it
+-- writes to beforehand, and the archive job moves any stray rows into their month.
+--
+-- A unique constraint on a partitioned table has to include the partition keys, so the
+-- primary key becomes (id, date_filed, archived). Lookups by id probe each partition's
+-- primary key index. Nothing can reference complaints (id) any more: the foreign keys from
+-- evidences, case_files and the duplicate link are dropped, and deletes go through
+-- ComplaintServiceImpl, which removes the dependent rows.
+--
+-- Archiving a complaint moves its row to another partition. A transaction that was
+-- waiting to update or lock that row fails with a serialization error ("tuple to be
+-- locked was already moved to another partition") instead of following it. The archive
+-- job skips locked rows and rows updated within complaints.archive.quiet-hours, and the
+-- API answers the remaining races with 409 so the client can retry.
+
+-- Creates a month's partitions. Rows of that month already in complaints_default (e.g.
+-- imported before the month existed) are moved into the new partitions, since Postgres
+-- refuses to create a partition whose range the default partition holds rows for.
+CREATE OR REPLACE FUNCTION ensure_complaint_partition(p_month DATE)
+RETURNS VOID AS $$
+DECLARE
+    month_start DATE := CAST(date_trunc('month', p_month) AS DATE);
+    month_end DATE := CAST(month_start + INTERVAL '1 month' AS DATE);
+    partition_name TEXT := 'complaints_p' || to_char(month_start, 'YYYYMM');
+    copied_columns TEXT;
+    stray_rows BIGINT := 0;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    -- Concurrent callers for the same month wait here, then find it created
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_complaint_partition'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    IF to_regclass('complaints_default') IS NOT NULL THEN
+        SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum)
+        INTO copied_columns
+        FROM pg_attribute
+        WHERE attrelid = to_regclass('complaints') AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+
+        DROP TABLE IF EXISTS complaint_partition_strays;
+        EXECUTE format('CREATE TEMP TABLE complaint_partition_strays ON COMMIT DROP AS '
+                       || 'SELECT %s FROM complaints_default WHERE date_filed >= %L AND date_filed < %L',
+                       copied_columns, month_start, month_end);
+        EXECUTE 'SELECT COUNT(*) FROM complaint_partition_strays' INTO stray_rows;
+        IF stray_rows > 0 THEN
+            DELETE FROM complaints_default WHERE date_filed >= month_start AND date_filed < month_end;
+        END IF;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF complaints FOR VALUES FROM (%L) TO (%L) PARTITION BY LIST (archived)',
+                   partition_name, month_start, month_end);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES IN (false)',
+                   partition_name || '_hot', partition_name);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES IN (true) WITH (fillfactor = 100, toast_tuple_target = 128)',
+                   partition_name || '_cold', partition_name);
+
+    -- lz4 needs a server built with it; pglz (the default) still applies otherwise
+    BEGIN
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN description SET COMPRESSION lz4, ALTER COLUMN location SET COMPRESSION lz4',
+                       partition_name || '_cold');
+    EXCEPTION WHEN feature_not_supported OR invalid_parameter_value THEN
+        RAISE NOTICE 'lz4 compression unavailable, % keeps the default', partition_name || '_cold';
+    END;
+
+    IF stray_rows > 0 THEN
+        EXECUTE format('INSERT INTO complaints (%s) SELECT %s FROM complaint_partition_strays',
+                       copied_columns, copied_columns);
+        RAISE NOTICE 'Moved % complaints from complaints_default into %', stray_rows, partition_name;
+    END IF;
+    DROP TABLE IF EXISTS complaint_partition_strays;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    first_month DATE;
+    last_month DATE := CAST(date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months' AS DATE);
+    m DATE;
+    copied_columns TEXT;
+    next_id BIGINT;
+BEGIN
+    IF to_regclass('complaints') IS NULL
+            OR (SELECT relkind FROM pg_class WHERE oid = to_regclass('complaints')) = 'p' THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE complaints RENAME TO complaints_legacy;
+
+    CREATE TABLE complaints (LIKE complaints_legacy INCLUDING CONSTRAINTS INCLUDING GENERATED INCLUDING STORAGE)
+        PARTITION BY RANGE (date_filed);
+    ALTER TABLE complaints ADD COLUMN IF NOT EXISTS archived BOOLEAN NOT NULL DEFAULT false;
+    ALTER TABLE complaints ALTER COLUMN archived SET DEFAULT false;
+
+    SELECT CAST(date_trunc('month', COALESCE(MIN(date_filed), LOCALTIMESTAMP)) AS DATE)
+    INTO first_month
+    FROM complaints_legacy;
+
+    m := first_month;
+    WHILE m <= last_month LOOP
+        PERFORM ensure_complaint_partition(m);
+        m := CAST(m + INTERVAL '1 month' AS DATE);
+    END LOOP;
+    CREATE TABLE complaints_default PARTITION OF complaints DEFAULT;
+
+    -- Generated columns are recomputed; archived starts false and the archive job moves rows
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum)
+    INTO copied_columns
+    FROM pg_attribute
+    WHERE attrelid = to_regclass('complaints_legacy') AND attnum > 0 AND NOT attisdropped
+      AND attgenerated = '' AND attname <> 'archived';
+    EXECUTE format('INSERT INTO complaints (%s) SELECT %s FROM complaints_legacy', copied_columns, copied_columns);
+
+    -- Takes the old indexes, the foreign keys into the old table and its id sequence with it
+    DROP TABLE complaints_legacy CASCADE;
+
+    ALTER TABLE complaints ADD PRIMARY KEY (id, date_filed, archived);
+    ALTER TABLE complaints
+        ADD CONSTRAINT fk_complaints_user FOREIGN KEY (user_id) REFERENCES users (id);
+    ALTER TABLE complaints
+        ADD CONSTRAINT fk_complaints_assigned_officer FOREIGN KEY (assigned_officer_id) REFERENCES police_officers (id);
+
+    -- Same pooled sequence as V4.5
+    SELECT COALESCE(MAX(id), 0) + 50 INTO next_id FROM complaints;
+    CREATE SEQUENCE IF NOT EXISTS complaints_id_seq;
+    EXECUTE format('ALTER SEQUENCE complaints_id_seq INCREMENT BY 50 RESTART WITH %s OWNED BY complaints.id', next_id);
+    ALTER TABLE complaints ALTER COLUMN id SET DEFAULT nextval('complaints_id_seq');
+END $$;
+
+-- Indexes from V4.2 to V4.8, created on every partition through the parent
+
+CREATE INDEX IF NOT EXISTS idx_complaints_date_last_updated
+    ON complaints (date_last_updated);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_date_filed_id
+    ON complaints (date_filed DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_status_date_filed_id
+    ON complaints (status, date_filed DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_officer_date_filed_id
+    ON complaints (assigned_officer_id, date_filed DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_user_date_filed_id
+    ON complaints (user_id, date_filed DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_search_vector
+    ON complaints USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_complaints_officer_work_queue
+    ON complaints (assigned_officer_id, (COALESCE(priority_score, 0)) DESC, date_filed, id)
+    WHERE status IN ('SUBMITTED', 'UNDER_REVIEW', 'ASSIGNED', 'INVESTIGATING', 'PENDING_EVIDENCE');
+
+CREATE INDEX IF NOT EXISTS idx_complaints_duplicate_of
+    ON complaints (duplicate_of_id)
+    WHERE duplicate_of_id IS NOT NULL;
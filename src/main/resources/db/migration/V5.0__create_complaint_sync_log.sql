@@ -0,0 +1,22 @@
+-- Change log behind the officer delta sync. Each row says that a complaint, or one of
+-- its evidence items, changed for one officer; the current state is read at sync time.
+-- Rows carry the id of the transaction that wrote them, and a sync token is the oldest
+-- transaction still running when the previous sync ran: every change from transactions
+-- below it has committed, so reading from there never skips a late commit.
+
+CREATE TABLE IF NOT EXISTS complaint_sync_log (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    officer_id BIGINT NOT NULL,
+    complaint_id BIGINT NOT NULL,
+    evidence_id BIGINT,
+    change_type VARCHAR(30) NOT NULL,
+    xact_id BIGINT NOT NULL DEFAULT CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT),
+    changed_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP
+);
+
+-- An officer's changes between two tokens, in log order
+CREATE INDEX IF NOT EXISTS idx_complaint_sync_log_officer_xact
+    ON complaint_sync_log (officer_id, xact_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_complaint_sync_log_changed_at
+    ON complaint_sync_log (changed_at);
@@ -0,0 +1,178 @@
+package com.crime.reporting.crime_reporting_backend.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs the replica routing against a primary and a streaming replica: read-only
+ * transactions go to the replica, reads fall back to the primary while the replica's
+ * replay is paused past the lag budget, and a caller who just committed reads from the
+ * primary until the pin expires. Which server answered is told by pg_is_in_recovery().
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingTest {
+
+    private static final DockerImageName POSTGRES = DockerImageName.parse("postgres:16");
+    private static final long MAX_LAG_MS = 200;
+    private static final long PIN_MILLIS = 1000;
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>(POSTGRES)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCopyToContainer(Transferable.of(
+                    "echo 'host replication all all trust' >> \"$PGDATA/pg_hba.conf\"\n", 0755),
+                    "/docker-entrypoint-initdb.d/allow-replication.sh");
+
+    /** Cloned from the primary with pg_basebackup and kept in sync by streaming replication */
+    @Container
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>(POSTGRES)
+            .dependsOn(PRIMARY)
+            .withNetwork(NETWORK)
+            .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres").withEntrypoint("bash"))
+            .withCommand("-c", """
+                    until pg_basebackup -h primary -U test -D /tmp/replica -R -X stream; do
+                      rm -rf /tmp/replica; sleep 1
+                    done
+                    chmod 700 /tmp/replica
+                    exec postgres -D /tmp/replica""")
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor lagMonitor;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private JdbcTemplate routed;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = new DriverManagerDataSource(
+                PRIMARY.getJdbcUrl(), PRIMARY.getUsername(), PRIMARY.getPassword());
+        DataSource replicaDataSource = new DriverManagerDataSource(
+                "jdbc:postgresql://" + REPLICA.getHost() + ":" + REPLICA.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+                        + "/" + PRIMARY.getDatabaseName(),
+                PRIMARY.getUsername(), PRIMARY.getPassword());
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.execute("CREATE TABLE IF NOT EXISTS routing_probe (id SERIAL PRIMARY KEY, note TEXT)");
+
+        // Wired like ReadReplicaDataSourceConfig, with the tracker registered as Spring Boot does
+        lagMonitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, MAX_LAG_MS);
+        ReadYourWritesTracker readYourWrites = new ReadYourWritesTracker(PIN_MILLIS);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, lagMonitor, readYourWrites));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(readYourWrites);
+
+        routed = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        awaitUsableReplica();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        replica.execute("SELECT pg_wal_replay_resume()");
+        // Any read-write commit pins this thread, and thread pins outlive the tracker;
+        // let the pin expire before the next test
+        Thread.sleep(PIN_MILLIS);
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertTrue(readOnlyIsServedByReplica());
+        assertFalse(readWriteIsServedByReplica());
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaLags() throws InterruptedException {
+        replica.execute("SELECT pg_wal_replay_pause()");
+        awaitCondition(() -> "paused".equals(
+                replica.queryForObject("SELECT CAST(pg_get_wal_replay_pause_state() AS VARCHAR)", String.class)), 10_000);
+        primary.update("INSERT INTO routing_probe (note) VALUES ('while paused')");
+        Thread.sleep(MAX_LAG_MS * 3);
+
+        lagMonitor.check();
+        assertFalse(lagMonitor.isReplicaUsable(), "lag " + lagMonitor.getLastLagMs() + " ms");
+        assertFalse(readOnlyIsServedByReplica());
+
+        replica.execute("SELECT pg_wal_replay_resume()");
+        awaitUsableReplica();
+        assertTrue(readOnlyIsServedByReplica());
+    }
+
+    @Test
+    void readsStayOnThePrimaryRightAfterAWrite() throws InterruptedException {
+        readWrite.executeWithoutResult(status -> routed.update("INSERT INTO routing_probe (note) VALUES ('write')"));
+
+        assertTrue(lagMonitor.isReplicaUsable());
+        assertFalse(readOnlyIsServedByReplica());
+
+        Thread.sleep(PIN_MILLIS + 200);
+        assertTrue(readOnlyIsServedByReplica());
+    }
+
+    private boolean readOnlyIsServedByReplica() {
+        return Boolean.TRUE.equals(readOnly.execute(status -> isInRecovery()));
+    }
+
+    private boolean readWriteIsServedByReplica() {
+        return Boolean.TRUE.equals(readWrite.execute(status -> isInRecovery()));
+    }
+
+    private Boolean isInRecovery() {
+        return routed.queryForObject("SELECT pg_is_in_recovery()", Boolean.class);
+    }
+
+    private void awaitUsableReplica() {
+        awaitCondition(() -> {
+            lagMonitor.check();
+            return lagMonitor.isReplicaUsable();
+        }, 30_000);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition, long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("condition not met within " + timeoutMs + " ms");
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+}
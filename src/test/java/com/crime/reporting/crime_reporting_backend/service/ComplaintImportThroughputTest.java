@@ -0,0 +1,112 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.dto.BulkImportResult;
+import com.crime.reporting.crime_reporting_backend.entity.Role;
+import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Imports a large NDJSON body into the configured Postgres and checks the rate against
+ * the bulk import target. Tagged perf, so it only runs with {@code mvn test -Pperf}; the
+ * floor can be lowered for slow machines with
+ * {@code -Dimport.throughput.min-rows-per-second=...}.
+ * <p>
+ * The outbox poller is held off so the imported rows' created events are not delivered
+ * while the test runs; they are deleted with the complaints afterwards.
+ */
+@SpringBootTest(properties = "complaints.outbox.poll-interval-ms=3600000")
+@Tag("perf")
+@Slf4j
+class ComplaintImportThroughputTest {
+
+    private static final int ROWS = 100_000;
+    private static final int WARM_UP_ROWS = 5_000;
+    /** Every this many rows has an unknown crime type, so the per-row error path is timed too */
+    private static final int INVALID_EVERY = 10_000;
+    private static final long MIN_ROWS_PER_SECOND = Long.getLong("import.throughput.min-rows-per-second", 20_000);
+
+    @Autowired
+    private ComplaintImportService complaintImportService;
+
+    @Autowired
+    private ComplaintCounterService complaintCounterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private User citizen;
+
+    @BeforeEach
+    void setUp() {
+        citizen = userRepository.save(User.builder()
+                .firstName("Import").lastName("Citizen").email("import-" + UUID.randomUUID() + "@example.com")
+                .password("x").role(Role.CITIZEN).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Row-by-row deletion through the service would take longer than the import
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String imported = "SELECT id FROM complaints WHERE user_id = ?";
+        jdbcTemplate.update("DELETE FROM complaint_outbox WHERE complaint_id IN (" + imported + ")", citizen.getId());
+        jdbcTemplate.update("DELETE FROM complaint_sync_log WHERE complaint_id IN (" + imported + ")", citizen.getId());
+        jdbcTemplate.update("DELETE FROM complaints WHERE user_id = ?", citizen.getId());
+        complaintCounterService.reconcile();
+        userRepository.delete(citizen);
+    }
+
+    @Test
+    void importsOverTargetRowsPerSecond() throws Exception {
+        complaintImportService.importNdjson(ndjson(WARM_UP_ROWS));
+        byte[] body = ndjson(ROWS).readAllBytes();
+
+        long start = System.nanoTime();
+        BulkImportResult result = complaintImportService.importNdjson(new ByteArrayInputStream(body));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        long invalid = ROWS / INVALID_EVERY;
+        assertEquals(ROWS, result.getTotalRows());
+        assertEquals(ROWS - invalid, result.getImportedRows());
+        assertEquals(invalid, result.getFailedRows());
+
+        long rowsPerSecond = result.getImportedRows() * 1000 / Math.max(1, elapsedMs);
+        log.info("Imported {} complaints in {} ms: {} rows/s", result.getImportedRows(), elapsedMs, rowsPerSecond);
+        assertTrue(rowsPerSecond >= MIN_ROWS_PER_SECOND,
+                "imported " + rowsPerSecond + " rows/s, target is " + MIN_ROWS_PER_SECOND);
+    }
+
+    private ByteArrayInputStream ndjson(int rows) {
+        String dateFiled = LocalDateTime.now().minusDays(1).withNano(0).toString();
+        StringBuilder body = new StringBuilder(rows * 200);
+        for (int i = 1; i <= rows; i++) {
+            body.append("{\"userId\":\"").append(citizen.getId())
+                    .append("\",\"crimeType\":\"").append(i % INVALID_EVERY == 0 ? "NOT_A_CRIME" : "THEFT")
+                    .append("\",\"description\":\"Bicycle taken from the rack outside building ").append(i)
+                    .append("\",\"location\":\"Main Street ").append(i % 500)
+                    .append("\",\"status\":\"SUBMITTED\",\"dateFiled\":\"").append(dateFiled)
+                    .append("\"}\n");
+        }
+        return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
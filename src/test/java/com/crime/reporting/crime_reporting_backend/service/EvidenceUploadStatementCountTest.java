@@ -0,0 +1,110 @@
+package com.crime.reporting.crime_reporting_backend.service;
+
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintRequest;
+import com.crime.reporting.crime_reporting_backend.dto.EvidenceResponse;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import com.crime.reporting.crime_reporting_backend.entity.Role;
+import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the batched evidence insert: uploading more files must not prepare more
+ * statements, since the evidence rows go out as one JDBC batch and their ids come from a
+ * pooled sequence. The sync log is written through JdbcTemplate and is not counted.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EvidenceUploadStatementCountTest {
+
+    private static final int FEW_FILES = 2;
+    /** Under hibernate.jdbc.batch_size, so one batch */
+    private static final int MANY_FILES = 40;
+    /** Complaint and user lookups, a sequence fetch and the insert batch */
+    private static final long MAX_STATEMENTS_PER_UPLOAD = 4;
+
+    @Autowired
+    private EvidenceService evidenceService;
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User citizen;
+    private ComplaintDTO complaint;
+    private final List<EvidenceResponse> uploaded = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        citizen = userRepository.save(User.builder()
+                .firstName("Evidence").lastName("Citizen").email("evidence-" + UUID.randomUUID() + "@example.com")
+                .password("x").role(Role.CITIZEN).build());
+        complaint = complaintService.createComplaint(ComplaintRequest.builder()
+                .userId(citizen.getId())
+                .crimeType(CrimeType.VANDALISM)
+                .description("Statement count complaint")
+                .location("Station 1")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (EvidenceResponse evidence : uploaded) {
+            evidenceService.deleteEvidence(evidence.getId());
+        }
+        userService.deleteUser(citizen.getId());
+    }
+
+    @Test
+    void uploadStatementsDoNotGrowWithFileCount() throws Exception {
+        long few = statementsForUpload(FEW_FILES);
+        long many = statementsForUpload(MANY_FILES);
+
+        assertEquals(MANY_FILES, statistics.getEntityInsertCount());
+        // A sequence block may run out in one upload and not the other
+        assertTrue(many <= few + 1, "uploading " + MANY_FILES + " files prepared " + many
+                + " statements, " + FEW_FILES + " files prepared " + few);
+        assertTrue(many <= MAX_STATEMENTS_PER_UPLOAD, "evidence upload prepared " + many + " statements");
+    }
+
+    private long statementsForUpload(int fileCount) throws Exception {
+        List<MultipartFile> files = new ArrayList<>(fileCount);
+        for (int i = 0; i < fileCount; i++) {
+            files.add(new MockMultipartFile("files", "note-" + i + ".txt", "text/plain",
+                    ("Evidence note " + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        statistics.clear();
+        List<EvidenceResponse> responses = evidenceService.uploadEvidenceFiles(files, complaint.getId(), citizen.getId());
+        long statements = statistics.getPrepareStatementCount();
+        uploaded.addAll(responses);
+        assertEquals(fileCount, responses.size());
+        return statements;
+    }
+}
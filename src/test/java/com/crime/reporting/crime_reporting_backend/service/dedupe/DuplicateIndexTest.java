@@ -0,0 +1,126 @@
+package com.crime.reporting.crime_reporting_backend.service.dedupe;
+
+import com.crime.reporting.crime_reporting_backend.service.dedupe.DuplicateIndex.Fingerprint;
+import com.crime.reporting.crime_reporting_backend.service.dedupe.DuplicateIndex.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateIndexTest {
+
+    private static final String STOLEN_BIKE =
+            "Black bicycle stolen from the rack outside the central library this morning";
+    private static final String STOLEN_BIKE_AGAIN =
+            "Black bicycle stolen from the rack outside the central library this afternoon";
+    private static final String LIBRARY = "51.5074, -0.1278";
+    private static final LocalDateTime FILED = LocalDateTime.of(2024, 3, 9, 10, 0);
+
+    private DuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateIndex(Duration.ofHours(24), 0.6);
+        index.add(1L, 1L, FILED, DuplicateIndex.fingerprint(STOLEN_BIKE, LIBRARY));
+    }
+
+    @Test
+    void findsNearDuplicateInTheSameCell() {
+        Optional<Match> match = index.findBestMatch(
+                DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, "51.5079, -0.1275"), FILED.plusHours(2));
+
+        assertTrue(match.isPresent());
+        assertEquals(1L, match.get().rootId());
+        assertEquals(1L, match.get().matchedId());
+        assertTrue(match.get().similarity() >= 0.6);
+    }
+
+    @Test
+    void findsNearDuplicateInANeighbouringCell() {
+        Fingerprint fingerprint = DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, "51.5101, -0.1278");
+
+        assertEquals(9, fingerprint.searchCells().size());
+        assertTrue(index.findBestMatch(fingerprint, FILED.plusHours(2)).isPresent());
+    }
+
+    @Test
+    void ignoresDistantLocations() {
+        assertFalse(index.findBestMatch(
+                DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, "48.8566, 2.3522"), FILED.plusHours(2)).isPresent());
+    }
+
+    @Test
+    void ignoresComplaintsOutsideTheWindow() {
+        Fingerprint fingerprint = DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, LIBRARY);
+
+        assertFalse(index.findBestMatch(fingerprint, FILED.plusHours(30)).isPresent());
+        assertFalse(index.findBestMatch(fingerprint, FILED.plusDays(3)).isPresent());
+    }
+
+    @Test
+    void ignoresDissimilarDescriptions() {
+        assertFalse(index.findBestMatch(DuplicateIndex.fingerprint(
+                "Loud party with music until three am at the neighbouring apartment", LIBRARY),
+                FILED.plusHours(1)).isPresent());
+    }
+
+    @Test
+    void textLocationsMatchOnTheirNormalisedForm() {
+        DuplicateIndex textIndex = new DuplicateIndex(Duration.ofHours(24), 0.6);
+        textIndex.add(1L, 1L, FILED, DuplicateIndex.fingerprint(STOLEN_BIKE, "12 High Street"));
+
+        Fingerprint sameStreet = DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, "12, HIGH street");
+        Fingerprint otherStreet = DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, "14 High Street");
+
+        assertEquals(List.of("t:12 high street"), sameStreet.searchCells());
+        assertTrue(textIndex.findBestMatch(sameStreet, FILED.plusHours(1)).isPresent());
+        assertFalse(textIndex.findBestMatch(otherStreet, FILED.plusHours(1)).isPresent());
+    }
+
+    @Test
+    void matchReportsTheRootOfTheGroup() {
+        index.add(2L, 1L, FILED.plusHours(1), DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, LIBRARY));
+
+        Match match = index.findBestMatch(DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, LIBRARY), FILED.plusHours(2))
+                .orElseThrow();
+
+        assertEquals(2L, match.matchedId());
+        assertEquals(1L, match.rootId());
+        assertEquals(1.0, match.similarity());
+    }
+
+    @Test
+    void blankDescriptionsAreNeitherIndexedNorMatched() {
+        Fingerprint blank = DuplicateIndex.fingerprint("   ", LIBRARY);
+
+        index.add(3L, 3L, FILED, blank);
+
+        assertEquals(1, index.size());
+        assertFalse(index.findBestMatch(blank, FILED).isPresent());
+    }
+
+    @Test
+    void removedComplaintsNoLongerMatch() {
+        index.remove(1L);
+
+        assertEquals(0, index.size());
+        assertFalse(index.findBestMatch(
+                DuplicateIndex.fingerprint(STOLEN_BIKE_AGAIN, LIBRARY), FILED.plusHours(1)).isPresent());
+    }
+
+    @Test
+    void evictsWholeOldWindows() {
+        index.add(2L, 2L, FILED.plusDays(3), DuplicateIndex.fingerprint(STOLEN_BIKE, LIBRARY));
+
+        assertEquals(0, index.evictOlderThan(FILED.plusHours(1)));
+        assertEquals(1, index.evictOlderThan(FILED.plusDays(3)));
+        assertEquals(1, index.size());
+    }
+}
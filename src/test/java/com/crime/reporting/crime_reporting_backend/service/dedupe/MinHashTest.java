@@ -0,0 +1,98 @@
+package com.crime.reporting.crime_reporting_backend.service.dedupe;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashTest {
+
+    private static final String STOLEN_BIKE =
+            "Black bicycle stolen from the rack outside the central library this morning";
+    private static final String STOLEN_BIKE_AGAIN =
+            "black bicycle STOLEN from the rack outside the central library, this afternoon!";
+    private static final String NOISE = "Loud party with music until three am at the neighbouring apartment";
+
+    @Test
+    void shinglesAreSortedAndDistinct() {
+        int[] shingles = MinHash.shingles("abcabcabcabc");
+
+        int[] sorted = Arrays.stream(shingles).sorted().distinct().toArray();
+        assertArrayEquals(sorted, shingles);
+        assertEquals(3, shingles.length);
+    }
+
+    @Test
+    void blankTextHasNoShinglesAndAZeroSignature() {
+        assertEquals(0, MinHash.shingles(null).length);
+        assertEquals(0, MinHash.shingles("  ...  ").length);
+        assertArrayEquals(new int[MinHash.SIGNATURE_LENGTH], MinHash.signature(new int[0]));
+    }
+
+    @Test
+    void shortTextIsASingleShingle() {
+        assertEquals(1, MinHash.shingles("Fire").length);
+    }
+
+    @Test
+    void normalizationIgnoresCaseAndPunctuation() {
+        assertEquals("a b 12 c", MinHash.normalize("  A, b -- 12 C! "));
+        assertArrayEquals(MinHash.shingles("Car broken into"), MinHash.shingles("car -- BROKEN into."));
+    }
+
+    @Test
+    void jaccardIsExact() {
+        assertEquals(1.0, MinHash.jaccard(new int[] {1, 2, 3}, new int[] {1, 2, 3}));
+        assertEquals(0.5, MinHash.jaccard(new int[] {1, 2, 3}, new int[] {2, 3, 4}));
+        assertEquals(0.0, MinHash.jaccard(new int[] {1, 2}, new int[] {3, 4}));
+        assertEquals(0.0, MinHash.jaccard(new int[0], new int[] {1}));
+    }
+
+    @Test
+    void nearDuplicatesShareABand() {
+        int[] first = MinHash.signature(MinHash.shingles(STOLEN_BIKE));
+        int[] second = MinHash.signature(MinHash.shingles(STOLEN_BIKE_AGAIN));
+
+        assertTrue(MinHash.jaccard(MinHash.shingles(STOLEN_BIKE), MinHash.shingles(STOLEN_BIKE_AGAIN)) > 0.7);
+        assertTrue(sharedBands(first, second) > 0);
+    }
+
+    @Test
+    void unrelatedTextsShareNoBand() {
+        int[] first = MinHash.signature(MinHash.shingles(STOLEN_BIKE));
+        int[] second = MinHash.signature(MinHash.shingles(NOISE));
+
+        assertTrue(MinHash.jaccard(MinHash.shingles(STOLEN_BIKE), MinHash.shingles(NOISE)) < 0.1);
+        assertEquals(0, sharedBands(first, second));
+    }
+
+    @Test
+    void signatureAgreementTracksJaccard() {
+        int[] a = MinHash.shingles(STOLEN_BIKE);
+        int[] b = MinHash.shingles(STOLEN_BIKE_AGAIN);
+        int[] first = MinHash.signature(a);
+        int[] second = MinHash.signature(b);
+
+        int agreeing = 0;
+        for (int i = 0; i < MinHash.SIGNATURE_LENGTH; i++) {
+            if (first[i] == second[i]) {
+                agreeing++;
+            }
+        }
+        double estimate = (double) agreeing / MinHash.SIGNATURE_LENGTH;
+        assertEquals(MinHash.jaccard(a, b), estimate, 0.15);
+    }
+
+    private static int sharedBands(int[] first, int[] second) {
+        int shared = 0;
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            if (MinHash.bandKey(first, band) == MinHash.bandKey(second, band)) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+}
@@ -0,0 +1,218 @@
+package com.crime.reporting.crime_reporting_backend.service.impl;
+
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintDTO;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintFilter;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintRequest;
+import com.crime.reporting.crime_reporting_backend.dto.ComplaintSyncDTO;
+import com.crime.reporting.crime_reporting_backend.entity.CaseFile;
+import com.crime.reporting.crime_reporting_backend.entity.CaseStatus;
+import com.crime.reporting.crime_reporting_backend.entity.ComplaintStatus;
+import com.crime.reporting.crime_reporting_backend.entity.CrimeType;
+import com.crime.reporting.crime_reporting_backend.entity.Department;
+import com.crime.reporting.crime_reporting_backend.entity.PoliceOfficer;
+import com.crime.reporting.crime_reporting_backend.entity.Role;
+import com.crime.reporting.crime_reporting_backend.entity.User;
+import com.crime.reporting.crime_reporting_backend.repository.CaseFileRepository;
+import com.crime.reporting.crime_reporting_backend.repository.ComplaintRepository;
+import com.crime.reporting.crime_reporting_backend.repository.DepartmentRepository;
+import com.crime.reporting.crime_reporting_backend.repository.PoliceOfficerRepository;
+import com.crime.reporting.crime_reporting_backend.repository.UserRepository;
+import com.crime.reporting.crime_reporting_backend.service.ComplaintService;
+import com.crime.reporting.crime_reporting_backend.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the complaint list, work queue and sync against N+1 queries: the number of
+ * statements Hibernate prepares for a page must not grow with the page size, and loading a
+ * complaint to change it must not pull in its case file. Statements run through
+ * JdbcTemplate (the sync log and the watermark, which is read with txid_current() on the
+ * primary) are not counted by Hibernate and are fixed per call.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ComplaintQueryCountTest {
+
+    private static final int COMPLAINTS = 30;
+    private static final int SMALL_PAGE = 5;
+    private static final int LARGE_PAGE = 25;
+    /** Page query, evidence lookup and a little headroom */
+    private static final long MAX_STATEMENTS_PER_PAGE = 4;
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PoliceOfficerRepository policeOfficerRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private CaseFileRepository caseFileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User citizen;
+    private User officerUser;
+    private Department department;
+    private PoliceOfficer officer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String suffix = UUID.randomUUID().toString();
+
+        citizen = userRepository.save(User.builder()
+                .firstName("Query").lastName("Citizen").email("citizen-" + suffix + "@example.com")
+                .password("x").role(Role.CITIZEN).build());
+        officerUser = userRepository.save(User.builder()
+                .firstName("Query").lastName("Officer").email("officer-" + suffix + "@example.com")
+                .password("x").role(Role.POLICE_OFFICER).build());
+        department = departmentRepository.save(Department.builder().name("Query count " + suffix).build());
+        officer = policeOfficerRepository.save(PoliceOfficer.builder()
+                .user(officerUser).department(department).badgeNumber("QC-" + suffix).rank("Officer").build());
+
+        for (int i = 0; i < COMPLAINTS; i++) {
+            assignNewComplaint(i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.deleteUser(citizen.getId());
+        policeOfficerRepository.delete(officer);
+        userRepository.delete(officerUser);
+        departmentRepository.delete(department);
+    }
+
+    @Test
+    void complaintsPageStatementsDoNotGrowWithPageSize() {
+        ComplaintFilter filter = ComplaintFilter.builder().assignedOfficerId(officer.getId()).build();
+
+        long small = statementsFor(() -> complaintService.getComplaintsPage(filter, null, SMALL_PAGE),
+                page -> assertEquals(SMALL_PAGE, page.getItems().size()));
+        long large = statementsFor(() -> complaintService.getComplaintsPage(filter, null, LARGE_PAGE),
+                page -> assertEquals(LARGE_PAGE, page.getItems().size()));
+
+        assertEquals(small, large);
+        assertTrue(large <= MAX_STATEMENTS_PER_PAGE, "complaints page prepared " + large + " statements");
+    }
+
+    @Test
+    void workQueueStatementsDoNotGrowWithPageSize() {
+        long small = statementsFor(() -> complaintService.getOfficerWorkQueue(officer.getId(), null, SMALL_PAGE),
+                page -> assertEquals(SMALL_PAGE, page.getItems().size()));
+        long large = statementsFor(() -> complaintService.getOfficerWorkQueue(officer.getId(), null, LARGE_PAGE),
+                page -> assertEquals(LARGE_PAGE, page.getItems().size()));
+
+        assertEquals(small, large);
+        assertTrue(large <= MAX_STATEMENTS_PER_PAGE, "work queue prepared " + large + " statements");
+    }
+
+    @Test
+    void syncStatementsDoNotGrowWithChangeCount() {
+        long smallSnapshot = statementsFor(() -> complaintService.syncOfficerComplaints(officer.getId(), null, SMALL_PAGE),
+                sync -> {
+                    assertEquals(SMALL_PAGE, sync.getComplaints().size());
+                    assertTrue(sync.isHasMore());
+                });
+        long largeSnapshot = statementsFor(() -> complaintService.syncOfficerComplaints(officer.getId(), null, LARGE_PAGE),
+                sync -> {
+                    assertEquals(LARGE_PAGE, sync.getComplaints().size());
+                    assertTrue(sync.isHasMore());
+                });
+        assertEquals(smallSnapshot, largeSnapshot);
+        assertTrue(largeSnapshot <= MAX_STATEMENTS_PER_PAGE, "snapshot page prepared " + largeSnapshot + " statements");
+
+        // Paging the snapshot through its tokens returns every complaint once
+        Set<Long> seen = new HashSet<>();
+        ComplaintSyncDTO snapshot = complaintService.syncOfficerComplaints(officer.getId(), null, SMALL_PAGE);
+        snapshot.getComplaints().forEach(complaint -> assertTrue(seen.add(complaint.getId())));
+        while (snapshot.isHasMore()) {
+            snapshot = complaintService.syncOfficerComplaints(officer.getId(), snapshot.getSyncToken(), SMALL_PAGE);
+            assertFalse(snapshot.isReset());
+            snapshot.getComplaints().forEach(complaint -> assertTrue(seen.add(complaint.getId())));
+        }
+        assertEquals(COMPLAINTS, seen.size());
+
+        for (int i = 0; i < COMPLAINTS; i++) {
+            assignNewComplaint(COMPLAINTS + i);
+        }
+        // A complaint can have several log entries, so a page holds at most that many complaints
+        String token = snapshot.getSyncToken();
+        long smallDelta = statementsFor(() -> complaintService.syncOfficerComplaints(officer.getId(), token, SMALL_PAGE),
+                sync -> assertFalse(sync.getComplaints().isEmpty()));
+        long largeDelta = statementsFor(() -> complaintService.syncOfficerComplaints(officer.getId(), token, LARGE_PAGE),
+                sync -> assertFalse(sync.getComplaints().isEmpty()));
+
+        assertEquals(smallDelta, largeDelta);
+        assertTrue(largeDelta <= MAX_STATEMENTS_PER_PAGE, "delta sync prepared " + largeDelta + " statements");
+    }
+
+    @Test
+    void mutationDoesNotLoadTheCaseFile() {
+        List<Long> ids = complaintRepository.findIdsByUserId(citizen.getId());
+        Long withCaseFile = ids.get(0);
+        Long withoutCaseFile = ids.get(1);
+        caseFileRepository.save(CaseFile.builder()
+                .complaint(complaintRepository.findById(withCaseFile).orElseThrow())
+                .assignedOfficer(officer)
+                .status(CaseStatus.OPEN)
+                .build());
+
+        long plain = statementsFor(() -> complaintService.updateComplaintStatus(withoutCaseFile, ComplaintStatus.INVESTIGATING),
+                complaint -> assertEquals(ComplaintStatus.INVESTIGATING.name(), complaint.getStatus()));
+        long withCase = statementsFor(() -> complaintService.updateComplaintStatus(withCaseFile, ComplaintStatus.INVESTIGATING),
+                complaint -> assertEquals(ComplaintStatus.INVESTIGATING.name(), complaint.getStatus()));
+
+        assertEquals(plain, withCase);
+        assertEquals(0, statistics.getEntityStatistics(CaseFile.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(CaseFile.class.getName()).getFetchCount());
+    }
+
+    private void assignNewComplaint(int index) {
+        ComplaintDTO complaint = complaintService.createComplaint(ComplaintRequest.builder()
+                .userId(citizen.getId())
+                .crimeType(CrimeType.THEFT)
+                .description("Query count complaint " + index)
+                .location("Station " + index)
+                .build());
+        complaintService.assignComplaintToOfficer(complaint.getId(), officer.getId());
+    }
+
+    private <T> long statementsFor(Supplier<T> call, Consumer<T> check) {
+        statistics.clear();
+        T result = call.get();
+        long statements = statistics.getPrepareStatementCount();
+        check.accept(result);
+        return statements;
+    }
+}
@@ -0,0 +1,49 @@
+package com.crime.reporting.crime_reporting_backend.service.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplaintCursorTest {
+
+    private static final LocalDateTime FILED = LocalDateTime.of(2024, 3, 9, 14, 5, 7, 123_456_000);
+
+    @Test
+    void roundTrips() {
+        ComplaintCursor cursor = new ComplaintCursor(FILED, 42L);
+
+        assertEquals(cursor, ComplaintCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = new ComplaintCursor(FILED, Long.MAX_VALUE).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode(encode("c1|yesterday|1")));
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode(encode("c1|" + FILED + "|x")));
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode(encode("c2|" + FILED + "|1")));
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode(""));
+    }
+
+    @Test
+    void rejectsOtherCursors() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ComplaintCursor.decode(new WorkQueueCursor(10, FILED, 1L).encode()));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,45 @@
+package com.crime.reporting.crime_reporting_backend.service.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchCursorTest {
+
+    @Test
+    void keepsTheExactFloatRank() {
+        SearchCursor cursor = new SearchCursor(0.0607927f, 9_000_000_001L);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertEquals(Float.floatToIntBits(cursor.rank()), Float.floatToIntBits(decoded.rank()));
+        assertEquals(cursor.id(), decoded.id());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode(encode("s1|high|1")));
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode(encode("s1|0.5")));
+    }
+
+    @Test
+    void rejectsOtherCursors() {
+        LocalDateTime filed = LocalDateTime.of(2024, 3, 9, 14, 5);
+
+        // The sync token shares the version prefix but not the layout
+        assertThrows(IllegalArgumentException.class,
+                () -> SearchCursor.decode(SyncToken.startingAt(1L, filed).encode()));
+        assertThrows(IllegalArgumentException.class,
+                () -> SearchCursor.decode(new ComplaintCursor(filed, 1L).encode()));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
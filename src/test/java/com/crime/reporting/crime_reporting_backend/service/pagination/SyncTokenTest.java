@@ -0,0 +1,74 @@
+package com.crime.reporting.crime_reporting_backend.service.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyncTokenTest {
+
+    private static final LocalDateTime ISSUED = LocalDateTime.of(2024, 3, 9, 14, 5, 7, 123_456_000);
+
+    @Test
+    void windowTokensRoundTrip() {
+        SyncToken open = SyncToken.startingAt(1_000L, ISSUED);
+        SyncToken fixed = open.windowAfter(1_250L, 77L);
+
+        assertEquals(open, SyncToken.decode(open.encode()));
+        assertEquals(fixed, SyncToken.decode(fixed.encode()));
+    }
+
+    @Test
+    void snapshotTokensRoundTrip() {
+        SyncToken token = SyncToken.snapshotAfter(1_000L, 42L, ISSUED);
+
+        SyncToken decoded = SyncToken.decode(token.encode());
+
+        assertEquals(token, decoded);
+        assertTrue(decoded.snapshot());
+    }
+
+    @Test
+    void windowIsOpenUntilFixed() {
+        SyncToken token = SyncToken.startingAt(500L, ISSUED);
+
+        assertTrue(token.isWindowOpen());
+        assertFalse(token.snapshot());
+        assertEquals(0L, token.afterId());
+        assertFalse(token.windowAfter(600L, 3L).isWindowOpen());
+    }
+
+    @Test
+    void fixingTheWindowKeepsItsStart() {
+        SyncToken fixed = SyncToken.startingAt(500L, ISSUED).windowAfter(600L, 3L);
+
+        assertEquals(500L, fixed.since());
+        assertEquals(ISSUED, fixed.issuedAt());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode("not a token!"));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode(encode("s1|1|2|3|" + ISSUED + "|4")));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode(encode("s1|1|2|3|later")));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode(encode("r1|1|x|" + ISSUED)));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode(encode("r1|1|2|3|" + ISSUED)));
+    }
+
+    @Test
+    void rejectsCursors() {
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode(new SearchCursor(0.5f, 1L).encode()));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode(new ComplaintCursor(ISSUED, 1L).encode()));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package com.crime.reporting.crime_reporting_backend.service.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkQueueCursorTest {
+
+    private static final LocalDateTime FILED = LocalDateTime.of(2024, 3, 9, 14, 5, 7);
+
+    @Test
+    void roundTrips() {
+        WorkQueueCursor cursor = new WorkQueueCursor(87, FILED, 7L);
+
+        assertEquals(cursor, WorkQueueCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void roundTripsNegativeAndExtremeScores() {
+        WorkQueueCursor negative = new WorkQueueCursor(-3, FILED, 1L);
+        WorkQueueCursor extreme = new WorkQueueCursor(Integer.MIN_VALUE, FILED, Long.MAX_VALUE);
+
+        assertEquals(negative, WorkQueueCursor.decode(negative.encode()));
+        assertEquals(extreme, WorkQueueCursor.decode(extreme.encode()));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> WorkQueueCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> WorkQueueCursor.decode(encode("q1|1|" + FILED + "|x")));
+        assertThrows(IllegalArgumentException.class, () -> WorkQueueCursor.decode(encode("q1|high|" + FILED + "|1")));
+        assertThrows(IllegalArgumentException.class, () -> WorkQueueCursor.decode(encode("q1|1|soon|1")));
+    }
+
+    @Test
+    void rejectsOtherCursors() {
+        assertThrows(IllegalArgumentException.class,
+                () -> WorkQueueCursor.decode(new ComplaintCursor(FILED, 1L).encode()));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Element;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnSpecTest {
+
+    private static final LocalDateTime FILED = LocalDateTime.of(2024, 3, 9, 14, 5, 7);
+
+    @Test
+    void formatsRowsWithItsFormatter() {
+        ColumnSpec<String> column = ColumnSpec.of("Upper", 3f, String::toUpperCase);
+
+        assertEquals("Upper", column.header());
+        assertEquals(3f, column.width());
+        assertEquals(Element.ALIGN_LEFT, column.alignment());
+        assertFalse(column.numeric());
+        assertEquals("THEFT", column.format("theft"));
+    }
+
+    @Test
+    void centeredColumnsAreCentered() {
+        assertEquals(Element.ALIGN_CENTER, ColumnSpec.<String>centered("Id", 1f, s -> s).alignment());
+        assertEquals(Element.ALIGN_CENTER, ColumnSpec.<String>centeredNumber("Count", 1f, s -> s).alignment());
+    }
+
+    @Test
+    void onlyNumberColumnsAreNumeric() {
+        assertTrue(ColumnSpec.<String>ofNumber("Id", 1f, s -> s).numeric());
+        assertTrue(ColumnSpec.<String>centeredNumber("Count", 1f, s -> s).numeric());
+        assertFalse(ColumnSpec.<String>centered("Badge", 1f, s -> s).numeric());
+    }
+
+    @Test
+    void nullCellsFormatAsEmptyText() {
+        ColumnSpec<String> column = ColumnSpec.of("Nothing", 1f, s -> null);
+
+        assertEquals("", column.format("anything"));
+    }
+
+    @Test
+    void formattersHandleMissingValues() {
+        assertEquals("", ReportFormatters.text(null));
+        assertEquals("", ReportFormatters.dateTime(null));
+        assertEquals("", ReportFormatters.timestamp(null));
+        assertEquals("", ReportFormatters.decimal(null));
+    }
+
+    @Test
+    void formattersFormatDates() {
+        assertEquals("2024-03-09 14:05", ReportFormatters.dateTime(FILED));
+        assertEquals("2024-03-09 14:05:07", ReportFormatters.timestamp(FILED));
+        assertEquals("2024-03-09 14:05:07", ReportFormatters.timestamp(Timestamp.valueOf(FILED)));
+        assertEquals("yesterday", ReportFormatters.timestamp("yesterday"));
+    }
+
+    @Test
+    void decimalsHaveTwoPlaces() {
+        assertEquals(String.format("%.2f", 2.5), ReportFormatters.decimal(2.5));
+        assertEquals(String.format("%.2f", 3.0), ReportFormatters.decimal(3L));
+        assertEquals("n/a", ReportFormatters.decimal("n/a"));
+    }
+}
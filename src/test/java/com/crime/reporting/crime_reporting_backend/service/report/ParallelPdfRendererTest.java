@@ -0,0 +1,94 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelPdfRendererTest {
+
+    private record Line(int id, String text) {
+    }
+
+    private static final ReportTemplate<Line> TEMPLATE = ReportTemplate.<Line>builder("Lines Report")
+            .column(ColumnSpec.centeredNumber("ID", 1f, line -> String.valueOf(line.id())))
+            .column(ColumnSpec.of("Text", 5f, Line::text))
+            .flushEvery(50)
+            .build();
+
+    private static final int ROWS = 1_000;
+
+    private final List<ParallelPdfRenderer> renderers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        renderers.forEach(ParallelPdfRenderer::shutdown);
+    }
+
+    @Test
+    void parallelRenderingProducesTheSinglePassPages() throws Exception {
+        // Chunks of 37 rows do not line up with pages or with the table's flushes
+        byte[] parallel = render(renderer(3, 37, 100));
+        byte[] singlePass = render(renderer(1, ROWS, ROWS * 2));
+
+        PdfReader parallelReader = new PdfReader(parallel);
+        PdfReader singlePassReader = new PdfReader(singlePass);
+        try {
+            assertTrue(singlePassReader.getNumberOfPages() > 1, "the report should span several pages");
+            assertEquals(singlePassReader.getNumberOfPages(), parallelReader.getNumberOfPages());
+            for (int page = 1; page <= singlePassReader.getNumberOfPages(); page++) {
+                assertArrayEquals(singlePassReader.getPageContent(page), parallelReader.getPageContent(page),
+                        "page " + page + " differs");
+            }
+        } finally {
+            parallelReader.close();
+            singlePassReader.close();
+        }
+    }
+
+    @Test
+    void chunkFailuresAreReported() {
+        ReportTemplate<Line> failing = ReportTemplate.<Line>builder("Failing Report")
+                .column(ColumnSpec.of("Text", 1f, line -> {
+                    if (line.id() == ROWS - 1) {
+                        throw new IllegalArgumentException("bad row");
+                    }
+                    return line.text();
+                }))
+                .build();
+
+        ParallelPdfRenderer renderer = renderer(2, 37, 100);
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> renderer.render(failing, lines().iterator(), DocumentSection.EMPTY, DocumentSection.EMPTY));
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+
+    private ParallelPdfRenderer renderer(int threads, int chunkSize, int threshold) {
+        ParallelPdfRenderer renderer = new ParallelPdfRenderer(threads, chunkSize, threshold);
+        renderers.add(renderer);
+        return renderer;
+    }
+
+    private static byte[] render(ParallelPdfRenderer renderer) throws Exception {
+        return renderer.render(TEMPLATE, lines().iterator(),
+                document -> document.add(new Paragraph("Before the table")),
+                document -> document.add(new Paragraph("After the table")));
+    }
+
+    private static List<Line> lines() {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> new Line(i, i % 7 == 0
+                        ? "Line " + i + " with a longer text that wraps onto a second line of the cell"
+                        : "Line " + i))
+                .toList();
+    }
+}
@@ -0,0 +1,138 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.awt.Color;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of the complaints table, rendered the way the reports did before the
+ * template layer (fonts looked up and a styled cell built per value, the whole table
+ * added at the end) and through a {@link ReportTemplate} sink. Run {@link #main} on the
+ * test classpath; an operation is one row, so the GC profiler's {@code gc.alloc.rate.norm}
+ * is the allocation per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ReportRenderingBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportRenderingBenchmark {
+
+    static final int ROWS = 2_000;
+
+    private static final String[] HEADERS = {"ID", "Date Filed", "Crime Type", "Description", "Status", "Location"};
+    private static final float[] WIDTHS = {1f, 2.5f, 2f, 5f, 2f, 3f};
+
+    private record Row(long id, LocalDateTime dateFiled, String crimeType, String description, String status,
+                       String location) {
+    }
+
+    private static final ReportTemplate<Row> TEMPLATE = ReportTemplate.<Row>builder("Complaints Report")
+            .landscape()
+            .column(ColumnSpec.centeredNumber(HEADERS[0], WIDTHS[0], row -> ReportFormatters.text(row.id())))
+            .column(ColumnSpec.of(HEADERS[1], WIDTHS[1], row -> ReportFormatters.dateTime(row.dateFiled())))
+            .column(ColumnSpec.of(HEADERS[2], WIDTHS[2], Row::crimeType))
+            .column(ColumnSpec.of(HEADERS[3], WIDTHS[3], Row::description))
+            .column(ColumnSpec.of(HEADERS[4], WIDTHS[4], Row::status))
+            .column(ColumnSpec.of(HEADERS[5], WIDTHS[5], Row::location))
+            .build();
+
+    private List<Row> rows;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(ROWS);
+        LocalDateTime filed = LocalDateTime.of(2024, 1, 1, 8, 0);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Row(i, filed.plusMinutes(i), "THEFT",
+                    "Bicycle taken from the rack outside building " + i, "PENDING", "Main Street " + i));
+        }
+    }
+
+    @Benchmark
+    public long perRowStyling() throws Exception {
+        Document document = new Document(PageSize.A4.rotate());
+        PdfWriter.getInstance(document, OutputStream.nullOutputStream());
+        document.open();
+        PdfPTable table = new PdfPTable(HEADERS.length);
+        table.setWidthPercentage(100f);
+        table.setWidths(WIDTHS);
+
+        Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, Color.WHITE);
+        for (String header : HEADERS) {
+            PdfPCell cell = new PdfPCell(new Phrase(header, headerFont));
+            cell.setBackgroundColor(new Color(66, 139, 202));
+            cell.setPadding(5);
+            cell.setHorizontalAlignment(Element.ALIGN_CENTER);
+            cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+            table.addCell(cell);
+        }
+        for (Row row : rows) {
+            Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
+            String[] values = {String.valueOf(row.id()), ReportFormatters.dateTime(row.dateFiled()), row.crimeType(),
+                    row.description(), row.status(), row.location()};
+            for (String value : values) {
+                PdfPCell cell = new PdfPCell(new Phrase(value != null ? value : "", cellFont));
+                cell.setPadding(5);
+                cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+                table.addCell(cell);
+            }
+        }
+        document.add(table);
+        document.close();
+        return table.size();
+    }
+
+    @Benchmark
+    public long templateSink() throws Exception {
+        Document document = TEMPLATE.newDocument();
+        PdfWriter.getInstance(document, OutputStream.nullOutputStream());
+        document.open();
+        long rowCount;
+        try (RowSink<Row> sink = TEMPLATE.openTable(document)) {
+            for (Row row : rows) {
+                sink.accept(row);
+            }
+            rowCount = sink.getRowCount();
+        }
+        document.close();
+        return rowCount;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReportRenderingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
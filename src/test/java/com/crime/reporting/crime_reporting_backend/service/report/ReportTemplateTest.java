@@ -0,0 +1,143 @@
+package com.crime.reporting.crime_reporting_backend.service.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportTemplateTest {
+
+    private record Line(long id, String name, LocalDateTime filed, String amount, String code) {
+    }
+
+    private static final ReportTemplate<Line> TEMPLATE = ReportTemplate.<Line>builder("Lines Report")
+            .column(ColumnSpec.centeredNumber("ID", 1f, line -> ReportFormatters.text(line.id())))
+            .column(ColumnSpec.of("Name", 4f, Line::name))
+            .column(ColumnSpec.of("Filed", 3f, line -> ReportFormatters.dateTime(line.filed())))
+            .column(ColumnSpec.ofNumber("Amount", 2f, Line::amount))
+            .column(ColumnSpec.of("Code", 2f, Line::code))
+            .flushEvery(50)
+            .build();
+
+    private static final LocalDateTime FILED = LocalDateTime.of(2024, 3, 9, 14, 5);
+
+    @Test
+    void templateNeedsColumns() {
+        assertThrows(IllegalStateException.class, () -> ReportTemplate.<Line>builder("Empty").build());
+        assertThrows(IllegalArgumentException.class, () -> ReportTemplate.<Line>builder("Empty").flushEvery(0));
+    }
+
+    @Test
+    void pdfTableStreamsEveryRow() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = TEMPLATE.newDocument();
+        PdfWriter.getInstance(document, out);
+        document.open();
+        TEMPLATE.writeHeader(document, FILED.minusDays(7), FILED);
+
+        long rows;
+        try (RowSink<Line> sink = TEMPLATE.openTable(document)) {
+            for (int i = 0; i < 500; i++) {
+                sink.accept(line(i));
+            }
+            rows = sink.getRowCount();
+        }
+        document.close();
+
+        assertEquals(500, rows);
+        PdfReader reader = new PdfReader(out.toByteArray());
+        try {
+            assertTrue(reader.getNumberOfPages() > 1, "500 rows should span several pages");
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    void closingATableTwiceWritesItOnce() throws Exception {
+        Document document = TEMPLATE.newDocument();
+        PdfWriter.getInstance(document, new ByteArrayOutputStream());
+        document.open();
+
+        RowSink<Line> sink = TEMPLATE.openTable(document);
+        sink.accept(line(1));
+        sink.close();
+        sink.close();
+        document.close();
+
+        assertEquals(1, sink.getRowCount());
+    }
+
+    @Test
+    void sheetHasHeaderRowAndNumericCells() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows;
+        // More rows than the row window, so some are spilled to disk before the write
+        try (SXSSFWorkbook workbook = ReportTemplate.newWorkbook()) {
+            try (RowSink<Line> sink = TEMPLATE.openSheet(workbook)) {
+                for (int i = 0; i < ReportTemplate.SPREADSHEET_ROW_WINDOW * 3; i++) {
+                    sink.accept(line(i));
+                }
+                rows = sink.getRowCount();
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+
+        assertEquals(ReportTemplate.SPREADSHEET_ROW_WINDOW * 3, rows);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Lines Report");
+            assertEquals(rows, sheet.getLastRowNum());
+
+            Row header = sheet.getRow(0);
+            assertEquals("ID", header.getCell(0).getStringCellValue());
+            assertEquals("Amount", header.getCell(3).getStringCellValue());
+
+            Row first = sheet.getRow(1);
+            assertEquals(CellType.NUMERIC, first.getCell(0).getCellType());
+            assertEquals(0.0, first.getCell(0).getNumericCellValue());
+            assertEquals(CellType.STRING, first.getCell(1).getCellType());
+            assertEquals("2024-03-09 14:05", first.getCell(2).getStringCellValue());
+            assertEquals(-12.5, first.getCell(3).getNumericCellValue());
+            // Digits in a text column stay text, with their leading zeros
+            assertEquals(CellType.STRING, first.getCell(4).getCellType());
+            assertEquals("000", first.getCell(4).getStringCellValue());
+
+            // Text that is not a number stays text even in a numeric column
+            Row second = sheet.getRow(2);
+            assertEquals(CellType.STRING, second.getCell(3).getCellType());
+            assertEquals("N/A", second.getCell(3).getStringCellValue());
+        }
+    }
+
+    @Test
+    void longTitlesAreCutToTheSheetNameLimit() throws Exception {
+        ReportTemplate<Line> template = ReportTemplate.<Line>builder("A report title well over thirty-one characters")
+                .column(ColumnSpec.of("Name", 1f, Line::name))
+                .build();
+
+        try (SXSSFWorkbook workbook = ReportTemplate.newWorkbook()) {
+            template.openSheet(workbook).close();
+            assertEquals(31, workbook.getSheetAt(0).getSheetName().length());
+            workbook.dispose();
+        }
+    }
+
+    private static Line line(int i) {
+        String amount = i % 2 == 0 ? "-12.5" : "N/A";
+        return new Line(i, "Line " + i, FILED, amount, String.format("%03d", i % 1000));
+    }
+}
@@ -0,0 +1,102 @@
+package com.crime.reporting.crime_reporting_backend.service.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+    /** Three standard errors at the default precision (1.04 / sqrt(2048)) */
+    private static final double TOLERANCE = 0.07;
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void smallCardinalitiesAreNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long i = 1; i <= 20; i++) {
+            sketch.add(i);
+            sketch.add(i);
+        }
+
+        // Linear counting; off by one at most if two values share a register
+        assertTrue(Math.abs(sketch.estimate() - 20) <= 1, "estimate " + sketch.estimate());
+    }
+
+    @Test
+    void largeCardinalityIsWithinStandardError() {
+        HyperLogLog sketch = sketchOf(0, 100_000);
+
+        assertWithinTolerance(100_000, sketch.estimate());
+    }
+
+    @Test
+    void mergeEstimatesTheUnion() {
+        HyperLogLog first = sketchOf(0, 60_000);
+        HyperLogLog second = sketchOf(40_000, 100_000);
+
+        first.merge(second);
+
+        assertWithinTolerance(100_000, first.estimate());
+    }
+
+    @Test
+    void mergeRejectsDifferentPrecision() {
+        HyperLogLog sketch = new HyperLogLog(10);
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLog(12)));
+    }
+
+    @Test
+    void precisionIsBounded() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(17));
+    }
+
+    @Test
+    void sparseSketchRoundTrips() {
+        HyperLogLog sketch = sketchOf(0, 50);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertEquals(1, bytes[0], "few registers set should serialise sparse");
+        assertTrue(bytes.length < (1 << HyperLogLog.DEFAULT_PRECISION));
+        assertRoundTrips(sketch);
+    }
+
+    @Test
+    void denseSketchRoundTrips() {
+        HyperLogLog sketch = sketchOf(0, 100_000);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertEquals(0, bytes[0], "a full sketch should serialise dense");
+        assertEquals(2 + (1 << HyperLogLog.DEFAULT_PRECISION), bytes.length);
+        assertRoundTrips(sketch);
+    }
+
+    private static HyperLogLog sketchOf(long fromInclusive, long toExclusive) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long i = fromInclusive; i < toExclusive; i++) {
+            sketch.add(i);
+        }
+        return sketch;
+    }
+
+    private static void assertRoundTrips(HyperLogLog sketch) {
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+        assertEquals(sketch.estimate(), restored.estimate());
+        assertArrayEquals(sketch.toBytes(), restored.toBytes());
+    }
+
+    private static void assertWithinTolerance(long expected, long estimate) {
+        double error = Math.abs(estimate - expected) / (double) expected;
+        assertTrue(error <= TOLERANCE, "estimate " + estimate + " is " + error + " off " + expected);
+    }
+}